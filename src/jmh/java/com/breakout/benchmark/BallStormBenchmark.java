@@ -0,0 +1,92 @@
+package com.breakout.benchmark;
+
+import com.breakout.config.GameConfig;
+import com.breakout.headless.AutoPaddle;
+import com.breakout.model.BallStore;
+import com.breakout.model.GameModel;
+import com.breakout.model.GameRandom;
+import com.breakout.model.GameState;
+import com.breakout.model.PlayerProfile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ball Storm Benchmark - Cost of ball storm ticks
+ *
+ * Scenarios:
+ * - tick: a full GameModel tick with the storm on a designed level
+ *   (storm topped up from the lower half of the screen, paddle driven by
+ *   AutoPaddle, level restarted when it ends)
+ * - move: BallStore movement and wall reflection only
+ *
+ * A tick must stay under 8.3 ms (1/120 s) to run in real time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BallStormBenchmark {
+
+    @Param({"1000", "10000"})
+    public int balls;
+
+    private GameModel model;
+    private AutoPaddle autoPaddle;
+    private GameRandom random;
+    private BallStore store;
+    private double step;
+
+    @Setup
+    public void setup() {
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        model = new GameModel(profile);
+        model.setSeed(42);
+        model.startLevel(5);
+        autoPaddle = new AutoPaddle();
+        random = new GameRandom(7);
+        step = GameConfig.getInstance().getTickDuration();
+
+        store = new BallStore(balls);
+        GameConfig config = GameConfig.getInstance();
+        for (int i = 0; i < balls; i++) {
+            store.add(random.nextDouble() * config.getWindowWidth(), random.nextDouble() * config.getWindowHeight(),
+                    random.nextDouble() * 10 - 5, random.nextDouble() * 10 - 5, config.getBallRadius());
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        if (model.getState() != GameState.PLAYING) model.startLevel(5);
+        GameConfig config = GameConfig.getInstance();
+        double speed = config.getBallSpeed();
+        while (model.getStormBalls().size() < balls) {
+            double angle = Math.toRadians(-150 + random.nextDouble() * 120);
+            model.addStormBall(20 + random.nextDouble() * (config.getWindowWidth() - 40),
+                    config.getWindowHeight() * (0.5 + 0.3 * random.nextDouble()),
+                    speed * Math.cos(angle), speed * Math.sin(angle));
+        }
+        autoPaddle.control(model);
+        model.update(step);
+        model.getEvents().clear();
+    }
+
+    @Benchmark
+    public BallStore move() {
+        store.move(step * GameConfig.getInstance().getBaseFrameRate());
+        store.reflectWalls(GameConfig.getInstance().getWindowWidth());
+        return store;
+    }
+}
@@ -0,0 +1,160 @@
+package com.breakout.benchmark;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.BrickStore;
+import com.breakout.model.GameModel;
+import com.breakout.model.GameRandom;
+import com.breakout.model.GameState;
+import com.breakout.model.PlayerProfile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simulation Benchmark - Cost of one GameModel tick
+ *
+ * Scenarios:
+ * - balls:  balls in flight (extra balls, topped up when lost)
+ * - bricks: bricks on the board, laid out on a lattice in the top half
+ * - hazard: NONE, POWER_UP_STORM (every brick drops a power-up) or
+ *           FALLING_BRICKS (up to 8 falling bricks at all times)
+ *
+ * The board is rebuilt when half of its bricks are gone or the game ended,
+ * so every measurement sees roughly the same load.
+ *
+ * Reports ns/tick, collision tests and ball sub-steps per tick (sub-steps
+ * above the ball count show the cost of fast balls); add -prof gc for the
+ * allocation rate:
+ *
+ *   mvn -Pbenchmark package
+ *   java -jar target/benchmarks.jar -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+
+    public enum Hazard { NONE, POWER_UP_STORM, FALLING_BRICKS }
+
+    private static final int MAX_FALLING_BRICKS = 8;
+
+    @Param({"1", "10", "100", "1000"})
+    public int balls;
+
+    @Param({"50", "500", "10000"})
+    public int bricks;
+
+    @Param({"NONE", "POWER_UP_STORM", "FALLING_BRICKS"})
+    public Hazard hazard;
+
+    private GameModel model;
+    private GameRandom random;
+    private double step;
+
+    /**
+     * Collision tests and sub-steps per tick, reported next to the timing
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        private long ticks;
+        private long collisionTests;
+        private long subSteps;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ticks = 0;
+            collisionTests = 0;
+            subSteps = 0;
+        }
+
+        public double collisionTestsPerTick() {
+            return ticks == 0 ? 0 : (double) collisionTests / ticks;
+        }
+
+        public double subStepsPerTick() {
+            return ticks == 0 ? 0 : (double) subSteps / ticks;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        model = new GameModel(profile, balls + 1);
+        model.setSeed(42);
+        random = new GameRandom(7);
+        step = GameConfig.getInstance().getTickDuration();
+        buildBoard();
+    }
+
+    @Benchmark
+    public void tick(Counters counters) {
+        if (model.getState() != GameState.PLAYING
+                || model.getBrickStore().getBreakableCount() < bricks / 2) {
+            buildBoard();
+        }
+        topUpBalls();
+        if (hazard == Hazard.FALLING_BRICKS && model.getFallingBricks().size() < MAX_FALLING_BRICKS) {
+            model.spawnFallingBrick();
+        }
+
+        long tests = model.getCollisionTests();
+        model.update(step);
+        model.getEvents().clear();
+
+        counters.ticks++;
+        counters.collisionTests += model.getCollisionTests() - tests;
+        counters.subSteps += model.getTickSubSteps();
+    }
+
+    /**
+     * Start a level and replace its board with the scenario's bricks
+     */
+    private void buildBoard() {
+        GameConfig config = GameConfig.getInstance();
+        model.startLevel(1);
+
+        // Fill the top half of the screen, keeping cells roughly square
+        int cols = (int) Math.ceil(Math.sqrt(bricks * 2.6));
+        int rows = (bricks + cols - 1) / cols;
+        int cellWidth = Math.max(2, (config.getWindowWidth() - 20) / cols);
+        int cellHeight = Math.max(2, (config.getWindowHeight() / 2 - 40) / rows);
+        model.layoutBricks(cols, rows, cellWidth - 1, cellHeight - 1, 1, 10, 40, bricks);
+
+        if (hazard == Hazard.POWER_UP_STORM) {
+            BrickStore store = model.getBrickStore();
+            for (int i = 0; i < store.size(); i++) {
+                store.setFlag(i, BrickStore.FLAG_POWER_UP, true);
+            }
+        }
+    }
+
+    /**
+     * Keep the requested number of balls in flight (the main ball stays on the paddle)
+     */
+    private void topUpBalls() {
+        GameConfig config = GameConfig.getInstance();
+        double speed = config.getBallSpeed();
+        while (model.getBalls().size() < balls + 1) {
+            double x = 20 + random.nextDouble() * (config.getWindowWidth() - 40);
+            double y = config.getWindowHeight() * (0.6 + 0.2 * random.nextDouble());
+            double angle = Math.toRadians(-150 + random.nextDouble() * 120);
+            if (!model.addBall(x, y, speed * Math.cos(angle), speed * Math.sin(angle))) break;
+        }
+    }
+}
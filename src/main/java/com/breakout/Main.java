@@ -3,8 +3,12 @@ package com.breakout;
 import com.breakout.audio.AudioManager;
 import com.breakout.config.GameConfig;
 import com.breakout.controller.GameController;
+import com.breakout.controller.SimulationThread;
 import com.breakout.database.DatabaseManager;
+import com.breakout.database.LeaderboardService;
+import com.breakout.model.FrameBuffer;
 import com.breakout.model.GameModel;
+import com.breakout.model.PlayerProfile;
 import com.breakout.view.GameView;
 import javafx.animation.AnimationTimer;
 import javafx.application.Application;
@@ -16,19 +20,35 @@ public class Main extends Application {
     private GameView view;
     private GameController controller;
     private AnimationTimer gameLoop;
+
+    // Simulation-thread mode: the view draws a replica model fed from frames
+    private SimulationThread simulation;
+    private FrameBuffer frames;
     private long lastUpdate;
+    private double accumulator;
 
     @Override
     public void start(Stage primaryStage) {
         GameConfig config = GameConfig.getInstance();
 
-        // Initialize database
+        // Initialize database and start fetching the leaderboard in the background
         DatabaseManager.getInstance();
+        LeaderboardService.getInstance().refresh();
 
         // Initialize MVC components
-        model = new GameModel();
+        if (config.isSimulationThread() && config.isFixedTimestep()) {
+            GameModel simulated = new GameModel(new PlayerProfile());
+            controller = new GameController(simulated);
+            frames = new FrameBuffer();
+            simulation = new SimulationThread(simulated, controller, frames);
+            model = new GameModel(PlayerProfile.offline());
+            model.getEvents().subscribe(AudioManager.getInstance());   // Events arrive via pollEvents
+        } else {
+            model = new GameModel(new PlayerProfile());
+            model.getEvents().subscribe(AudioManager.getInstance());
+            controller = new GameController(model);
+        }
         view = new GameView(model, config.getWindowWidth(), config.getWindowHeight());
-        controller = new GameController(model);
 
         // Setup scene with keyboard input
         Scene scene = new Scene(view, config.getWindowWidth(), config.getWindowHeight());
@@ -52,36 +72,98 @@ public class Main extends Application {
 
     private void setupInputHandlers(Scene scene) {
         scene.setOnKeyPressed(event -> {
-            controller.handleKeyPressed(event.getCode());
+            if (simulation != null) {
+                simulation.keyPressed(event.getCode());
+            } else {
+                controller.handleKeyPressed(event.getCode());
+            }
             event.consume();
         });
 
         scene.setOnKeyReleased(event -> {
-            controller.handleKeyReleased(event.getCode());
+            if (simulation != null) {
+                simulation.keyReleased(event.getCode());
+            } else {
+                controller.handleKeyReleased(event.getCode());
+            }
             event.consume();
         });
 
         scene.setOnKeyTyped(event -> {
-            controller.handleKeyTyped(event);
+            if (simulation != null) {
+                simulation.keyTyped(event);
+            } else {
+                controller.handleKeyTyped(event);
+            }
             event.consume();
         });
 
         view.getCanvas().setFocusTraversable(true);
     }
 
+    /**
+     * Start the game loop
+     *
+     * In fixed-timestep mode the model ticks at GameConfig.getSimulationRate()
+     * regardless of how often the AnimationTimer fires. Leftover time is kept
+     * in an accumulator and the view interpolates between the last two ticks.
+     *
+     * In simulation-thread mode the timer only draws: it applies the newest
+     * frame from the simulation thread to the view's replica model,
+     * dispatches the simulation's events from the replica (so audio runs on
+     * the JavaFX thread) and interpolates by the time elapsed since that
+     * frame's last tick.
+     */
     private void startGameLoop() {
+        GameConfig config = GameConfig.getInstance();
         lastUpdate = System.nanoTime();
+        accumulator = 0;
+
+        if (simulation != null) {
+            double stepNanos = config.getTickDuration() * 1e9;
+            gameLoop = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    double deltaTime = Math.min((now - lastUpdate) / 1_000_000_000.0, config.getMaxFrameTime());
+                    lastUpdate = now;
+
+                    if (frames.poll()) {
+                        frames.getFront().applyTo(model);
+                    }
+                    simulation.pollEvents(model.getEvents());   // After applyTo, which discards events
+                    model.getEvents().drain();
+                    double sinceTick = System.nanoTime() - frames.getFront().getTickTime();
+                    view.render(Math.max(0, Math.min(1, sinceTick / stepNanos)), deltaTime);
+                }
+            };
+            simulation.start();
+            gameLoop.start();
+            return;
+        }
 
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
                 double deltaTime = (now - lastUpdate) / 1_000_000_000.0;
                 lastUpdate = now;
-                deltaTime = Math.min(deltaTime, 0.1);
-
-                controller.update();
-                model.update();
-                view.render();
+                deltaTime = Math.min(deltaTime, config.getMaxFrameTime());
+
+                if (config.isFixedTimestep()) {
+                    double step = config.getTickDuration();
+                    accumulator += deltaTime;
+                    while (accumulator >= step) {
+                        controller.update();
+                        model.update(step);
+                        accumulator -= step;
+                    }
+                    model.getEvents().drain();
+                    view.render(accumulator / step, deltaTime);
+                } else {
+                    controller.update();
+                    model.update(deltaTime);
+                    model.getEvents().drain();
+                    view.render(1.0, deltaTime);
+                }
             }
         };
 
@@ -92,7 +174,11 @@ public class Main extends Application {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        if (simulation != null) {
+            simulation.stop();
+        }
         AudioManager.getInstance().dispose();
+        LeaderboardService.getInstance().shutdown();
         DatabaseManager.getInstance().close();
         System.out.println("Game closed. Thanks for playing!");
     }
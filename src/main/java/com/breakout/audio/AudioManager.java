@@ -1,6 +1,10 @@
 package com.breakout.audio;
 
 import com.breakout.config.GameConfig;
+import com.breakout.model.GameEvent;
+import com.breakout.model.GameEventListener;
+import com.breakout.model.LevelCatalog;
+import com.breakout.model.LevelTemplate;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
@@ -9,7 +13,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
-public class AudioManager {
+public class AudioManager implements GameEventListener {
     private static AudioManager instance;
     private GameConfig config;
 
@@ -19,7 +23,7 @@ public class AudioManager {
 
     // Store sound effects in memory
     private Map<SoundEffect, AudioClip> sfxCache;
-    private MusicTrack currentTrack;
+    private String currentMusic;   // File name of the current track
 
     // ==================== ENUMS ====================
     public enum SoundEffect {
@@ -97,13 +101,20 @@ public class AudioManager {
     // ==================== MUSIC CONTROLS ====================
 
     public void playMusic(MusicTrack track) {
+        playMusic(track.getFilename());
+    }
+
+    /**
+     * Play a music file from /sounds (looped)
+     */
+    public void playMusic(String filename) {
         if (!config.isMusicEnabled()) {
             System.out.println("AUDIO: Music disabled in config.");
             return;
         }
 
         // Don't restart if it's already playing
-        if (currentTrack == track && musicPlayer != null && musicPlayer.getStatus() == MediaPlayer.Status.PLAYING) {
+        if (filename.equals(currentMusic) && musicPlayer != null && musicPlayer.getStatus() == MediaPlayer.Status.PLAYING) {
             return;
         }
 
@@ -111,12 +122,12 @@ public class AudioManager {
 
         try {
             // 1. debug path
-            String path = "/sounds/" + track.getFilename();
+            String path = "/sounds/" + filename;
             URL resource = getClass().getResource(path);
 
             if (resource == null) {
                 System.err.println("AUDIO CRITICAL: Music file NOT FOUND at: " + path);
-                System.err.println("Check: src/main/resources/sounds/" + track.getFilename());
+                System.err.println("Check: src/main/resources/sounds/" + filename);
                 return;
             }
 
@@ -137,8 +148,8 @@ public class AudioManager {
 
             // 5. Play
             musicPlayer.play();
-            currentTrack = track;
-            System.out.println("AUDIO: Playing " + track.name());
+            currentMusic = filename;
+            System.out.println("AUDIO: Playing " + filename);
 
         } catch (Exception e) {
             System.err.println("AUDIO EXCEPTION: " + e.getMessage());
@@ -148,7 +159,12 @@ public class AudioManager {
 
     public void playLevelMusic(int level) {
         System.out.println("AUDIO: Requesting music for Level " + level);
-        playMusic(MusicTrack.forLevel(level));
+        LevelTemplate template = LevelCatalog.getInstance().get(level);
+        if (template != null && template.getMusic() != null) {
+            playMusic(template.getMusic());
+        } else {
+            playMusic(MusicTrack.forLevel(level));
+        }
     }
 
     public void stopMusic() {
@@ -156,7 +172,7 @@ public class AudioManager {
             musicPlayer.stop();
             musicPlayer.dispose();
             musicPlayer = null;
-            currentTrack = null;
+            currentMusic = null;
         }
     }
 
@@ -175,7 +191,7 @@ public class AudioManager {
         config.setMusicEnabled(newState);
         System.out.println("AUDIO: Toggled Music to " + newState);
         if (newState) {
-            if (currentTrack != null) playMusic(currentTrack); // Restart track
+            if (currentMusic != null) playMusic(currentMusic); // Restart track
             else resumeMusic();
         } else {
             pauseMusic();
@@ -208,6 +224,34 @@ public class AudioManager {
 
     public void dispose() { stopMusic(); sfxCache.clear(); }
 
+    // ==================== GAME EVENTS ====================
+
+    /**
+     * Play the sound or music that goes with a model event
+     */
+    @Override
+    public void onGameEvent(GameEvent event, int entity, double x, double y, int value) {
+        switch (event) {
+            case BALL_LAUNCHED -> playSfx(SoundEffect.BALL_LAUNCH);
+            case BALL_HIT_WALL, BALL_HIT_BALL -> playSfx(SoundEffect.BALL_HIT_WALL);
+            case BALL_HIT_PADDLE -> playPaddleHit();
+            case BALL_HIT_BRICK -> playBrickHit();
+            case BRICK_DESTROYED -> playBrickDestroy();
+            case POWER_UP_COLLECTED -> playPowerUp();
+            case PENALTY_COLLECTED -> playPenalty();
+            case LIFE_LOST -> playLifeLost();
+            case LEVEL_STARTED -> playLevelMusic(value);
+            case LEVEL_COMPLETE -> playLevelComplete();
+            case GAME_OVER -> playGameOver();
+            case VICTORY -> playVictory();
+            case GAME_PAUSED -> pauseMusic();
+            case GAME_RESUMED -> resumeMusic();
+            case MENU_ENTERED -> playMusic(MusicTrack.MENU);
+            case MENU_SELECT -> playSfx(SoundEffect.MENU_SELECT);
+            case MENU_CONFIRM -> playSfx(SoundEffect.MENU_CONFIRM);
+        }
+    }
+
     // ==================== GETTERS (REQUIRED FOR VIEW) ====================
     public boolean isMusicEnabled() { return config.isMusicEnabled(); }
     public boolean isSfxEnabled() { return config.isSoundEffectsEnabled(); }
@@ -39,7 +39,8 @@ public class GameConfig {
     private final int maxLives = 3;
 
     // Level settings
-    private final int totalLevels = 5;
+    private final int totalLevels = 5;              // Generated levels when no catalog is found
+    private final String levelCatalog = "/levels/levels.brkl";   // Classpath resource
 
     // Power-up settings
     private final double powerUpDropChance = 0.25;  // 25% chance per brick
@@ -52,12 +53,44 @@ public class GameConfig {
     private final double fallingBrickSpeed = 1.5;
     private final double speedIncreaseMultiplier = 1.3;
 
+    // Simulation settings
+    private final boolean fixedTimestep = true;     // Tick the model at a constant rate
+    private final int simulationRate = 120;         // Ticks per second in fixed-timestep mode
+    private final double baseFrameRate = 60.0;      // Entity speeds are tuned in px per 60 Hz frame
+    private final double maxFrameTime = 0.1;        // Clamp for long frames (seconds)
+    private final boolean simulationThread = false; // Tick on a separate thread (fixed timestep only)
+    private final boolean sweptCollisions = true;   // Continuous ball collision detection
+    private final int maxContactsPerTick = 8;       // Contacts resolved per ball per tick
+    private final boolean ballCollisions = true;    // Balls bounce off each other (sort-and-sweep)
+    private final double subStepFraction = 0.5;     // Discrete collisions: max move per sub-step, in radii
+    private final int maxSubSteps = 16;             // Sub-steps per ball per tick
+
+    // Entity pool capacities (spawns beyond these are skipped)
+    private final int maxBalls = 64;
+    private final int maxPowerUps = 32;
+    private final int maxPenalties = 32;
+    private final int maxFallingBricks = 16;
+
+    // Ball storm settings (structure-of-arrays balls, see BallStore)
+    private final int maxStormBalls = 10_000;
+    private final boolean ballStormKey = true;      // B releases a ball storm while playing
+    private final int ballStormSize = 500;          // Balls released per B press
+    private final boolean vectorBallKernel = true;  // Use the Vector API kernel when built with -Pvector
+
+    // Replay settings (recording needs fixed-timestep mode)
+    private final boolean replayRecording = true;   // Save each level session's input
+    private final String replayDirectory = "replays";
+
     // Audio settings
     private boolean musicEnabled = true;
     private boolean soundEffectsEnabled = true;
     private double musicVolume = 0.5;
     private double sfxVolume = 0.7;
 
+    // Leaderboard
+    private final int leaderboardSize = 10;
+    private final double leaderboardTtl = 30.0;     // Seconds before a shown leaderboard is refetched
+
     // Database settings (MySQL)
     private final String dbHost = "localhost";
     private final int dbPort = 3306;
@@ -101,6 +134,7 @@ public class GameConfig {
     public int getInitialLives() { return initialLives; }
     public int getMaxLives() { return maxLives; }
     public int getTotalLevels() { return totalLevels; }
+    public String getLevelCatalog() { return levelCatalog; }
 
     // Power-up Getters
     public double getPowerUpDropChance() { return powerUpDropChance; }
@@ -113,6 +147,31 @@ public class GameConfig {
     public double getFallingBrickSpeed() { return fallingBrickSpeed; }
     public double getSpeedIncreaseMultiplier() { return speedIncreaseMultiplier; }
 
+    // Simulation Getters
+    public boolean isFixedTimestep() { return fixedTimestep; }
+    public int getSimulationRate() { return simulationRate; }
+    public double getTickDuration() { return 1.0 / simulationRate; }
+    public double getBaseFrameRate() { return baseFrameRate; }
+    public double getMaxFrameTime() { return maxFrameTime; }
+    public boolean isSimulationThread() { return simulationThread; }
+    public boolean isSweptCollisions() { return sweptCollisions; }
+    public int getMaxContactsPerTick() { return maxContactsPerTick; }
+    public boolean isBallCollisions() { return ballCollisions; }
+    public double getSubStepFraction() { return subStepFraction; }
+    public int getMaxSubSteps() { return maxSubSteps; }
+    public int getMaxBalls() { return maxBalls; }
+    public int getMaxPowerUps() { return maxPowerUps; }
+    public int getMaxPenalties() { return maxPenalties; }
+    public int getMaxFallingBricks() { return maxFallingBricks; }
+    public int getMaxStormBalls() { return maxStormBalls; }
+    public boolean isBallStormKey() { return ballStormKey; }
+    public int getBallStormSize() { return ballStormSize; }
+    public boolean isVectorBallKernel() { return vectorBallKernel; }
+
+    // Replay Getters
+    public boolean isReplayRecording() { return replayRecording; }
+    public String getReplayDirectory() { return replayDirectory; }
+
     // Audio Getters/Setters
     public boolean isMusicEnabled() { return musicEnabled; }
     public void setMusicEnabled(boolean enabled) { this.musicEnabled = enabled; }
@@ -123,6 +182,10 @@ public class GameConfig {
     public double getSfxVolume() { return sfxVolume; }
     public void setSfxVolume(double volume) { this.sfxVolume = Math.max(0, Math.min(1, volume)); }
 
+    // Leaderboard Getters
+    public int getLeaderboardSize() { return leaderboardSize; }
+    public double getLeaderboardTtl() { return leaderboardTtl; }
+
     // Database Getters (MySQL)
     public String getDbHost() { return dbHost; }
     public int getDbPort() { return dbPort; }
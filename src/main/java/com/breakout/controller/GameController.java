@@ -1,10 +1,18 @@
 package com.breakout.controller;
 
 import com.breakout.audio.AudioManager;
+import com.breakout.config.GameConfig;
 import com.breakout.model.GameModel;
 import com.breakout.model.GameState;
+import com.breakout.model.PlayerInput;
+import com.breakout.replay.Replay;
+import com.breakout.replay.ReplayRecorder;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -17,21 +25,31 @@ import java.util.Set;
  * - Delegates business logic to model
  * - Coordinates between input and game state
  *
+ * In-game input is turned into one PlayerInput mask per tick: held keys
+ * set LEFT/RIGHT, and key presses between ticks set LAUNCH/PAUSE for the
+ * next tick. Each level session's masks are recorded as a replay.
+ *
  * CONTROLS:
  * - Name Input: Type name, ENTER to confirm
  * - Menu: UP/DOWN select level, ENTER start, L leaderboard
- * - Playing: LEFT/RIGHT move, SPACE launch, P pause, M menu
+ * - Playing: LEFT/RIGHT move, SPACE launch, B ball storm, P pause, M menu
  * - Additional: F1 toggle music, F2 toggle SFX
  */
 public class GameController {
     private GameModel model;
     private AudioManager audio;
     private Set<KeyCode> pressedKeys;
+    private int pendingInput;
+    private final ReplayRecorder recorder;
+
+    private static final DateTimeFormatter REPLAY_NAME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     public GameController(GameModel model) {
         this.model = model;
         this.audio = AudioManager.getInstance();
         this.pressedKeys = new HashSet<>();
+        this.recorder = new ReplayRecorder();
     }
 
     /**
@@ -77,16 +95,15 @@ public class GameController {
      * Handle key typed events (for name input)
      */
     public void handleKeyTyped(KeyEvent event) {
-        if (model.getState() == GameState.NAME_INPUT) {
-            String character = event.getCharacter();
-            if (character.length() == 1) {
-                char c = character.charAt(0);
-                if (Character.isLetterOrDigit(c) || c == ' ' || c == '_') {
-                    model.addCharToName(c);
-                }
-            }
-            AudioManager.getInstance().playSfx(AudioManager.SoundEffect.MENU_SELECT);
-        }
+        String character = event.getCharacter();
+        handleCharTyped(character.length() == 1 ? character.charAt(0) : 0);
+    }
+
+    /**
+     * Handle a typed character (0 if the key typed no single character)
+     */
+    public void handleCharTyped(char c) {
+        model.typeNameChar(c);
     }
 
     /**
@@ -97,25 +114,56 @@ public class GameController {
     }
 
     /**
-     * Update paddle movement based on pressed keys
+     * Apply this tick's input to the model (call once per simulation tick)
      */
     public void update() {
-        if (model.getState() != GameState.PLAYING) {
-            model.getPaddle().stop();
-            return;
+        GameState state = model.getState();
+        if (recorder.isRecording() && state != GameState.PLAYING && state != GameState.PAUSED) {
+            endRecording();
+        }
+
+        int input = pendingInput;
+        pendingInput = PlayerInput.NONE;
+        if (pressedKeys.contains(KeyCode.LEFT) || pressedKeys.contains(KeyCode.A)) {
+            input |= PlayerInput.LEFT;
+        }
+        if (pressedKeys.contains(KeyCode.RIGHT) || pressedKeys.contains(KeyCode.D)) {
+            input |= PlayerInput.RIGHT;
+        }
+
+        model.applyInput(input);
+        recorder.record(input);
+    }
+
+    // ==================== REPLAY RECORDING ====================
+
+    /**
+     * Start recording if a level session has just begun
+     */
+    private void beginRecording() {
+        GameConfig config = GameConfig.getInstance();
+        pendingInput = PlayerInput.NONE;
+        if (config.isReplayRecording() && config.isFixedTimestep()
+                && model.getState() == GameState.PLAYING) {
+            recorder.begin(model.getLevel(), model.getLevelSeed());
         }
+    }
+
+    /**
+     * Finish the current recording (if any) and save it
+     */
+    private void endRecording() {
+        Replay replay = recorder.finish(model);
+        if (replay == null || replay.getTicks() == 0) return;
 
-        boolean leftPressed = pressedKeys.contains(KeyCode.LEFT) ||
-                pressedKeys.contains(KeyCode.A);
-        boolean rightPressed = pressedKeys.contains(KeyCode.RIGHT) ||
-                pressedKeys.contains(KeyCode.D);
-
-        if (leftPressed && !rightPressed) {
-            model.getPaddle().moveLeft();
-        } else if (rightPressed && !leftPressed) {
-            model.getPaddle().moveRight();
-        } else {
-            model.getPaddle().stop();
+        String name = String.format("level%d-%s-%016x.brpl", replay.getLevel(),
+                LocalDateTime.now().format(REPLAY_NAME), replay.getSeed());
+        Path file = Path.of(GameConfig.getInstance().getReplayDirectory(), name);
+        try {
+            replay.write(file);
+            System.out.println("Replay saved: " + file);
+        } catch (IOException e) {
+            System.err.println("Failed to save replay: " + e.getMessage());
         }
     }
 
@@ -127,10 +175,8 @@ public class GameController {
     private void handleGlobalKeys(KeyCode code) {
         switch (code) {
             case F1:
-                audio.toggleMusic();
-                break;
             case F2:
-                audio.toggleSfx();
+                handleAudioKey(code);
                 break;
             case F11:
                 // Toggle fullscreen (would need stage reference)
@@ -140,6 +186,24 @@ public class GameController {
         }
     }
 
+    /**
+     * Is this a key that only toggles audio (no model state involved)?
+     */
+    public static boolean isAudioKey(KeyCode code) {
+        return code == KeyCode.F1 || code == KeyCode.F2;
+    }
+
+    /**
+     * Toggle music or sound effects; call on the JavaFX thread
+     */
+    public void handleAudioKey(KeyCode code) {
+        if (code == KeyCode.F1) {
+            audio.toggleMusic();
+        } else if (code == KeyCode.F2) {
+            audio.toggleSfx();
+        }
+    }
+
     // ==================== STATE-SPECIFIC HANDLERS ====================
 
     /**
@@ -175,6 +239,7 @@ public class GameController {
             case SPACE:
                 if (model.canPlaySelectedLevel()) {
                     model.startSelectedLevel();
+                    beginRecording();
                 }
                 break;
             case L:
@@ -222,6 +287,7 @@ public class GameController {
     private void selectLevelIfUnlocked(int level) {
         if (model.getPlayerProfile().isLevelUnlocked(level)) {
             model.startLevel(level);
+            beginRecording();
         }
     }
 
@@ -231,13 +297,19 @@ public class GameController {
     private void handlePlayingKey(KeyCode code) {
         switch (code) {
             case SPACE:
-                model.launchBall();
+                pendingInput |= PlayerInput.LAUNCH;
+                break;
+            case B:
+                if (GameConfig.getInstance().isBallStormKey()) {
+                    pendingInput |= PlayerInput.STORM;
+                }
                 break;
             case P:
             case ESCAPE:
-                model.pauseGame();
+                pendingInput |= PlayerInput.PAUSE;
                 break;
             case M:
+                endRecording();
                 model.returnToMenu();
                 break;
             default:
@@ -253,13 +325,16 @@ public class GameController {
             case SPACE:
             case P:
             case ESCAPE:
-                model.resumeGame();
+                pendingInput |= PlayerInput.PAUSE;
                 break;
             case M:
+                endRecording();
                 model.returnToMenu();
                 break;
             case R:
+                endRecording();
                 model.restartLevel();
+                beginRecording();
                 break;
             default:
                 break;
@@ -273,7 +348,9 @@ public class GameController {
         switch (code) {
             case ENTER:
             case R:
+                endRecording();
                 model.restartLevel();
+                beginRecording();
                 break;
             case M:
                 model.returnToMenu();
@@ -290,7 +367,9 @@ public class GameController {
         switch (code) {
             case ENTER:
             case SPACE:
+                endRecording();
                 model.continueToNextLevel();
+                beginRecording();
                 break;
             case M:
                 model.returnToMenu();
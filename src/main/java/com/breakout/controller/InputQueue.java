@@ -0,0 +1,73 @@
+package com.breakout.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Input Queue - Lock-free single-producer, single-consumer queue of key events
+ * Carries keyboard events from the JavaFX thread to the simulation thread.
+ *
+ * Features:
+ * - Ring buffer of ints: event kind in the top byte, key code ordinal or
+ *   typed character below it, so queueing allocates nothing
+ * - Head and tail are published with ordered (release) writes; no locks,
+ *   no spinning on the producer side
+ * - A full queue drops the event and counts it (the consumer drains it
+ *   every tick, so this only happens if the simulation thread stalls)
+ */
+public class InputQueue {
+    public static final int PRESSED = 1;
+    public static final int RELEASED = 2;
+    public static final int TYPED = 3;
+
+    private static final int KIND_SHIFT = 24;
+    private static final int PAYLOAD_MASK = (1 << KIND_SHIFT) - 1;
+
+    private final int[] events;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();   // Next slot to read (written by the consumer)
+    private final AtomicLong tail = new AtomicLong();   // Next slot to write (written by the producer)
+    private long dropped;                               // Written by the producer
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.events = new int[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Queue an event (producer thread)
+     * @param payload key code ordinal, or the typed character
+     * @return false if the queue was full and the event was dropped
+     */
+    public boolean offer(int kind, int payload) {
+        long t = tail.get();
+        if (t - head.get() == events.length) {
+            dropped++;
+            return false;
+        }
+        events[(int) t & mask] = kind << KIND_SHIFT | payload & PAYLOAD_MASK;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Take the next event (consumer thread)
+     * @return the encoded event, or 0 if the queue is empty
+     */
+    public int poll() {
+        long h = head.get();
+        if (h == tail.get()) return 0;
+        int event = events[(int) h & mask];
+        head.lazySet(h + 1);
+        return event;
+    }
+
+    public int getCapacity() { return events.length; }
+    public long getDroppedCount() { return dropped; }
+
+    public static int kind(int event) { return event >>> KIND_SHIFT; }
+    public static int payload(int event) { return event & PAYLOAD_MASK; }
+}
@@ -0,0 +1,155 @@
+package com.breakout.controller;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.FrameBuffer;
+import com.breakout.model.GameEventBuffer;
+import com.breakout.model.GameEventQueue;
+import com.breakout.model.GameModel;
+import java.util.concurrent.locks.LockSupport;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+/**
+ * Simulation Thread - Runs the model on its own thread
+ * The JavaFX thread only queues key events and draws the latest frame,
+ * so a slow frame no longer delays physics and a slow model call (a
+ * database write at the end of a level) no longer stalls drawing.
+ *
+ * Features:
+ * - Fixed-timestep ticks on a wall-clock schedule, with the same
+ *   maxFrameTime clamp as the AnimationTimer loop
+ * - Key events arrive through an InputQueue and are handled by the
+ *   GameController on this thread, so the controller and the model are
+ *   only ever touched by this thread (audio keys are the exception: they
+ *   only touch the AudioManager and are handled on the JavaFX thread)
+ * - After each batch of ticks, model events are queued for the JavaFX
+ *   thread and a frame is captured into the FrameBuffer for the view;
+ *   nothing that touches JavaFX runs on this thread
+ */
+public class SimulationThread {
+    private static final KeyCode[] KEY_CODES = KeyCode.values();
+    private static final int INPUT_CAPACITY = 1024;
+    private static final int EVENT_CAPACITY = 8192;
+
+    private final GameModel model;
+    private final GameController controller;
+    private final FrameBuffer frames;
+    private final InputQueue input;
+    private final GameEventQueue events;
+    private final Thread thread;
+    private volatile boolean running;
+
+    public SimulationThread(GameModel model, GameController controller, FrameBuffer frames) {
+        this.model = model;
+        this.controller = controller;
+        this.frames = frames;
+        this.input = new InputQueue(INPUT_CAPACITY);
+        this.events = new GameEventQueue(EVENT_CAPACITY);
+        model.getEvents().subscribe(events);
+        this.thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stop ticking and wait for the thread to finish its current batch
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== INPUT (JavaFX THREAD) ====================
+
+    public void keyPressed(KeyCode code) {
+        if (GameController.isAudioKey(code)) {
+            controller.handleAudioKey(code);
+            return;
+        }
+        input.offer(InputQueue.PRESSED, code.ordinal());
+    }
+
+    public void keyReleased(KeyCode code) {
+        input.offer(InputQueue.RELEASED, code.ordinal());
+    }
+
+    public void keyTyped(KeyEvent event) {
+        String character = event.getCharacter();
+        input.offer(InputQueue.TYPED, character.length() == 1 ? character.charAt(0) : 0);
+    }
+
+    // ==================== EVENTS (JavaFX THREAD) ====================
+
+    /**
+     * Move the model events queued since the last call into a buffer,
+     * normally the replica model's, whose subscribers then run on this thread
+     */
+    public void pollEvents(GameEventBuffer target) {
+        events.drainTo(target);
+    }
+
+    // ==================== SIMULATION ====================
+
+    private void run() {
+        GameConfig config = GameConfig.getInstance();
+        double step = config.getTickDuration();
+        long stepNanos = (long) (step * 1e9);
+        long maxLagNanos = (long) (config.getMaxFrameTime() * 1e9);
+
+        long nextTick = System.nanoTime();
+        publish(nextTick);
+        while (running) {
+            boolean changed = handleInput();
+
+            long now = System.nanoTime();
+            if (now - nextTick > maxLagNanos) {
+                nextTick = now - maxLagNanos;   // Drop time we cannot catch up on
+            }
+            while (nextTick <= now) {
+                controller.update();
+                model.update(step);
+                nextTick += stepNanos;
+                changed = true;
+            }
+
+            if (changed) {
+                model.getEvents().drain();   // Into the event queue for the JavaFX thread
+                publish(nextTick - stepNanos);
+            }
+            LockSupport.parkNanos(nextTick - System.nanoTime());
+        }
+    }
+
+    /**
+     * Hand every queued key event to the controller
+     * @return true if there was any
+     */
+    private boolean handleInput() {
+        boolean any = false;
+        for (int event = input.poll(); event != 0; event = input.poll()) {
+            int payload = InputQueue.payload(event);
+            switch (InputQueue.kind(event)) {
+                case InputQueue.PRESSED -> controller.handleKeyPressed(KEY_CODES[payload]);
+                case InputQueue.RELEASED -> controller.handleKeyReleased(KEY_CODES[payload]);
+                case InputQueue.TYPED -> controller.handleCharTyped((char) payload);
+                default -> { }
+            }
+            any = true;
+        }
+        return any;
+    }
+
+    private void publish(long tickTime) {
+        frames.getBack().capture(model, tickTime);
+        frames.publish();
+    }
+}
@@ -12,6 +12,10 @@ import java.util.List;
  * - Manages MySQL database connection
  * - Provides CRUD operations for player scores
  * - Ensures data persistence across game sessions
+ * - Thread-safe: operations are synchronized on the manager, since the
+ *   leaderboard service queries from a background thread. During play,
+ *   scores are saved through LeaderboardService so only that thread
+ *   waits on the connection
  *
  * Database Schema:
  * - players: Stores player information
@@ -28,13 +32,14 @@ public class DatabaseManager {
     private static DatabaseManager instance;
     private Connection connection;
     private GameConfig config;
+    private volatile int scoreWrites;   // Bumped by every saved score, so caches can tell they are stale
 
     private DatabaseManager() {
         this.config = GameConfig.getInstance();
         initializeDatabase();
     }
 
-    public static DatabaseManager getInstance() {
+    public static synchronized DatabaseManager getInstance() {
         if (instance == null) {
             instance = new DatabaseManager();
         }
@@ -142,7 +147,7 @@ public class DatabaseManager {
     /**
      * Check if connection is valid
      */
-    public boolean isConnected() {
+    public synchronized boolean isConnected() {
         try {
             return connection != null && !connection.isClosed() && connection.isValid(2);
         } catch (SQLException e) {
@@ -165,7 +170,7 @@ public class DatabaseManager {
      * Get or create a player by name
      * @return player ID
      */
-    public int getOrCreatePlayer(String playerName) {
+    public synchronized int getOrCreatePlayer(String playerName) {
         ensureConnection();
         if (connection == null) return -1;
 
@@ -211,7 +216,7 @@ public class DatabaseManager {
      * Save or update level score (only if better)
      * Uses INSERT ... ON DUPLICATE KEY UPDATE for MySQL
      */
-    public void saveScore(int playerId, int level, int score, int stars) {
+    public synchronized void saveScore(int playerId, int level, int score, int stars) {
         ensureConnection();
         if (connection == null || playerId < 0) return;
 
@@ -231,15 +236,23 @@ public class DatabaseManager {
             pstmt.setInt(3, score);
             pstmt.setInt(4, stars);
             pstmt.executeUpdate();
+            scoreWrites++;
         } catch (SQLException e) {
             System.err.println("Error saving score: " + e.getMessage());
         }
     }
 
+    /**
+     * Number of scores saved so far (read without locking)
+     */
+    public int getScoreWrites() {
+        return scoreWrites;
+    }
+
     /**
      * Get best score for a specific level
      */
-    public int getLevelScore(int playerId, int level) {
+    public synchronized int getLevelScore(int playerId, int level) {
         ensureConnection();
         if (connection == null) return 0;
 
@@ -260,7 +273,7 @@ public class DatabaseManager {
     /**
      * Get all level scores for a player
      */
-    public int[] getAllLevelScores(int playerId, int totalLevels) {
+    public synchronized int[] getAllLevelScores(int playerId, int totalLevels) {
         ensureConnection();
         int[] scores = new int[totalLevels];
         if (connection == null) return scores;
@@ -284,7 +297,7 @@ public class DatabaseManager {
     /**
      * Get total score for a player
      */
-    public int getTotalScore(int playerId) {
+    public synchronized int getTotalScore(int playerId) {
         ensureConnection();
         if (connection == null) return 0;
 
@@ -306,7 +319,7 @@ public class DatabaseManager {
     /**
      * Get top players from leaderboard
      */
-    public List<LeaderboardEntry> getLeaderboard(int limit) {
+    public synchronized List<LeaderboardEntry> getLeaderboard(int limit) {
         ensureConnection();
         List<LeaderboardEntry> entries = new ArrayList<>();
         if (connection == null) return entries;
@@ -343,7 +356,7 @@ public class DatabaseManager {
     /**
      * Get player rank in leaderboard
      */
-    public int getPlayerRank(int playerId) {
+    public synchronized int getPlayerRank(int playerId) {
         ensureConnection();
         if (connection == null) return 0;
 
@@ -378,7 +391,7 @@ public class DatabaseManager {
     /**
      * Save game session
      */
-    public void saveSession(int playerId, int totalScore, int levelsCompleted, int timeSeconds) {
+    public synchronized void saveSession(int playerId, int totalScore, int levelsCompleted, int timeSeconds) {
         ensureConnection();
         if (connection == null || playerId < 0) return;
 
@@ -398,7 +411,7 @@ public class DatabaseManager {
     /**
      * Get player statistics
      */
-    public PlayerStats getPlayerStats(int playerId) {
+    public synchronized PlayerStats getPlayerStats(int playerId) {
         ensureConnection();
         if (connection == null) return new PlayerStats(0, 0, 0, 0);
 
@@ -432,7 +445,7 @@ public class DatabaseManager {
     /**
      * Close database connection
      */
-    public void close() {
+    public synchronized void close() {
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
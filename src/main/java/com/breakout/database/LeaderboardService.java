@@ -0,0 +1,154 @@
+package com.breakout.database;
+
+import com.breakout.config.GameConfig;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+/**
+ * Leaderboard Service - Cached leaderboard, fetched off the FX thread
+ *
+ * Design Pattern: Singleton + Cache-aside
+ * - The renderer reads an immutable snapshot and never waits for MySQL
+ * - Snapshots are refetched on a background thread when they are older
+ *   than the configured TTL, or when a score has been saved since
+ * - One fetch at a time; readers keep the old snapshot until the new one lands
+ * - Before the first fetch completes there is no snapshot ("loading")
+ * - Player ranks are fetched on the same thread, in request order
+ * - Scores are saved on the same thread too, so the game loop never waits
+ *   for the DatabaseManager lock while a leaderboard query runs
+ */
+public class LeaderboardService {
+    private static LeaderboardService instance;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+
+    private final DatabaseManager db;
+    private final int size;
+    private final long ttlNanos;
+    private final ExecutorService executor;
+    private final AtomicBoolean fetching = new AtomicBoolean();
+    private volatile Snapshot snapshot;     // null until the first fetch completes
+    private volatile boolean invalidated;
+
+    /**
+     * Immutable leaderboard as of one fetch
+     */
+    public static final class Snapshot {
+        public final List<DatabaseManager.LeaderboardEntry> entries;
+        final long fetchedAt;       // System.nanoTime() when the query started
+        final int scoreWrites;      // DatabaseManager score writes seen by the query
+
+        Snapshot(List<DatabaseManager.LeaderboardEntry> entries, long fetchedAt, int scoreWrites) {
+            this.entries = List.copyOf(entries);
+            this.fetchedAt = fetchedAt;
+            this.scoreWrites = scoreWrites;
+        }
+    }
+
+    private LeaderboardService() {
+        GameConfig config = GameConfig.getInstance();
+        this.db = DatabaseManager.getInstance();
+        this.size = config.getLeaderboardSize();
+        this.ttlNanos = (long) (config.getLeaderboardTtl() * 1e9);
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "leaderboard");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static synchronized LeaderboardService getInstance() {
+        if (instance == null) {
+            instance = new LeaderboardService();
+        }
+        return instance;
+    }
+
+    /**
+     * Current leaderboard; starts a background refresh if it is missing or stale
+     * @return the last fetched snapshot, or null while the first fetch is running
+     */
+    public Snapshot getLeaderboard() {
+        Snapshot current = snapshot;
+        if (current == null || invalidated
+                || System.nanoTime() - current.fetchedAt > ttlNanos
+                || db.getScoreWrites() != current.scoreWrites) {
+            refresh();
+        }
+        return current;
+    }
+
+    /**
+     * Refetch on the next read
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    /**
+     * Start a background fetch unless one is already running
+     */
+    public void refresh() {
+        if (!fetching.compareAndSet(false, true)) return;
+        invalidated = false;
+        executor.execute(() -> {
+            try {
+                long start = System.nanoTime();
+                int writes = db.getScoreWrites();
+                snapshot = new Snapshot(db.getLeaderboard(size), start, writes);
+            } catch (RuntimeException e) {
+                System.err.println("Error refreshing leaderboard: " + e.getMessage());
+            } finally {
+                fetching.set(false);
+            }
+        });
+    }
+
+    /**
+     * Save a level score on the background thread; the leaderboard is
+     * refetched on the next read, and ranks requested afterwards see it
+     */
+    public void saveScore(int playerId, int level, int score, int stars) {
+        executor.execute(() -> {
+            try {
+                db.saveScore(playerId, level, score, stars);
+                invalidate();
+            } catch (RuntimeException e) {
+                System.err.println("Error saving score: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Fetch a player's rank on the background thread
+     * @param result receives the rank (0 if unknown), called on the background thread
+     */
+    public void fetchRank(int playerId, IntConsumer result) {
+        executor.execute(() -> {
+            try {
+                result.accept(db.getPlayerRank(playerId));
+            } catch (RuntimeException e) {
+                System.err.println("Error fetching player rank: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Stop the background thread; queued score writes are finished first,
+     * pending fetches are dropped
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
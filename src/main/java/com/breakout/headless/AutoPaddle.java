@@ -0,0 +1,68 @@
+package com.breakout.headless;
+
+import com.breakout.model.Ball;
+import com.breakout.model.GameModel;
+import com.breakout.model.Paddle;
+import com.breakout.model.PlayerInput;
+import java.util.List;
+
+/**
+ * Auto Paddle - Scripted player for headless runs
+ * Launches the ball and keeps the paddle under the lowest ball
+ *
+ * The aim offset shifts where on the paddle the ball is caught
+ * (-1 = left edge, 1 = right edge), which changes the bounce angle and
+ * lets batch runs play a variety of games.
+ *
+ * Decisions are PlayerInput masks, applied exactly like keyboard input,
+ * so scripted sessions can be recorded and replayed as well.
+ */
+public class AutoPaddle {
+    private final double deadZone;
+    private final double aim;
+
+    public AutoPaddle() {
+        this(4.0, 0.0);
+    }
+
+    public AutoPaddle(double deadZone, double aim) {
+        this.deadZone = deadZone;
+        this.aim = Math.max(-1, Math.min(1, aim));
+    }
+
+    /**
+     * Steer the paddle for the next tick
+     * @return the input mask that was applied
+     */
+    public int control(GameModel model) {
+        int input = decide(model);
+        model.applyInput(input);
+        return input;
+    }
+
+    /**
+     * Choose the input for the next tick without applying it
+     */
+    public int decide(GameModel model) {
+        Paddle paddle = model.getPaddle();
+        List<Ball> balls = model.getBalls();
+
+        Ball target = null;
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (ball.isLaunched() && (target == null || ball.getY() > target.getY())) {
+                target = ball;
+            }
+        }
+
+        if (target == null) return PlayerInput.LAUNCH;
+
+        // Controls are reversed by the model, so ask for the key that moves the right way
+        double offset = target.getX() - (paddle.getX() + aim * paddle.getWidth() / 2.0);
+        boolean goRight = paddle.isReversed() ? offset < 0 : offset > 0;
+        if (Math.abs(offset) <= deadZone) {
+            return PlayerInput.NONE;
+        }
+        return goRight ? PlayerInput.RIGHT : PlayerInput.LEFT;
+    }
+}
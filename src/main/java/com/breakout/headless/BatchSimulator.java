@@ -0,0 +1,170 @@
+package com.breakout.headless;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.GameModel;
+import com.breakout.model.GameRandom;
+import com.breakout.model.GameState;
+import com.breakout.model.LevelCatalog;
+import com.breakout.model.PlayerProfile;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Batch Simulator - Parallel balance testing
+ * Plays many independent headless games on every core and reports
+ * per-level statistics.
+ *
+ * Design Pattern: Fork/Join (divide and conquer over game indices)
+ *
+ * Features:
+ * - Each game has its own model, offline profile and scripted paddle
+ * - Game i of a run is seeded from (seed, i) only, so every game and the
+ *   whole report are reproducible
+ * - Results are merged in game order, so the report does not depend on
+ *   the number of threads
+ * - Games that neither clear nor lose within the tick limit count as timed out
+ *
+ *   java -cp target/classes com.breakout.headless.BatchSimulator [gamesPerLevel] [seed] [threads] [maxSeconds]
+ */
+public class BatchSimulator {
+    private static final int LEAF_GAMES = 16;
+
+    private final int gamesPerLevel;
+    private final int levels;
+    private final long seed;
+    private final int maxTicks;
+    private final double step;
+
+    public BatchSimulator(int gamesPerLevel, int levels, long seed, double maxSeconds) {
+        GameConfig config = GameConfig.getInstance();
+        this.gamesPerLevel = gamesPerLevel;
+        this.levels = levels;
+        this.seed = seed;
+        this.step = config.getTickDuration();
+        this.maxTicks = (int) Math.ceil(maxSeconds / step);
+    }
+
+    public static void main(String[] args) {
+        int gamesPerLevel = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        double maxSeconds = args.length > 3 ? Double.parseDouble(args[3]) : 600.0;
+
+        int levels = LevelCatalog.getInstance().getLevelCount();
+        BatchSimulator simulator = new BatchSimulator(gamesPerLevel, levels, seed, maxSeconds);
+
+        long start = System.nanoTime();
+        LevelStats[] stats = simulator.run(threads);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.println("=================================");
+        System.out.println("Batch simulation");
+        System.out.println("=================================");
+        System.out.printf("Games:   %,d (%,d per level), seed %d%n", gamesPerLevel * levels, gamesPerLevel, seed);
+        System.out.printf("Threads: %d, wall time %.2f s%n", threads, seconds);
+        System.out.println();
+        for (LevelStats levelStats : stats) {
+            levelStats.print(simulator.step);
+        }
+    }
+
+    /**
+     * Simulate every game on a pool of the given size
+     * @return statistics per level (index 0 = level 1)
+     */
+    public LevelStats[] run(int threads) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            return pool.invoke(new GameRange(this, 0, gamesPerLevel * levels));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Play one game to the end
+     */
+    private void playGame(int game, LevelStats[] stats) {
+        int level = game / gamesPerLevel + 1;
+        long gameSeed = GameRandom.mix64(seed + game * 0x9E3779B97F4A7C15L);
+
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        GameModel model = new GameModel(profile);
+        model.setSeed(gameSeed);
+
+        // Catch the ball somewhere on the middle half of the paddle
+        double aim = new GameRandom(~gameSeed).nextDouble() - 0.5;
+        AutoPaddle paddle = new AutoPaddle(4.0, aim);
+
+        model.startLevel(level);
+        int lives = model.getLives();
+        int livesLost = 0;
+        int tick = 0;
+        while (model.getState() == GameState.PLAYING && tick < maxTicks) {
+            paddle.control(model);
+            model.update(step);
+            model.getEvents().clear();
+            tick++;
+
+            int now = model.getLives();
+            if (now < lives) livesLost += lives - now;
+            lives = now;
+        }
+
+        GameState state = model.getState();
+        boolean clear = state == GameState.LEVEL_COMPLETE || state == GameState.VICTORY;
+        stats[level - 1].record(model.getCurrentScore(), livesLost, clear ? tick : -1,
+                state == GameState.PLAYING);
+    }
+
+    private LevelStats[] newStats() {
+        LevelStats[] stats = new LevelStats[levels];
+        for (int i = 0; i < levels; i++) {
+            stats[i] = new LevelStats(i + 1);
+        }
+        return stats;
+    }
+
+    // ==================== Fork/Join ====================
+
+    /**
+     * Simulates games [from, to), splitting in halves down to LEAF_GAMES
+     */
+    private static final class GameRange extends RecursiveTask<LevelStats[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient BatchSimulator simulator;
+        private final int from, to;
+
+        GameRange(BatchSimulator simulator, int from, int to) {
+            this.simulator = simulator;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LevelStats[] compute() {
+            if (to - from <= LEAF_GAMES) {
+                LevelStats[] stats = simulator.newStats();
+                for (int game = from; game < to; game++) {
+                    simulator.playGame(game, stats);
+                }
+                return stats;
+            }
+
+            int mid = (from + to) >>> 1;
+            GameRange left = new GameRange(simulator, from, mid);
+            GameRange right = new GameRange(simulator, mid, to);
+            right.fork();
+            LevelStats[] stats = left.compute();
+            LevelStats[] rightStats = right.join();
+
+            // Left before right keeps the merged results in game order
+            for (int i = 0; i < simulator.levels; i++) {
+                stats[i].merge(rightStats[i]);
+            }
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.breakout.headless;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.GameModel;
+import com.breakout.model.GameState;
+import com.breakout.model.PlayerProfile;
+
+/**
+ * Headless Runner - Command line simulation driver
+ * Plays the game without JavaFX, audio or database and reports
+ * simulation throughput.
+ *
+ * Only the model, config and headless packages are used, so it runs with
+ * nothing but the compiled classes on the classpath:
+ *
+ *   java -cp target/classes com.breakout.headless.HeadlessRunner [ticks] [level] [seed]
+ *
+ * Finished games (game over or level cleared) are restarted on the same
+ * level until the requested number of ticks has been simulated.
+ */
+public class HeadlessRunner {
+
+    public static void main(String[] args) {
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int level = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        GameConfig config = GameConfig.getInstance();
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+
+        GameModel model = new GameModel(profile);
+        model.setSeed(seed);
+        AutoPaddle autoPaddle = new AutoPaddle();
+        double step = config.getTickDuration();
+
+        int games = 0;
+        int cleared = 0;
+        long totalScore = 0;
+
+        model.startLevel(level);
+        long start = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            autoPaddle.control(model);
+            model.update(step);
+            model.getEvents().clear();
+
+            GameState state = model.getState();
+            if (state != GameState.PLAYING) {
+                games++;
+                totalScore += model.getCurrentScore();
+                if (state != GameState.GAME_OVER) cleared++;
+                model.restartLevel();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.println("=================================");
+        System.out.println("Headless simulation - level " + level);
+        System.out.println("=================================");
+        System.out.printf("Ticks:          %,d (%.1f s of game time)%n", ticks, ticks * step);
+        System.out.printf("Wall time:      %.3f s%n", seconds);
+        System.out.printf("Ticks/second:   %,.0f%n", ticks / seconds);
+        System.out.printf("Games finished: %d (%d cleared)%n", games, cleared);
+        if (games > 0) {
+            System.out.printf("Average score:  %.1f%n", (double) totalScore / games);
+        }
+        System.out.println(model.getBallPool());
+        System.out.println(model.getPowerUpPool());
+        System.out.println(model.getPenaltyPool());
+        System.out.println(model.getFallingBrickPool());
+    }
+}
@@ -0,0 +1,194 @@
+package com.breakout.headless;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.Brick;
+import com.breakout.model.LevelCatalog;
+import com.breakout.model.LevelTemplate;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Level Compiler - Builds the level catalog from text level sources
+ * Every *.txt file in the source directory is one level; files are
+ * ordered by name (01-warmup.txt, 02-...).
+ *
+ *   java -cp target/classes com.breakout.headless.LevelCompiler levels src/main/resources/levels/levels.brkl
+ *
+ * Source format (keys are optional unless noted, # starts a comment):
+ *   name: Warm-up
+ *   background: level1_bg.png        (image in resources/images)
+ *   music: level1_music.mp3          (track in resources/sounds)
+ *   brick: 70x25                     (default from GameConfig)
+ *   padding: 5
+ *   offset: 35,50                    (left, top)
+ *   bricks:                          (required, one line per row)
+ *   HHHHHHHHHH
+ *   N.N.N.N.N.
+ *   drops:                           (same size as bricks)
+ *   ..+....-..
+ *
+ * Brick cells: . empty, N normal, H hard, T tough, G gold, P power,
+ * X penalty, U unbreakable. Drop cells: . none, + power-up, - penalty,
+ * ? random. Without a drops block, normal and hard bricks get random
+ * drops, like generated levels.
+ */
+public class LevelCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: LevelCompiler <source dir> <catalog file>");
+            System.exit(2);
+        }
+        Path sources = Path.of(args[0]);
+        Path catalogFile = Path.of(args[1]);
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(sources)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(".txt")).sorted().toList();
+        }
+
+        List<LevelTemplate> levels = new ArrayList<>();
+        for (Path file : files) {
+            try {
+                levels.add(parse(Files.readAllLines(file)));
+            } catch (IllegalArgumentException e) {
+                System.err.println(file + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        LevelCatalog.write(catalogFile, levels);
+
+        // Read the result back through the catalog to check it
+        LevelCatalog catalog = LevelCatalog.open(catalogFile);
+        System.out.printf("%s: %d levels, %,d bytes%n", catalogFile, catalog.getLevelCount(), Files.size(catalogFile));
+        for (int level = 1; level <= catalog.getLevelCount(); level++) {
+            LevelTemplate t = catalog.get(level);
+            System.out.printf("  %3d  %-20s %2dx%-2d %3d bricks  %s, %s%n", level, t.getName(),
+                    t.getCols(), t.getRows(), t.getBrickCount(), t.getBackground(), t.getMusic());
+        }
+    }
+
+    /**
+     * Parse one level source
+     * @throws IllegalArgumentException on syntax errors
+     */
+    static LevelTemplate parse(List<String> lines) {
+        GameConfig config = GameConfig.getInstance();
+        String name = null, background = null, music = null;
+        int brickWidth = config.getBrickWidth();
+        int brickHeight = config.getBrickHeight();
+        int padding = config.getBrickPadding();
+        int offsetLeft = config.getBrickOffsetLeft();
+        int offsetTop = config.getBrickOffsetTop();
+        List<String> bricks = new ArrayList<>();
+        List<String> drops = new ArrayList<>();
+        List<String> block = null;
+
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n).strip();
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment).strip();
+            if (line.isEmpty()) {
+                block = null;
+                continue;
+            }
+
+            if (line.equals("bricks:")) { block = bricks; continue; }
+            if (line.equals("drops:")) { block = drops; continue; }
+            if (block != null) {
+                block.add(line);
+                continue;
+            }
+
+            int colon = line.indexOf(':');
+            if (colon < 0) throw new IllegalArgumentException("line " + (n + 1) + ": expected key: value");
+            String key = line.substring(0, colon).strip();
+            String value = line.substring(colon + 1).strip();
+            switch (key) {
+                case "name" -> name = value;
+                case "background" -> background = value;
+                case "music" -> music = value;
+                case "brick" -> {
+                    int[] size = parseInts(value, "x", 2, n);
+                    brickWidth = size[0];
+                    brickHeight = size[1];
+                }
+                case "padding" -> padding = parseInts(value, ",", 1, n)[0];
+                case "offset" -> {
+                    int[] offset = parseInts(value, ",", 2, n);
+                    offsetLeft = offset[0];
+                    offsetTop = offset[1];
+                }
+                default -> throw new IllegalArgumentException("line " + (n + 1) + ": unknown key " + key);
+            }
+        }
+
+        if (bricks.isEmpty()) throw new IllegalArgumentException("no bricks: block");
+        int rows = bricks.size();
+        int cols = bricks.get(0).length();
+        if (!drops.isEmpty() && drops.size() != rows) {
+            throw new IllegalArgumentException("drops: block must have " + rows + " rows");
+        }
+
+        byte[] cells = new byte[cols * rows];
+        for (int row = 0; row < rows; row++) {
+            String brickRow = bricks.get(row);
+            String dropRow = drops.isEmpty() ? null : drops.get(row);
+            if (brickRow.length() != cols || (dropRow != null && dropRow.length() != cols)) {
+                throw new IllegalArgumentException("row " + (row + 1) + " must have " + cols + " cells");
+            }
+            for (int col = 0; col < cols; col++) {
+                Brick.BrickType type = parseType(brickRow.charAt(col));
+                int drop = dropRow != null ? parseDrop(dropRow.charAt(col))
+                        : type == Brick.BrickType.NORMAL || type == Brick.BrickType.HARD
+                        ? LevelTemplate.DROP_RANDOM : LevelTemplate.DROP_NONE;
+                cells[row * cols + col] = LevelTemplate.cell(type, drop);
+            }
+        }
+
+        return new LevelTemplate(name, background, music, cols, rows,
+                brickWidth, brickHeight, padding, offsetLeft, offsetTop, cells);
+    }
+
+    private static Brick.BrickType parseType(char c) {
+        return switch (c) {
+            case '.' -> null;
+            case 'N' -> Brick.BrickType.NORMAL;
+            case 'H' -> Brick.BrickType.HARD;
+            case 'T' -> Brick.BrickType.TOUGH;
+            case 'G' -> Brick.BrickType.GOLD;
+            case 'P' -> Brick.BrickType.POWER;
+            case 'X' -> Brick.BrickType.PENALTY;
+            case 'U' -> Brick.BrickType.UNBREAKABLE;
+            default -> throw new IllegalArgumentException("unknown brick '" + c + "'");
+        };
+    }
+
+    private static int parseDrop(char c) {
+        return switch (c) {
+            case '.' -> LevelTemplate.DROP_NONE;
+            case '+' -> LevelTemplate.DROP_POWER_UP;
+            case '-' -> LevelTemplate.DROP_PENALTY;
+            case '?' -> LevelTemplate.DROP_RANDOM;
+            default -> throw new IllegalArgumentException("unknown drop '" + c + "'");
+        };
+    }
+
+    private static int[] parseInts(String value, String separator, int count, int line) {
+        String[] parts = value.split(separator);
+        if (parts.length != count) {
+            throw new IllegalArgumentException("line " + (line + 1) + ": expected " + count + " numbers in " + value);
+        }
+        int[] result = new int[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) result[i] = Integer.parseInt(parts[i].strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("line " + (line + 1) + ": bad number in " + value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package com.breakout.headless;
+
+import java.util.Arrays;
+
+/**
+ * Level Stats - Aggregated results of many simulated games on one level
+ *
+ * Results are merged in game order, so a batch produces the same
+ * numbers no matter how the work was split across threads.
+ */
+public class LevelStats {
+    private final int level;
+    private int games;
+    private int cleared;
+    private int timedOut;
+    private long livesLost;
+    private int[] scores = new int[16];
+    private int[] clearTicks = new int[16];
+    private int clearCount;
+
+    public LevelStats(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Record one finished game
+     * @param clearedAtTick tick the level was cleared at, -1 if not cleared
+     */
+    public void record(int score, int lostLives, int clearedAtTick, boolean timeout) {
+        if (games == scores.length) scores = Arrays.copyOf(scores, games * 2);
+        scores[games++] = score;
+        livesLost += lostLives;
+        if (timeout) timedOut++;
+        if (clearedAtTick >= 0) {
+            cleared++;
+            if (clearCount == clearTicks.length) clearTicks = Arrays.copyOf(clearTicks, clearCount * 2);
+            clearTicks[clearCount++] = clearedAtTick;
+        }
+    }
+
+    /**
+     * Append another batch of results for the same level
+     */
+    public void merge(LevelStats other) {
+        for (int i = 0; i < other.games; i++) {
+            if (games == scores.length) scores = Arrays.copyOf(scores, games * 2);
+            scores[games++] = other.scores[i];
+        }
+        for (int i = 0; i < other.clearCount; i++) {
+            if (clearCount == clearTicks.length) clearTicks = Arrays.copyOf(clearTicks, clearCount * 2);
+            clearTicks[clearCount++] = other.clearTicks[i];
+        }
+        cleared += other.cleared;
+        timedOut += other.timedOut;
+        livesLost += other.livesLost;
+    }
+
+    /**
+     * Print a one-level summary
+     */
+    public void print(double tickDuration) {
+        int[] sortedScores = Arrays.copyOf(scores, games);
+        int[] sortedTicks = Arrays.copyOf(clearTicks, clearCount);
+        Arrays.sort(sortedScores);
+        Arrays.sort(sortedTicks);
+
+        long scoreSum = 0;
+        for (int score : sortedScores) scoreSum += score;
+        long tickSum = 0;
+        for (int ticks : sortedTicks) tickSum += ticks;
+
+        System.out.printf("Level %d  (%d games)%n", level, games);
+        System.out.printf("  Completion rate: %.1f%%  (%d timed out)%n",
+                games == 0 ? 0 : 100.0 * cleared / games, timedOut);
+        System.out.printf("  Lives lost:      %.2f per game%n", games == 0 ? 0 : (double) livesLost / games);
+        System.out.printf("  Score:           mean %.0f | p10 %d | p50 %d | p90 %d | max %d%n",
+                games == 0 ? 0 : (double) scoreSum / games,
+                percentile(sortedScores, 0.10), percentile(sortedScores, 0.50),
+                percentile(sortedScores, 0.90), games == 0 ? 0 : sortedScores[games - 1]);
+        if (clearCount > 0) {
+            System.out.printf("  Time to clear:   mean %.1fs | p50 %.1fs | p90 %.1fs%n",
+                    tickSum * tickDuration / clearCount,
+                    percentile(sortedTicks, 0.50) * tickDuration,
+                    percentile(sortedTicks, 0.90) * tickDuration);
+        }
+    }
+
+    private static int percentile(int[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    // Getters
+    public int getLevel() { return level; }
+    public int getGames() { return games; }
+    public int getCleared() { return cleared; }
+    public long getLivesLost() { return livesLost; }
+}
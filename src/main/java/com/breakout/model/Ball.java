@@ -1,6 +1,5 @@
 package com.breakout.model;
 
-import com.breakout.audio.AudioManager;
 import com.breakout.config.GameConfig;
 
 /**
@@ -15,47 +14,85 @@ import com.breakout.config.GameConfig;
  */
 public class Ball {
     private double x, y;
+    private double prevX, prevY;   // Position at the start of the last tick (for interpolation)
     private double dx, dy;
     private int radius;
     private boolean launched;
     private boolean isClone;  // For multi-ball
     private GameConfig config;
+    private final GameRandom random;   // Owning game's generator (launch and clone angles)
 
-    public Ball() {
+    // Read once from the config, they are used on every tick
+    private final int windowWidth, windowHeight;
+    private final double baseFrameRate;
+
+    // Bookkeeping of the BallSweep broadphase
+    int sweepStamp, sweepIndex;
+    int sweepBand, sweepBandEnd;   // First and last band the ball touches
+    long sweepBands;               // Bands (from sweepBand) that already have an entry
+
+    public Ball(GameRandom random) {
         this.config = GameConfig.getInstance();
+        this.random = random;
         this.radius = config.getBallRadius();
-        this.isClone = false;
+        this.windowWidth = config.getWindowWidth();
+        this.windowHeight = config.getWindowHeight();
+        this.baseFrameRate = config.getBaseFrameRate();
         reset();
     }
 
     /**
      * Create a clone ball (for multi-ball power-up)
      */
-    public Ball(Ball original) {
-        this.config = GameConfig.getInstance();
+    public Ball(Ball original, GameRandom random) {
+        this(random);
+        cloneFrom(original);
+    }
+
+    /**
+     * Turn this ball into a clone of another (multi-ball, pooled balls)
+     */
+    public void cloneFrom(Ball original) {
         this.radius = original.radius;
         this.x = original.x;
         this.y = original.y;
+        this.prevX = original.prevX;
+        this.prevY = original.prevY;
         this.launched = true;
         this.isClone = true;
 
         // Clone with slightly different angle
         double speed = Math.sqrt(original.dx * original.dx + original.dy * original.dy);
         double angle = Math.atan2(original.dy, original.dx);
-        angle += (Math.random() - 0.5) * Math.PI / 3; // Random deviation
+        angle += (random.nextDouble() - 0.5) * Math.PI / 3; // Random deviation
         this.dx = speed * Math.cos(angle);
         this.dy = speed * Math.sin(angle);
     }
 
     /**
-     * Reset ball to starting position (on paddle)
+     * Reset ball to starting position (on paddle) as the main ball
      */
     public void reset() {
-        this.x = config.getWindowWidth() / 2.0;
-        this.y = config.getWindowHeight() - 80;
+        this.x = windowWidth / 2.0;
+        this.y = windowHeight - 80;
         this.dx = 0;
         this.dy = 0;
         this.launched = false;
+        this.isClone = false;
+        storePreviousPosition();
+    }
+
+    /**
+     * Place a launched extra ball with a given velocity
+     */
+    public void spawnExtra(double x, double y, double dx, double dy) {
+        this.x = x;
+        this.y = y;
+        this.dx = dx;
+        this.dy = dy;
+        this.launched = true;
+        this.isClone = true;
+        storePreviousPosition();
     }
 
     /**
@@ -64,49 +101,59 @@ public class Ball {
     public void launch() {
         if (!launched) {
             double speed = config.getBallSpeed();
-            double angle = Math.toRadians(-60 + Math.random() * 30);
+            double angle = Math.toRadians(-60 + random.nextDouble() * 30);
             this.dx = speed * Math.sin(angle);
             this.dy = -speed * Math.cos(angle);
             this.launched = true;
         }
     }
 
+    /**
+     * Remember the current position as the start of the next tick
+     */
+    public void storePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
     /**
      * Update ball position
+     * @param deltaTime simulated seconds since the last tick
+     * @return true if the ball bounced off a wall or the ceiling
      */
-    public void update() {
-        if (!launched) return;
+    public boolean update(double deltaTime) {
+        if (!launched) return false;
 
-        x += dx;
-        y += dy;
+        double step = deltaTime * baseFrameRate;
+        x += dx * step;
+        y += dy * step;
+        boolean hitWall = false;
 
         // Wall collision (left/right)
         if (x - radius <= 0) {
             x = radius;
             dx = Math.abs(dx);
-            // PLAY SOUND HERE
-            AudioManager.getInstance().playSfx(AudioManager.SoundEffect.BALL_HIT_WALL);
-        } else if (x + radius >= config.getWindowWidth()) {
-            x = config.getWindowWidth() - radius;
+            hitWall = true;
+        } else if (x + radius >= windowWidth) {
+            x = windowWidth - radius;
             dx = -Math.abs(dx);
-            // PLAY SOUND HERE
-            AudioManager.getInstance().playSfx(AudioManager.SoundEffect.BALL_HIT_WALL);
+            hitWall = true;
         }
 
         // Ceiling collision
         if (y - radius <= 0) {
             y = radius;
             dy = Math.abs(dy);
-            // PLAY SOUND HERE
-            AudioManager.getInstance().playSfx(AudioManager.SoundEffect.BALL_HIT_WALL);
+            hitWall = true;
         }
+        return hitWall;
     }
 
     /**
      * Check if ball fell below screen
      */
     public boolean isBelowScreen() {
-        return y - radius > config.getWindowHeight();
+        return y - radius > windowHeight;
     }
 
     /**
@@ -115,7 +162,7 @@ public class Ball {
     public void followPaddle(double paddleX) {
         if (!launched) {
             this.x = paddleX;
-            this.y = config.getWindowHeight() - 80;
+            this.y = windowHeight - 80;
         }
     }
 
@@ -123,6 +170,16 @@ public class Ball {
      * Bounce off paddle with angle based on hit position
      */
     public void bounceOffPaddle(double paddleX, double paddleWidth) {
+        deflectOffPaddle(paddleX, paddleWidth);
+
+        // Move ball above paddle to prevent multiple collisions
+        y = windowHeight - 80 - radius;
+    }
+
+    /**
+     * Set the outgoing velocity for a paddle hit, keeping the position
+     */
+    public void deflectOffPaddle(double paddleX, double paddleWidth) {
         double hitPos = (x - paddleX) / (paddleWidth / 2);
         hitPos = Math.max(-1, Math.min(1, hitPos));
 
@@ -134,9 +191,17 @@ public class Ball {
         dy = -Math.abs(speed * Math.cos(angle));
 
         if (dy > -2) dy = -2;
+    }
 
-        // Move ball above paddle to prevent multiple collisions
-        y = config.getWindowHeight() - 80 - radius;
+    /**
+     * Reflect the velocity about a unit contact normal
+     */
+    public void reflect(double normalX, double normalY) {
+        double dot = dx * normalX + dy * normalY;
+        if (dot < 0) {
+            dx -= 2 * dot * normalX;
+            dy -= 2 * dot * normalY;
+        }
     }
 
     /**
@@ -169,10 +234,11 @@ public class Ball {
         dx /= factor;
         dy /= factor;
 
-        // Ensure minimum speed
+        // Ensure minimum speed (compared squared, the root is only taken to rescale)
         double minSpeed = 2;
-        double currentSpeed = Math.sqrt(dx * dx + dy * dy);
-        if (currentSpeed < minSpeed) {
+        double speedSquared = dx * dx + dy * dy;
+        if (speedSquared < minSpeed * minSpeed) {
+            double currentSpeed = Math.sqrt(speedSquared);
             dx = (dx / currentSpeed) * minSpeed;
             dy = (dy / currentSpeed) * minSpeed;
         }
@@ -194,8 +260,9 @@ public class Ball {
      */
     private void capSpeed() {
         double maxSpeed = config.getMaxBallSpeed();
-        double currentSpeed = Math.sqrt(dx * dx + dy * dy);
-        if (currentSpeed > maxSpeed) {
+        double speedSquared = dx * dx + dy * dy;
+        if (speedSquared > maxSpeed * maxSpeed) {
+            double currentSpeed = Math.sqrt(speedSquared);
             dx = (dx / currentSpeed) * maxSpeed;
             dy = (dy / currentSpeed) * maxSpeed;
         }
@@ -208,6 +275,43 @@ public class Ball {
         return Math.sqrt(dx * dx + dy * dy);
     }
 
+    /**
+     * Write the ball state to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putDouble(x);
+        s.putDouble(y);
+        s.putDouble(prevX);
+        s.putDouble(prevY);
+        s.putDouble(dx);
+        s.putDouble(dy);
+        s.putInt(radius);
+        s.putBoolean(launched);
+        s.putBoolean(isClone);
+    }
+
+    /**
+     * Read the ball state written by save()
+     */
+    void restore(GameSnapshot s) {
+        x = s.getDouble();
+        y = s.getDouble();
+        prevX = s.getDouble();
+        prevY = s.getDouble();
+        dx = s.getDouble();
+        dy = s.getDouble();
+        radius = s.getInt();
+        launched = s.getBoolean();
+        isClone = s.getBoolean();
+    }
+
+    /**
+     * Position interpolated between the last two ticks
+     * @param alpha 0 = previous tick, 1 = current tick
+     */
+    public double getRenderX(double alpha) { return prevX + (x - prevX) * alpha; }
+    public double getRenderY(double alpha) { return prevY + (y - prevY) * alpha; }
+
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
@@ -218,6 +322,8 @@ public class Ball {
     public boolean isClone() { return isClone; }
 
     // Setters
+    public void setPosition(double x, double y) { this.x = x; this.y = y; }
+    public void setVelocity(double dx, double dy) { this.dx = dx; this.dy = dy; }
     public void setX(double x) { this.x = x; }
     public void setY(double y) { this.y = y; }
     public void setLaunched(boolean launched) { this.launched = launched; }
@@ -0,0 +1,287 @@
+package com.breakout.model;
+
+import com.breakout.config.GameConfig;
+import java.util.Arrays;
+
+/**
+ * Ball Store - Structure-of-arrays storage for ball storms
+ * Holds thousands of simple balls in flat primitive arrays; the regular
+ * Ball objects stay in charge of the main ball and power-up clones.
+ *
+ * Features:
+ * - Position, previous position, velocity, radius and flags in parallel arrays
+ * - Movement and wall reflection as tight loops over the arrays: the
+ *   movement loop is auto-vectorized by the JIT and the wall loop is
+ *   branch-free (conditional moves)
+ * - Optional Vector API kernel (VectorBallKernel, built with -Pvector),
+ *   picked up at startup when present, scalar loops otherwise
+ * - Swap-remove, so removing a ball is O(1) and the arrays stay dense
+ *
+ * Collisions with the paddle and bricks are resolved by GameModel, one
+ * ball at a time, since they need the grid and the brick store.
+ */
+public class BallStore {
+    public static final byte FLAG_LOST = 1;   // Fell below the screen, removed by compact()
+
+    private static final double MAX_PADDLE_ANGLE = Math.toRadians(60);
+
+    /**
+     * Movement and wall kernels over the store's arrays
+     */
+    interface Kernel {
+        void move(BallStore balls, double step);
+        void reflectWalls(BallStore balls, double width);
+    }
+
+    private static final Kernel KERNEL = loadKernel();
+
+    // Package-private: read by the kernels
+    double[] x, y;
+    double[] prevX, prevY;   // Position at the start of the last tick (for interpolation)
+    double[] dx, dy;
+    double[] radius;
+    byte[] flags;
+    int size;
+
+    public BallStore() {
+        this(64);
+    }
+
+    public BallStore(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.prevX = new double[capacity];
+        this.prevY = new double[capacity];
+        this.dx = new double[capacity];
+        this.dy = new double[capacity];
+        this.radius = new double[capacity];
+        this.flags = new byte[capacity];
+    }
+
+    private static Kernel loadKernel() {
+        if (!GameConfig.getInstance().isVectorBallKernel()) return new ScalarKernel();
+        try {
+            return (Kernel) Class.forName("com.breakout.model.VectorBallKernel")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not built with -Pvector, or jdk.incubator.vector is not enabled
+            return new ScalarKernel();
+        }
+    }
+
+    // ==================== BALLS ====================
+
+    /**
+     * Add a ball
+     * @return index of the new ball
+     */
+    public int add(double x, double y, double dx, double dy, double radius) {
+        ensureCapacity(size + 1);
+        int i = size++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = x;
+        this.prevY[i] = y;
+        this.dx[i] = dx;
+        this.dy[i] = dy;
+        this.radius[i] = radius;
+        this.flags[i] = 0;
+        return i;
+    }
+
+    /**
+     * Remove a ball by moving the last one into its slot
+     */
+    public void remove(int i) {
+        int last = --size;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        dx[i] = dx[last];
+        dy[i] = dy[last];
+        radius[i] = radius[last];
+        flags[i] = flags[last];
+    }
+
+    /**
+     * Remove every ball flagged FLAG_LOST
+     * @return number of balls removed
+     */
+    public int compact() {
+        int removed = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            if ((flags[i] & FLAG_LOST) != 0) {
+                remove(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length) return;
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        prevX = Arrays.copyOf(prevX, newCapacity);
+        prevY = Arrays.copyOf(prevY, newCapacity);
+        dx = Arrays.copyOf(dx, newCapacity);
+        dy = Arrays.copyOf(dy, newCapacity);
+        radius = Arrays.copyOf(radius, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+    }
+
+    // ==================== MOVEMENT ====================
+
+    /**
+     * Remember the current positions as the start of the next tick
+     */
+    public void storePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /**
+     * Move every ball by its velocity
+     * @param step distance multiplier (velocities are in px per 60 Hz frame)
+     */
+    public void move(double step) {
+        KERNEL.move(this, step);
+    }
+
+    /**
+     * Bounce every ball off the side walls and the ceiling
+     * Balls are clamped inside and their velocity turned inwards, like Ball.update.
+     */
+    public void reflectWalls(double width) {
+        KERNEL.reflectWalls(this, width);
+    }
+
+    /**
+     * Plain loops; C2 vectorizes move and compiles reflectWalls to conditional moves
+     */
+    static final class ScalarKernel implements Kernel {
+        @Override
+        public void move(BallStore b, double step) {
+            double[] x = b.x, y = b.y, dx = b.dx, dy = b.dy;
+            int n = b.size;
+            for (int i = 0; i < n; i++) {
+                x[i] += dx[i] * step;
+                y[i] += dy[i] * step;
+            }
+        }
+
+        @Override
+        public void reflectWalls(BallStore b, double width) {
+            double[] x = b.x, y = b.y, dx = b.dx, dy = b.dy, radius = b.radius;
+            int n = b.size;
+            for (int i = 0; i < n; i++) {
+                double r = radius[i];
+                double px = x[i];
+                double vx = dx[i];
+                double left = r, right = width - r;
+                dx[i] = px <= left ? Math.abs(vx) : px >= right ? -Math.abs(vx) : vx;
+                x[i] = Math.min(Math.max(px, left), right);
+
+                double py = y[i];
+                dy[i] = py <= r ? Math.abs(dy[i]) : dy[i];
+                y[i] = Math.max(py, r);
+            }
+        }
+    }
+
+    /**
+     * Largest squared speed per radius of any ball (sets the storm's sub-steps)
+     */
+    public double getMaxSpeedPerRadiusSquared() {
+        double max = 0;
+        for (int i = 0; i < size; i++) {
+            double r = radius[i];
+            max = Math.max(max, (dx[i] * dx[i] + dy[i] * dy[i]) / (r * r));
+        }
+        return max;
+    }
+
+    /**
+     * Set the outgoing velocity for a paddle hit (same rule as Ball.deflectOffPaddle)
+     */
+    public void deflectOffPaddle(int i, double paddleX, double paddleWidth) {
+        double hitPos = (x[i] - paddleX) / (paddleWidth / 2);
+        hitPos = Math.max(-1, Math.min(1, hitPos));
+
+        double speed = Math.sqrt(dx[i] * dx[i] + dy[i] * dy[i]);
+        double angle = hitPos * MAX_PADDLE_ANGLE;
+        dx[i] = speed * Math.sin(angle);
+        dy[i] = Math.min(-Math.abs(speed * Math.cos(angle)), -2);
+    }
+
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Write every ball to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putInt(size);
+        for (int i = 0; i < size; i++) {
+            s.putDouble(x[i]);
+            s.putDouble(y[i]);
+            s.putDouble(prevX[i]);
+            s.putDouble(prevY[i]);
+            s.putDouble(dx[i]);
+            s.putDouble(dy[i]);
+            s.putDouble(radius[i]);
+            s.putByte(flags[i]);
+        }
+    }
+
+    /**
+     * Read the balls written by save()
+     */
+    void restore(GameSnapshot s) {
+        int count = s.getInt();
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            x[i] = s.getDouble();
+            y[i] = s.getDouble();
+            prevX[i] = s.getDouble();
+            prevY[i] = s.getDouble();
+            dx[i] = s.getDouble();
+            dy[i] = s.getDouble();
+            radius[i] = s.getDouble();
+            flags[i] = (byte) s.getByte();
+        }
+        size = count;
+    }
+
+    // Flags
+    public void setFlag(int i, byte flag, boolean on) {
+        flags[i] = (byte) (on ? flags[i] | flag : flags[i] & ~flag);
+    }
+    public boolean hasFlag(int i, byte flag) { return (flags[i] & flag) != 0; }
+
+    /**
+     * Position interpolated between the last two ticks
+     */
+    public double getRenderX(int i, double alpha) { return prevX[i] + (x[i] - prevX[i]) * alpha; }
+    public double getRenderY(int i, double alpha) { return prevY[i] + (y[i] - prevY[i]) * alpha; }
+
+    // Getters
+    public int size() { return size; }
+    public int getCapacity() { return x.length; }
+    public String getKernelName() { return KERNEL.getClass().getSimpleName(); }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getDx(int i) { return dx[i]; }
+    public double getDy(int i) { return dy[i]; }
+    public double getRadius(int i) { return radius[i]; }
+
+    // Setters
+    public void setPosition(int i, double x, double y) { this.x[i] = x; this.y[i] = y; }
+    public void setVelocity(int i, double dx, double dy) { this.dx[i] = dx; this.dy[i] = dy; }
+}
@@ -0,0 +1,241 @@
+package com.breakout.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ball Sweep - Sort-and-sweep broadphase for ball-to-ball collisions
+ * Sweeps along x inside horizontal bands: every ball has an entry in each
+ * band its bounding box touches, and entries are kept sorted by
+ * (band, left edge). The sweep only tests pairs in the same band whose
+ * x intervals overlap, so crowded screens do not degrade into testing
+ * every ball against every ball in the same columns.
+ *
+ * Features:
+ * - Order kept between ticks: balls barely move, so the kept entries
+ *   are re-sorted with an insertion sort in close to O(n), and entries
+ *   for new balls or newly touched bands are sorted apart and merged in
+ * - Ties are broken by list index, so the order, and with it the order
+ *   in which pairs are resolved, depends only on the current state
+ *   (a restored snapshot collides exactly like the original run)
+ * - A pair that shares two bands is only tested in the first one
+ * - Elastic collisions between equal masses: the velocity components
+ *   along the contact normal are exchanged
+ * - No allocation once the arrays have grown to the ball count
+ */
+public class BallSweep {
+    private final double bandHeight;
+    private Entries entries;
+    private Entries merged;          // Merge target, swapped with entries
+    private final Entries added;     // Entries that were not there last tick
+    private int stamp;               // Tick counter that marks the balls still in the list
+
+    /**
+     * @param bandHeight height of the bands; at least a ball diameter keeps
+     *        every ball in one or two bands
+     */
+    public BallSweep(int capacity, double bandHeight) {
+        this.bandHeight = bandHeight;
+        this.entries = new Entries(capacity * 2);
+        this.merged = new Entries(capacity * 2);
+        this.added = new Entries(capacity * 2);
+    }
+
+    /**
+     * Collide every pair of overlapping, approaching balls
+     * @param ignored a ball that takes no part (the ball stuck to the paddle), may be null
+     * @param events receives a BALL_HIT_BALL event per collision
+     * @return number of pairs tested by the narrow phase
+     */
+    int collide(List<Ball> balls, Ball ignored, GameEventBuffer events) {
+        update(balls);
+        Ball[] ball = entries.ball;
+        int[] band = entries.band;
+        double[] minX = entries.minX, maxX = entries.maxX;
+        int size = entries.size;
+
+        int tests = 0;
+        for (int i = 0; i < size; i++) {
+            Ball a = ball[i];
+            if (!a.isLaunched() || a == ignored) continue;
+            for (int j = i + 1; j < size && band[j] == band[i] && minX[j] <= maxX[i]; j++) {
+                Ball b = ball[j];
+                if (!b.isLaunched() || b == ignored) continue;
+                if (band[i] != Math.max(a.sweepBand, b.sweepBand)) continue;   // Tested in an earlier band
+                tests++;
+                if (resolve(a, b)) {
+                    events.publish(GameEvent.BALL_HIT_BALL, GameEventBuffer.NO_ENTITY,
+                            (a.getX() + b.getX()) / 2, (a.getY() + b.getY()) / 2, 0);
+                }
+            }
+        }
+        return tests;
+    }
+
+    /**
+     * Bring the sorted entries up to date with the ball list
+     */
+    private void update(List<Ball> balls) {
+        int count = balls.size();
+        stamp++;
+        for (int i = 0; i < count; i++) {
+            Ball ball = balls.get(i);
+            ball.sweepStamp = stamp;
+            ball.sweepIndex = i;
+            ball.sweepBand = bandOf(ball.getY() - ball.getRadius());
+            ball.sweepBandEnd = bandOf(ball.getY() + ball.getRadius());
+            ball.sweepBands = 0;
+        }
+
+        // Keep the entries of balls still in the list and in the band, with fresh edges
+        int kept = 0;
+        for (int i = 0; i < entries.size; i++) {
+            Ball ball = entries.ball[i];
+            int band = entries.band[i];
+            if (ball.sweepStamp == stamp && band >= ball.sweepBand && band <= ball.sweepBandEnd) {
+                ball.sweepBands |= 1L << (band - ball.sweepBand);
+                entries.set(kept++, ball, band);
+            }
+        }
+        entries.truncate(kept);
+        entries.insertionSort();
+
+        // New balls and newly touched bands
+        added.truncate(0);
+        for (int i = 0; i < count; i++) {
+            Ball ball = balls.get(i);
+            for (int band = ball.sweepBand; band <= ball.sweepBandEnd; band++) {
+                if ((ball.sweepBands & (1L << (band - ball.sweepBand))) == 0) {
+                    added.set(added.size, ball, band);
+                }
+            }
+        }
+        if (added.size == 0) return;
+        added.insertionSort();
+
+        merged.merge(entries, added);
+        Entries previous = entries;
+        entries = merged;
+        merged = previous;
+        merged.truncate(0);
+    }
+
+    private int bandOf(double y) {
+        return (int) Math.floor(y / bandHeight);
+    }
+
+    /**
+     * Elastic collision of two equal-mass balls
+     * Balls that overlap but already move apart (fresh clones) are left alone.
+     * @return true if the balls collided
+     */
+    private static boolean resolve(Ball a, Ball b) {
+        double nx = b.getX() - a.getX();
+        double ny = b.getY() - a.getY();
+        double reach = a.getRadius() + b.getRadius();
+        double distanceSquared = nx * nx + ny * ny;
+        if (distanceSquared >= reach * reach || distanceSquared == 0) return false;
+
+        // Closing speed along the normal (positive when approaching)
+        double closing = ((a.getDx() - b.getDx()) * nx + (a.getDy() - b.getDy()) * ny) / distanceSquared;
+        if (closing <= 0) return false;
+
+        a.setVelocity(a.getDx() - closing * nx, a.getDy() - closing * ny);
+        b.setVelocity(b.getDx() + closing * nx, b.getDy() + closing * ny);
+        return true;
+    }
+
+    public int size() { return entries.size; }
+
+    /**
+     * Sweep entries (ball, band, x interval) in parallel arrays
+     */
+    private static final class Entries {
+        Ball[] ball;
+        int[] band;
+        double[] minX, maxX;
+        int size;
+
+        Entries(int capacity) {
+            capacity = Math.max(1, capacity);
+            ball = new Ball[capacity];
+            band = new int[capacity];
+            minX = new double[capacity];
+            maxX = new double[capacity];
+        }
+
+        void set(int i, Ball b, int bandIndex) {
+            if (i >= ball.length) grow(i + 1);
+            ball[i] = b;
+            band[i] = bandIndex;
+            minX[i] = b.getX() - b.getRadius();
+            maxX[i] = b.getX() + b.getRadius();
+            if (i >= size) size = i + 1;
+        }
+
+        void truncate(int newSize) {
+            Arrays.fill(ball, newSize, size, null);
+            size = newSize;
+        }
+
+        /**
+         * Sort by (band, left edge, list index); close to linear on nearly sorted entries
+         */
+        void insertionSort() {
+            for (int i = 1; i < size; i++) {
+                Ball b = ball[i];
+                int bandIndex = band[i];
+                double left = minX[i], right = maxX[i];
+                int j = i - 1;
+                while (j >= 0 && before(bandIndex, left, b, j)) {
+                    ball[j + 1] = ball[j];
+                    band[j + 1] = band[j];
+                    minX[j + 1] = minX[j];
+                    maxX[j + 1] = maxX[j];
+                    j--;
+                }
+                ball[j + 1] = b;
+                band[j + 1] = bandIndex;
+                minX[j + 1] = left;
+                maxX[j + 1] = right;
+            }
+        }
+
+        /**
+         * Does an entry come before entry j?
+         */
+        private boolean before(int bandIndex, double left, Ball b, int j) {
+            if (bandIndex != band[j]) return bandIndex < band[j];
+            if (left != minX[j]) return left < minX[j];
+            return b.sweepIndex < ball[j].sweepIndex;
+        }
+
+        /**
+         * Replace the contents with the merge of two sorted entry lists
+         */
+        void merge(Entries a, Entries b) {
+            int total = a.size + b.size;
+            if (total > ball.length) grow(total);
+            int i = 0, j = 0;
+            for (int k = 0; k < total; k++) {
+                boolean fromA = j >= b.size
+                        || (i < a.size && b.before(a.band[i], a.minX[i], a.ball[i], j));
+                Entries from = fromA ? a : b;
+                int index = fromA ? i++ : j++;
+                ball[k] = from.ball[index];
+                band[k] = from.band[index];
+                minX[k] = from.minX[index];
+                maxX[k] = from.maxX[index];
+            }
+            size = total;
+        }
+
+        private void grow(int capacity) {
+            int newCapacity = Math.max(capacity, ball.length * 2);
+            ball = Arrays.copyOf(ball, newCapacity);
+            band = Arrays.copyOf(band, newCapacity);
+            minX = Arrays.copyOf(minX, newCapacity);
+            maxX = Arrays.copyOf(maxX, newCapacity);
+        }
+    }
+}
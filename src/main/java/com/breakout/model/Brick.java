@@ -1,7 +1,5 @@
 package com.breakout.model;
 
-import javafx.scene.paint.Color;
-
 /**
  * Brick Entity Class
  * Represents breakable bricks with different types and hit points
@@ -10,59 +8,52 @@ import javafx.scene.paint.Color;
  * - Multiple brick types with different durability
  * - Power-up/penalty drop on destruction
  * - Visual feedback on damage
+ *
+ * A Brick is a thin view over one slot of a BrickStore; all state lives
+ * in the store's primitive arrays.
  */
 public class Brick {
-    private double x, y;
-    private int width, height;
-    private int hitPoints;
-    private int maxHitPoints;
-    private boolean active;
-    private BrickType type;
-    private int points;
-    private boolean hasPowerUp;
-    private boolean hasPenalty;
+    private final BrickStore store;
+    private final int index;
 
     /**
      * Brick types with different behaviors
      */
     public enum BrickType {
-        NORMAL(1, 10, Color.LIGHTGREEN),
-        HARD(2, 25, Color.ORANGE),
-        TOUGH(3, 50, Color.RED),
-        GOLD(2, 100, Color.GOLD),       // Bonus points brick
-        POWER(1, 15, Color.CYAN),       // Always drops power-up
-        PENALTY(1, 5, Color.DARKGRAY),  // Always drops penalty
-        UNBREAKABLE(-1, 0, Color.SLATEGRAY);
+        NORMAL(1, 10),
+        HARD(2, 25),
+        TOUGH(3, 50),
+        GOLD(2, 100),       // Bonus points brick
+        POWER(1, 15),       // Always drops power-up
+        PENALTY(1, 5),      // Always drops penalty
+        UNBREAKABLE(-1, 0);
 
         private final int hitPoints;
         private final int points;
-        private final Color color;
 
-        BrickType(int hitPoints, int points, Color color) {
+        BrickType(int hitPoints, int points) {
             this.hitPoints = hitPoints;
             this.points = points;
-            this.color = color;
         }
 
         public int getHitPoints() { return hitPoints; }
         public int getPoints() { return points; }
-        public Color getColor() { return color; }
     }
 
+    /**
+     * Create a standalone brick backed by its own single-slot store
+     */
     public Brick(double x, double y, int width, int height, BrickType type) {
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        this.height = height;
-        this.type = type;
-        this.hitPoints = type.getHitPoints();
-        this.maxHitPoints = type.getHitPoints();
-        this.points = type.getPoints();
-        this.active = true;
-
-        // Determine if brick has power-up or penalty
-        this.hasPowerUp = (type == BrickType.POWER);
-        this.hasPenalty = (type == BrickType.PENALTY);
+        this.store = new BrickStore(1);
+        this.index = store.add(x, y, width, height, type);
+    }
+
+    /**
+     * Create a view over a brick in a store
+     */
+    Brick(BrickStore store, int index) {
+        this.store = store;
+        this.index = index;
     }
 
     /**
@@ -70,38 +61,14 @@ public class Brick {
      * @return points earned (0 if not destroyed)
      */
     public int hit() {
-        if (!active || type == BrickType.UNBREAKABLE) {
-            return 0;
-        }
-
-        hitPoints--;
-
-        if (hitPoints <= 0) {
-            active = false;
-            return points;
-        }
-
-        return 0;
+        return store.hit(index);
     }
 
     /**
      * Check collision with ball
      */
     public boolean collidesWith(Ball ball) {
-        if (!active) return false;
-
-        double ballX = ball.getX();
-        double ballY = ball.getY();
-        int ballRadius = ball.getRadius();
-
-        double closestX = Math.max(x, Math.min(ballX, x + width));
-        double closestY = Math.max(y, Math.min(ballY, y + height));
-
-        double distanceX = ballX - closestX;
-        double distanceY = ballY - closestY;
-        double distance = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
-
-        return distance < ballRadius;
+        return store.collidesWith(index, ball.getX(), ball.getY(), ball.getRadius());
     }
 
     /**
@@ -110,9 +77,11 @@ public class Brick {
     public String getCollisionSide(Ball ball) {
         double ballX = ball.getX();
         double ballY = ball.getY();
+        int width = getWidth();
+        int height = getHeight();
 
-        double brickCenterX = x + width / 2.0;
-        double brickCenterY = y + height / 2.0;
+        double brickCenterX = getCenterX();
+        double brickCenterY = getCenterY();
 
         double dx = ballX - brickCenterX;
         double dy = ballY - brickCenterY;
@@ -127,56 +96,44 @@ public class Brick {
         }
     }
 
-    /**
-     * Get current color based on hit points remaining
-     */
-    public Color getColor() {
-        if (type == BrickType.UNBREAKABLE) {
-            return type.getColor();
-        }
-
-        Color baseColor = type.getColor();
-        double ratio = (double) hitPoints / maxHitPoints;
-        return baseColor.deriveColor(0, 1, ratio * 0.5 + 0.5, 1);
-    }
-
     /**
      * Set power-up flag
      */
     public void setPowerUp(boolean hasPowerUp) {
-        this.hasPowerUp = hasPowerUp;
+        store.setFlag(index, BrickStore.FLAG_POWER_UP, hasPowerUp);
     }
 
     /**
      * Set penalty flag
      */
     public void setPenalty(boolean hasPenalty) {
-        this.hasPenalty = hasPenalty;
+        store.setFlag(index, BrickStore.FLAG_PENALTY, hasPenalty);
     }
 
     // Getters
-    public double getX() { return x; }
-    public double getY() { return y; }
-    public int getWidth() { return width; }
-    public int getHeight() { return height; }
-    public boolean isActive() { return active; }
-    public BrickType getType() { return type; }
-    public int getHitPoints() { return hitPoints; }
-    public int getPoints() { return points; }
-    public boolean hasPowerUp() { return hasPowerUp; }
-    public boolean hasPenalty() { return hasPenalty; }
+    public int getIndex() { return index; }
+    public double getX() { return store.getX(index); }
+    public double getY() { return store.getY(index); }
+    public int getWidth() { return store.getWidth(index); }
+    public int getHeight() { return store.getHeight(index); }
+    public boolean isActive() { return store.isActive(index); }
+    public BrickType getType() { return store.getType(index); }
+    public int getHitPoints() { return store.getHitPoints(index); }
+    public int getPoints() { return getType().getPoints(); }
+    public boolean hasPowerUp() { return store.hasFlag(index, BrickStore.FLAG_POWER_UP); }
+    public boolean hasPenalty() { return store.hasFlag(index, BrickStore.FLAG_PENALTY); }
 
     /**
      * Get center X position
      */
     public double getCenterX() {
-        return x + width / 2.0;
+        return store.getCenterX(index);
     }
 
     /**
      * Get center Y position
      */
     public double getCenterY() {
-        return y + height / 2.0;
+        return store.getCenterY(index);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package com.breakout.model;
+
+import java.util.Arrays;
+
+/**
+ * Brick Grid - Uniform-grid broadphase
+ * Indexes bricks by the lattice cell they occupy so that a ball only
+ * tests the few bricks its bounding box can touch.
+ *
+ * Bricks are laid out on a regular lattice (offset + col * (width + padding)),
+ * so each cell holds at most one brick and a brick never leaves its cell.
+ * Lookups are therefore O(cells covered by the ball), independent of the
+ * number of bricks on the board.
+ */
+public class BrickGrid {
+    private double originX, originY;
+    private double cellWidth, cellHeight;
+    private int cols, rows;
+    private int[] cells;   // Brick index per cell, EMPTY if none
+
+    public static final int EMPTY = -1;
+
+    public BrickGrid() {
+        this.cells = new int[0];
+    }
+
+    /**
+     * Clear the grid and set up a new lattice
+     */
+    public void reset(double originX, double originY, double cellWidth, double cellHeight,
+                      int cols, int rows) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.cols = cols;
+        this.rows = rows;
+
+        int size = cols * rows;
+        if (cells.length < size) {
+            cells = new int[size];
+        }
+        Arrays.fill(cells, 0, size, EMPTY);
+    }
+
+    /**
+     * Set up the lattice of a level template with all its bricks indexed
+     */
+    public void load(LevelTemplate level) {
+        reset(level.getOffsetLeft(), level.getOffsetTop(),
+                level.getBrickWidth() + level.getPadding(), level.getBrickHeight() + level.getPadding(),
+                level.getCols(), level.getRows());
+        System.arraycopy(level.gridCells, 0, cells, 0, level.gridCells.length);
+    }
+
+    /**
+     * Clear all cells, keeping the lattice
+     */
+    public void clear() {
+        Arrays.fill(cells, 0, cols * rows, EMPTY);
+    }
+
+    /**
+     * Index a brick by its top-left corner
+     */
+    public void add(int brick, double x, double y) {
+        int cell = cellOf(x, y);
+        if (cell >= 0) cells[cell] = brick;
+    }
+
+    /**
+     * Remove a brick from the index (called once it is destroyed)
+     */
+    public void remove(int brick, double x, double y) {
+        int cell = cellOf(x, y);
+        if (cell >= 0 && cells[cell] == brick) cells[cell] = EMPTY;
+    }
+
+    private int cellOf(double x, double y) {
+        int col = (int) Math.floor((x - originX) / cellWidth + 1e-6);
+        int row = (int) Math.floor((y - originY) / cellHeight + 1e-6);
+        if (col < 0 || col >= cols || row < 0 || row >= rows) return -1;
+        return row * cols + col;
+    }
+
+    /**
+     * First column whose cell can overlap x (clamped to the grid)
+     */
+    public int colOf(double x) {
+        int col = (int) Math.floor((x - originX) / cellWidth);
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    /**
+     * First row whose cell can overlap y (clamped to the grid)
+     */
+    public int rowOf(double y) {
+        int row = (int) Math.floor((y - originY) / cellHeight);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    /**
+     * Check whether a box lies completely outside the grid
+     */
+    public boolean isOutside(double minX, double minY, double maxX, double maxY) {
+        return cols == 0 || rows == 0
+                || maxX < originX || minX > originX + cols * cellWidth
+                || maxY < originY || minY > originY + rows * cellHeight;
+    }
+
+    /**
+     * Get the brick index in a cell (EMPTY if none or destroyed)
+     */
+    public int get(int col, int row) {
+        return cells[row * cols + col];
+    }
+
+    /**
+     * Write the lattice and cell contents to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putDouble(originX);
+        s.putDouble(originY);
+        s.putDouble(cellWidth);
+        s.putDouble(cellHeight);
+        s.putInt(cols);
+        s.putInt(rows);
+        for (int i = 0, n = cols * rows; i < n; i++) s.putInt(cells[i]);
+    }
+
+    /**
+     * Read the grid written by save()
+     */
+    void restore(GameSnapshot s) {
+        double ox = s.getDouble();
+        double oy = s.getDouble();
+        double cw = s.getDouble();
+        double ch = s.getDouble();
+        int c = s.getInt();
+        int r = s.getInt();
+        reset(ox, oy, cw, ch, c, r);
+        for (int i = 0, n = c * r; i < n; i++) cells[i] = s.getInt();
+    }
+
+    // Getters
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+}
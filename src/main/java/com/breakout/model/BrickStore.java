@@ -0,0 +1,249 @@
+package com.breakout.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Brick Store - Structure-of-arrays brick storage
+ * Holds every brick of the board in flat primitive arrays
+ *
+ * Features:
+ * - Position, size, hit points, type and drop flags in parallel arrays
+ * - BitSet of live bricks
+ * - Running count of breakable bricks for O(1) level completion checks
+ * - Thin Brick views for code that works with brick objects
+ * - Change counters, so renderers can tell when to redraw
+ */
+public class BrickStore {
+    public static final byte FLAG_POWER_UP = 1;
+    public static final byte FLAG_PENALTY = 2;
+    private static final int LIVE = 0x80;   // Snapshot only: packed with the flags
+
+    private static final Brick.BrickType[] TYPES = Brick.BrickType.values();
+
+    private double[] x, y;
+    private int[] width, height;
+    private int[] hitPoints;
+    private byte[] type;
+    private byte[] flags;
+    private final BitSet live;
+    private int size;
+    private int breakableCount;
+    private Brick[] views;
+    private int version;         // Bumped by every change
+    private int layoutVersion;   // Bumped when bricks are added, removed or replaced
+
+    public BrickStore() {
+        this(16);
+    }
+
+    public BrickStore(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.width = new int[capacity];
+        this.height = new int[capacity];
+        this.hitPoints = new int[capacity];
+        this.type = new byte[capacity];
+        this.flags = new byte[capacity];
+        this.live = new BitSet(capacity);
+        this.views = new Brick[capacity];
+    }
+
+    /**
+     * Remove all bricks (views are kept for reuse)
+     */
+    public void clear() {
+        version++;
+        layoutVersion++;
+        live.clear();
+        size = 0;
+        breakableCount = 0;
+    }
+
+    /**
+     * Add a brick
+     * @return index of the new brick
+     */
+    public int add(double x, double y, int width, int height, Brick.BrickType type) {
+        ensureCapacity(size + 1);
+        version++;
+        layoutVersion++;
+        int i = size++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.hitPoints[i] = type.getHitPoints();
+        this.type[i] = (byte) type.ordinal();
+
+        // POWER and PENALTY bricks always drop
+        this.flags[i] = type == Brick.BrickType.POWER ? FLAG_POWER_UP
+                : type == Brick.BrickType.PENALTY ? FLAG_PENALTY : 0;
+
+        live.set(i);
+        if (type != Brick.BrickType.UNBREAKABLE) breakableCount++;
+        return i;
+    }
+
+    /**
+     * Replace all bricks with a level template's (plain array copies)
+     */
+    public void load(LevelTemplate level) {
+        int count = level.getBrickCount();
+        clear();
+        ensureCapacity(count);
+        System.arraycopy(level.x, 0, x, 0, count);
+        System.arraycopy(level.y, 0, y, 0, count);
+        System.arraycopy(level.width, 0, width, 0, count);
+        System.arraycopy(level.height, 0, height, 0, count);
+        System.arraycopy(level.hitPoints, 0, hitPoints, 0, count);
+        System.arraycopy(level.type, 0, type, 0, count);
+        System.arraycopy(level.flags, 0, flags, 0, count);
+        live.set(0, count);
+        size = count;
+        breakableCount = level.breakableCount;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length) return;
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        width = Arrays.copyOf(width, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+        hitPoints = Arrays.copyOf(hitPoints, newCapacity);
+        type = Arrays.copyOf(type, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    /**
+     * Hit a brick, reduce hit points
+     * @return points earned (0 if not destroyed)
+     */
+    public int hit(int i) {
+        Brick.BrickType t = TYPES[type[i]];
+        if (!live.get(i) || t == Brick.BrickType.UNBREAKABLE) {
+            return 0;
+        }
+
+        hitPoints[i]--;
+        version++;
+
+        if (hitPoints[i] <= 0) {
+            live.clear(i);
+            breakableCount--;
+            return t.getPoints();
+        }
+
+        return 0;
+    }
+
+    /**
+     * Check collision with a ball (circle vs rectangle, no square root)
+     */
+    public boolean collidesWith(int i, double ballX, double ballY, double ballRadius) {
+        if (!live.get(i)) return false;
+
+        double closestX = Math.max(x[i], Math.min(ballX, x[i] + width[i]));
+        double closestY = Math.max(y[i], Math.min(ballY, y[i] + height[i]));
+
+        double distanceX = ballX - closestX;
+        double distanceY = ballY - closestY;
+
+        return distanceX * distanceX + distanceY * distanceY < ballRadius * ballRadius;
+    }
+
+    /**
+     * Get a brick view for an index (created once and reused)
+     */
+    public Brick view(int i) {
+        Brick brick = views[i];
+        if (brick == null) {
+            brick = new Brick(this, i);
+            views[i] = brick;
+        }
+        return brick;
+    }
+
+    /**
+     * Write every brick to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putInt(size);
+        s.putInt(breakableCount);
+        for (int i = 0; i < size; i++) {
+            s.putDouble(x[i]);
+            s.putDouble(y[i]);
+            s.putInt(width[i]);
+            s.putInt(height[i]);
+            s.putInt(hitPoints[i]);
+            s.putByte(type[i]);
+            s.putByte(live.get(i) ? flags[i] | LIVE : flags[i]);
+        }
+    }
+
+    /**
+     * Read the bricks written by save()
+     * The change counters only move if the restored bricks differ, so a
+     * renderer fed one snapshot per frame redraws only what changed.
+     */
+    void restore(GameSnapshot s) {
+        int count = s.getInt();
+        int breakable = s.getInt();
+        ensureCapacity(count);
+        boolean layoutChanged = count != size;
+        boolean changed = false;
+        for (int i = 0; i < count; i++) {
+            double bx = s.getDouble();
+            double by = s.getDouble();
+            int w = s.getInt();
+            int h = s.getInt();
+            int hp = s.getInt();
+            byte t = (byte) s.getByte();
+            int f = s.getByte();
+            byte bf = (byte) (f & ~LIVE);
+            boolean isLive = (f & LIVE) != 0;
+
+            layoutChanged |= bx != x[i] || by != y[i] || w != width[i] || h != height[i] || t != type[i];
+            changed |= hp != hitPoints[i] || bf != flags[i] || isLive != live.get(i);
+            x[i] = bx;
+            y[i] = by;
+            width[i] = w;
+            height[i] = h;
+            hitPoints[i] = hp;
+            type[i] = t;
+            flags[i] = bf;
+            live.set(i, isLive);
+        }
+        live.clear(count, Math.max(count, live.length()));
+        size = count;
+        breakableCount = breakable;
+        if (layoutChanged) layoutVersion++;
+        if (layoutChanged || changed) version++;
+    }
+
+    // Flags
+    public void setFlag(int i, byte flag, boolean on) {
+        version++;
+        flags[i] = (byte) (on ? flags[i] | flag : flags[i] & ~flag);
+    }
+    public boolean hasFlag(int i, byte flag) { return (flags[i] & flag) != 0; }
+
+    // Getters
+    public int size() { return size; }
+    public int getBreakableCount() { return breakableCount; }
+    public int getLiveCount() { return live.cardinality(); }
+    public int getVersion() { return version; }
+    public int getLayoutVersion() { return layoutVersion; }
+    public boolean isActive(int i) { return live.get(i); }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public int getWidth(int i) { return width[i]; }
+    public int getHeight(int i) { return height[i]; }
+    public int getHitPoints(int i) { return hitPoints[i]; }
+    public Brick.BrickType getType(int i) { return TYPES[type[i]]; }
+    public double getCenterX(int i) { return x[i] + width[i] / 2.0; }
+    public double getCenterY(int i) { return y[i] + height[i] / 2.0; }
+}
@@ -0,0 +1,48 @@
+package com.breakout.model;
+
+/**
+ * Contact - Result of a swept collision query
+ * Holds the earliest time of impact found so far and its contact normal
+ *
+ * A single instance is reused for every query of a tick, so collision
+ * detection does not allocate.
+ */
+public class Contact {
+    public static final int NONE = 0;
+    public static final int WALL = 1;
+    public static final int PADDLE = 2;
+    public static final int BRICK = 3;
+
+    public double time;       // Fraction of the motion segment [0, 1]
+    public double normalX;    // Unit normal pointing away from the surface hit
+    public double normalY;
+    public int kind;
+    public int index;         // Brick index for BRICK contacts
+
+    /**
+     * Forget the previous result; only contacts earlier than limit are kept
+     */
+    public void reset(double limit) {
+        this.time = limit;
+        this.normalX = 0;
+        this.normalY = 0;
+        this.kind = NONE;
+        this.index = -1;
+    }
+
+    /**
+     * Record a contact if it is earlier than the current one
+     * @return true if the contact was recorded
+     */
+    public boolean offer(double time, double normalX, double normalY) {
+        if (time >= this.time) return false;
+        this.time = time;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        return true;
+    }
+
+    public boolean hasHit() {
+        return kind != NONE;
+    }
+}
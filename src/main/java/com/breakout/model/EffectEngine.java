@@ -0,0 +1,182 @@
+package com.breakout.model;
+
+/**
+ * Effect Engine - Timers of the active timed effects
+ * Keyed by EffectType, driven by simulation time
+ *
+ * Features:
+ * - Bitmask of active effects for O(1) "is X active" checks
+ * - Indexed binary min-heap of expiry times: the next expiry is found in
+ *   O(1) and starting, refreshing or cancelling an effect costs O(log n)
+ * - Fixed-size arrays (one slot per effect type), no allocation
+ * - Ties expire in EffectType order, so runs stay deterministic
+ */
+public class EffectEngine {
+    private static final int COUNT = EffectType.VALUES.length;
+
+    private long activeMask;
+    private final double[] expiresAt = new double[COUNT];
+    private final double[] duration = new double[COUNT];
+    private final int[] heap = new int[COUNT];        // Effect ordinals ordered by expiry
+    private final int[] position = new int[COUNT];    // Heap slot per effect, -1 if inactive
+    private int size;
+
+    public EffectEngine() {
+        clear();
+    }
+
+    /**
+     * Start an effect or apply its stacking rule if already active
+     * @param now current simulation time
+     * @return true if the effect was not active before
+     */
+    public boolean activate(EffectType type, double seconds, double now) {
+        int t = type.ordinal();
+        if (isActive(type)) {
+            if (type.getStacking() == EffectType.Stacking.EXTEND) {
+                expiresAt[t] += seconds;
+                duration[t] += seconds;
+            } else {
+                expiresAt[t] = now + seconds;
+                duration[t] = seconds;
+            }
+            siftDown(position[t]);
+            siftUp(position[t]);
+            return false;
+        }
+
+        expiresAt[t] = now + seconds;
+        duration[t] = seconds;
+        activeMask |= type.mask();
+        heap[size] = t;
+        position[t] = size;
+        siftUp(size++);
+        return true;
+    }
+
+    /**
+     * Stop an effect without expiring it
+     * @return true if it was active
+     */
+    public boolean cancel(EffectType type) {
+        if (!isActive(type)) return false;
+        removeAt(position[type.ordinal()]);
+        return true;
+    }
+
+    /**
+     * Remove the next effect that has expired at the given time
+     * @return the expired effect, or null if none is due
+     */
+    public EffectType pollExpired(double now) {
+        if (size == 0 || expiresAt[heap[0]] > now) return null;
+        int t = heap[0];
+        removeAt(0);
+        return EffectType.VALUES[t];
+    }
+
+    public void clear() {
+        activeMask = 0;
+        size = 0;
+        for (int i = 0; i < COUNT; i++) position[i] = -1;
+    }
+
+    public boolean isActive(EffectType type) {
+        return (activeMask & type.mask()) != 0;
+    }
+
+    public boolean isEmpty() { return activeMask == 0; }
+    public long getActiveMask() { return activeMask; }
+
+    /**
+     * Seconds left for an active effect (0 if inactive)
+     */
+    public double getRemaining(EffectType type, double now) {
+        return isActive(type) ? Math.max(0, expiresAt[type.ordinal()] - now) : 0;
+    }
+
+    /**
+     * Total duration of the current activation (for progress bars)
+     */
+    public double getDuration(EffectType type) {
+        return isActive(type) ? duration[type.ordinal()] : 0;
+    }
+
+    /**
+     * Write the active effects to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putInt(size);
+        for (int i = 0; i < size; i++) {
+            int t = heap[i];
+            s.putByte(t);
+            s.putDouble(expiresAt[t]);
+            s.putDouble(duration[t]);
+        }
+    }
+
+    /**
+     * Read the effects written by save() (heap order is kept as saved)
+     */
+    void restore(GameSnapshot s) {
+        clear();
+        size = s.getInt();
+        for (int i = 0; i < size; i++) {
+            int t = s.getByte();
+            expiresAt[t] = s.getDouble();
+            duration[t] = s.getDouble();
+            heap[i] = t;
+            position[t] = i;
+            activeMask |= EffectType.VALUES[t].mask();
+        }
+    }
+
+    // ==================== HEAP ====================
+
+    private void removeAt(int slot) {
+        int t = heap[slot];
+        activeMask &= ~EffectType.VALUES[t].mask();
+        position[t] = -1;
+
+        int last = heap[--size];
+        if (slot < size) {
+            heap[slot] = last;
+            position[last] = slot;
+            siftDown(slot);
+            siftUp(slot);
+        }
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >> 1;
+            if (!before(heap[slot], heap[parent])) break;
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int left = 2 * slot + 1;
+            if (left >= size) break;
+            int child = left + 1 < size && before(heap[left + 1], heap[left]) ? left + 1 : left;
+            if (!before(heap[child], heap[slot])) break;
+            swap(slot, child);
+            slot = child;
+        }
+    }
+
+    private boolean before(int a, int b) {
+        return expiresAt[a] < expiresAt[b] || (expiresAt[a] == expiresAt[b] && a < b);
+    }
+
+    private void swap(int i, int j) {
+        int a = heap[i];
+        int b = heap[j];
+        heap[i] = b;
+        heap[j] = a;
+        position[b] = i;
+        position[a] = j;
+    }
+}
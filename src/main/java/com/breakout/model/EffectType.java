@@ -0,0 +1,55 @@
+package com.breakout.model;
+
+/**
+ * Effect Type Enum
+ * Timed effects started by power-ups and penalties
+ *
+ * Stacking rules decide what collecting an already active effect does:
+ * - REFRESH: the timer restarts at the full duration
+ * - EXTEND:  the duration is added to the remaining time
+ * Effects with an opposite (wide vs narrow paddle) cancel it when started.
+ */
+public enum EffectType {
+    // Power-ups
+    EXTEND_PADDLE("Extend Paddle", false, Stacking.REFRESH),
+    SLOW_BALL("Slow Ball", false, Stacking.REFRESH),
+    SCORE_BOOST("2x Score", false, Stacking.EXTEND),
+    STICKY_PADDLE("Sticky Paddle", false, Stacking.REFRESH),
+    SHIELD("Bottom Shield", false, Stacking.REFRESH),
+
+    // Penalties
+    SPEED_UP("Speed Up!", true, Stacking.REFRESH),
+    SHRINK_PADDLE("Shrink Paddle", true, Stacking.REFRESH),
+    REVERSE_CONTROLS("Reversed!", true, Stacking.REFRESH),
+    BLIND_ZONE("Blind Zone", true, Stacking.EXTEND);
+
+    public enum Stacking { REFRESH, EXTEND }
+
+    static final EffectType[] VALUES = values();
+
+    private final String displayName;
+    private final boolean penalty;
+    private final Stacking stacking;
+
+    EffectType(String displayName, boolean penalty, Stacking stacking) {
+        this.displayName = displayName;
+        this.penalty = penalty;
+        this.stacking = stacking;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public boolean isPenalty() { return penalty; }
+    public Stacking getStacking() { return stacking; }
+    public long mask() { return 1L << ordinal(); }
+
+    /**
+     * Effect that cannot be active at the same time, null if none
+     */
+    public EffectType getOpposite() {
+        return switch (this) {
+            case EXTEND_PADDLE -> SHRINK_PADDLE;
+            case SHRINK_PADDLE -> EXTEND_PADDLE;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.breakout.model;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Entity Pool - Fixed-capacity object pool
+ * Hands out preallocated entities so gameplay does not allocate
+ *
+ * Design Pattern: Object Pool
+ *
+ * Features:
+ * - Every instance is created up front by the factory
+ * - acquire() returns null when the pool is exhausted; callers skip the spawn
+ * - Acquired entities must be re-initialised by the caller (init/reset)
+ * - Occupancy metrics: in use, peak in use, exhausted requests
+ */
+public class EntityPool<T> {
+    private final String name;
+    private final Object[] free;
+    private int freeCount;
+    private int peakInUse;
+    private long acquired;
+    private long exhausted;
+
+    public EntityPool(String name, int capacity, Supplier<T> factory) {
+        this.name = name;
+        this.free = new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            free[i] = factory.get();
+        }
+        this.freeCount = capacity;
+    }
+
+    /**
+     * Take an entity from the pool
+     * @return a free entity, or null if all are in use
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (freeCount == 0) {
+            exhausted++;
+            return null;
+        }
+        T entity = (T) free[--freeCount];
+        free[freeCount] = null;
+        acquired++;
+        peakInUse = Math.max(peakInUse, getInUse());
+        return entity;
+    }
+
+    /**
+     * Give an entity back to the pool
+     */
+    public void release(T entity) {
+        if (freeCount == free.length) {
+            throw new IllegalStateException(name + " pool: released more entities than it holds");
+        }
+        free[freeCount++] = entity;
+    }
+
+    /**
+     * Release every entity in a list and clear it
+     */
+    public void releaseAll(List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            release(entities.get(i));
+        }
+        entities.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s pool: %d/%d in use, peak %d, %d acquired, %d exhausted",
+                name, getInUse(), getCapacity(), peakInUse, acquired, exhausted);
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public int getCapacity() { return free.length; }
+    public int getInUse() { return free.length - freeCount; }
+    public int getPeakInUse() { return peakInUse; }
+    public long getAcquiredCount() { return acquired; }
+    public long getExhaustedCount() { return exhausted; }
+}
@@ -1,7 +1,6 @@
 package com.breakout.model;
 
 import com.breakout.config.GameConfig;
-import javafx.scene.paint.Color;
 
 /**
  * FallingBrick Entity Class
@@ -15,64 +14,94 @@ import javafx.scene.paint.Color;
  */
 public class FallingBrick {
     private double x, y;
+    private double prevY, prevRotation;   // State at the start of the last tick (for interpolation)
     private int width, height;
     private double fallSpeed;
     private boolean active;
     private int hitPoints;
-    private Color color;
+    private Brick.BrickType sourceType;   // Type of the brick it broke off from (null if random)
     private double rotation;
     private double rotationSpeed;
     private GameConfig config;
 
+    private static final Brick.BrickType[] SOURCE_TYPES = Brick.BrickType.values();
+
     public FallingBrick(double x, double y, int width, int height) {
+        this(x, y, width, height, 0);
+    }
+
+    public FallingBrick(double x, double y, int width, int height, double rotationSpeed) {
         this.config = GameConfig.getInstance();
+        init(x, y, width, height, rotationSpeed);
+    }
+
+    /**
+     * (Re)initialise as a fresh falling brick (pooled instances)
+     */
+    public void init(double x, double y, int width, int height, double rotationSpeed) {
         this.x = x;
         this.y = y;
+        this.prevY = y;
         this.width = width;
         this.height = height;
         this.fallSpeed = config.getFallingBrickSpeed();
         this.active = true;
         this.hitPoints = 1;
-        this.color = Color.DARKGRAY;
         this.rotation = 0;
-        this.rotationSpeed = (Math.random() - 0.5) * 4; // Random rotation
+        this.prevRotation = 0;
+        this.rotationSpeed = rotationSpeed;
+        this.sourceType = null;
     }
 
     /**
      * Create falling brick from existing brick
      */
-    public static FallingBrick fromBrick(Brick brick) {
+    public static FallingBrick fromBrick(Brick brick, GameRandom random) {
         FallingBrick fb = new FallingBrick(
                 brick.getX() + brick.getWidth() / 2.0,
                 brick.getY() + brick.getHeight() / 2.0,
                 brick.getWidth(),
-                brick.getHeight()
+                brick.getHeight(),
+                (random.nextDouble() - 0.5) * 4   // Random rotation
         );
-        fb.color = brick.getColor().darker();
+        fb.sourceType = brick.getType();
         return fb;
     }
 
     /**
      * Create random falling brick at top of screen
      */
-    public static FallingBrick createRandom() {
-        GameConfig config = GameConfig.getInstance();
-        double x = Math.random() * (config.getWindowWidth() - config.getBrickWidth())
+    public static FallingBrick createRandom(GameRandom random) {
+        FallingBrick fb = new FallingBrick(0, 0, 0, 0);
+        fb.initRandom(random);
+        return fb;
+    }
+
+    /**
+     * (Re)initialise as a random falling brick at top of screen
+     */
+    public void initRandom(GameRandom random) {
+        double x = random.nextDouble() * (config.getWindowWidth() - config.getBrickWidth())
                 + config.getBrickWidth() / 2.0;
-        return new FallingBrick(x, 50, config.getBrickWidth(), config.getBrickHeight());
+        init(x, 50, config.getBrickWidth(), config.getBrickHeight(),
+                (random.nextDouble() - 0.5) * 4);
     }
 
     /**
      * Update falling brick position
+     * @param deltaTime simulated seconds since the last tick
      */
-    public void update() {
+    public void update(double deltaTime) {
         if (!active) return;
 
-        y += fallSpeed;
-        rotation += rotationSpeed;
+        double step = deltaTime * config.getBaseFrameRate();
+        prevY = y;
+        prevRotation = rotation;
+        y += fallSpeed * step;
+        rotation += rotationSpeed * step;
 
         // Accelerate slightly
-        fallSpeed += 0.02;
+        fallSpeed += 0.02 * step;
 
         // Deactivate if falls below screen
         if (y > config.getWindowHeight() + height) {
@@ -146,12 +175,55 @@ public class FallingBrick {
         active = false;
     }
 
+    /**
+     * Write the falling brick state to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putDouble(x);
+        s.putDouble(y);
+        s.putDouble(prevY);
+        s.putDouble(prevRotation);
+        s.putInt(width);
+        s.putInt(height);
+        s.putDouble(fallSpeed);
+        s.putBoolean(active);
+        s.putInt(hitPoints);
+        s.putByte(sourceType == null ? -1 : sourceType.ordinal());
+        s.putDouble(rotation);
+        s.putDouble(rotationSpeed);
+    }
+
+    /**
+     * Read the falling brick state written by save()
+     */
+    void restore(GameSnapshot s) {
+        x = s.getDouble();
+        y = s.getDouble();
+        prevY = s.getDouble();
+        prevRotation = s.getDouble();
+        width = s.getInt();
+        height = s.getInt();
+        fallSpeed = s.getDouble();
+        active = s.getBoolean();
+        hitPoints = s.getInt();
+        int source = s.getByte();
+        sourceType = source < 0 ? null : SOURCE_TYPES[source];
+        rotation = s.getDouble();
+        rotationSpeed = s.getDouble();
+    }
+
+    /**
+     * State interpolated between the last two ticks
+     */
+    public double getRenderY(double alpha) { return prevY + (y - prevY) * alpha; }
+    public double getRenderRotation(double alpha) { return prevRotation + (rotation - prevRotation) * alpha; }
+
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     public boolean isActive() { return active; }
-    public Color getColor() { return color; }
+    public Brick.BrickType getSourceType() { return sourceType; }
     public double getRotation() { return rotation; }
 }
\ No newline at end of file
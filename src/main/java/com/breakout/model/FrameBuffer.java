@@ -0,0 +1,57 @@
+package com.breakout.model;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Frame Buffer - Lock-free hand-over of frames from the simulation thread
+ * to the render thread
+ *
+ * Double buffering with a spare: the writer fills its back frame while
+ * the reader draws its front frame, and finished frames are exchanged
+ * through a third, shared slot. Neither side ever waits for the other.
+ *
+ * Features:
+ * - publish() swaps the back frame into the shared slot (one atomic swap)
+ * - poll() takes the shared frame if it is newer than the front frame
+ *   (one read, one atomic swap); frames the reader missed are skipped
+ * - The atomic swap orders the writes into a frame before the reads from it
+ * - Exactly one writer thread and one reader thread
+ */
+public class FrameBuffer {
+    private final AtomicReference<FrameSnapshot> shared = new AtomicReference<>(new FrameSnapshot());
+    private FrameSnapshot back = new FrameSnapshot();    // Owned by the writer
+    private FrameSnapshot front = new FrameSnapshot();   // Owned by the reader
+    private long published;                             // Writer's sequence counter
+
+    /**
+     * Frame to fill before the next publish() (writer thread)
+     */
+    public FrameSnapshot getBack() {
+        return back;
+    }
+
+    /**
+     * Hand the back frame to the reader (writer thread)
+     */
+    public void publish() {
+        back.sequence = ++published;
+        back = shared.getAndSet(back);
+    }
+
+    /**
+     * Take the newest published frame, if any is newer than the front one (reader thread)
+     * @return true if the front frame changed
+     */
+    public boolean poll() {
+        if (shared.get().sequence <= front.sequence) return false;
+        front = shared.getAndSet(front);
+        return true;
+    }
+
+    /**
+     * Frame the reader is drawing (reader thread)
+     */
+    public FrameSnapshot getFront() {
+        return front;
+    }
+}
@@ -0,0 +1,46 @@
+package com.breakout.model;
+
+/**
+ * Frame Snapshot - Everything the view needs to draw one frame
+ * Captured by the simulation thread after its ticks and applied to a
+ * render-side GameModel replica, which the view draws as usual.
+ *
+ * Features:
+ * - Simulation state as a GameSnapshot (entity positions, previous
+ *   positions for interpolation, bricks, effects, score, lives, state)
+ * - The view-only state snapshots leave out: name input and the
+ *   player profile values shown in the menu and HUD
+ * - Tick time, so the renderer can interpolate between the last two ticks
+ * - Reused: capturing and applying allocate nothing once the buffers
+ *   have grown
+ */
+public class FrameSnapshot {
+    private final GameSnapshot state = new GameSnapshot();
+    private final PlayerProfile profile = PlayerProfile.offline();
+    private final StringBuilder nameInput = new StringBuilder();
+    private long tickTime;     // System.nanoTime() of the last tick
+    long sequence;             // Set by FrameBuffer.publish
+
+    /**
+     * Copy a model's state (simulation thread)
+     * @param tickTime System.nanoTime() at which the model's last tick was due
+     */
+    public void capture(GameModel model, long tickTime) {
+        model.saveSnapshot(state);
+        profile.copyFrom(model.getPlayerProfile());
+        model.copyNameInput(nameInput);
+        this.tickTime = tickTime;
+    }
+
+    /**
+     * Make a replica model show this frame (render thread)
+     */
+    public void applyTo(GameModel replica) {
+        replica.restoreSnapshot(state);
+        replica.getPlayerProfile().copyFrom(profile);
+        replica.setNameInput(nameInput);
+    }
+
+    public long getTickTime() { return tickTime; }
+    public long getSequence() { return sequence; }
+}
@@ -0,0 +1,38 @@
+package com.breakout.model;
+
+/**
+ * Game Event Enum
+ * Things that happen in the model that other layers may react to
+ * (sound effects, music, visual effects, statistics)
+ *
+ * The model only reports what happened; it never plays sounds itself,
+ * which keeps the simulation free of JavaFX and audio dependencies.
+ *
+ * Events are queued in a GameEventBuffer as (type, entity, x, y, value);
+ * entity is -1 and x, y are 0 where they do not apply.
+ */
+public enum GameEvent {
+    // Gameplay
+    BALL_LAUNCHED,      // x/y = ball position
+    BALL_HIT_WALL,      // x/y = ball position
+    BALL_HIT_PADDLE,    // x/y = ball position
+    BALL_HIT_BALL,      // x/y = midpoint of the two balls
+    BALL_HIT_BRICK,     // entity = brick index, x/y = brick centre
+    BRICK_DESTROYED,    // entity = brick index (-1 for falling bricks), x/y = centre, value = points
+    POWER_UP_COLLECTED, // x/y = pickup position, value = PowerUpType ordinal
+    PENALTY_COLLECTED,  // x/y = pickup position, value = PenaltyType ordinal
+    LIFE_LOST,
+
+    // Game flow
+    LEVEL_STARTED,      // value = level number
+    LEVEL_COMPLETE,
+    GAME_OVER,
+    VICTORY,
+    GAME_PAUSED,
+    GAME_RESUMED,
+
+    // Menus
+    MENU_ENTERED,
+    MENU_SELECT,
+    MENU_CONFIRM
+}
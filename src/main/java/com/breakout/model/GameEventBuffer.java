@@ -0,0 +1,116 @@
+package com.breakout.model;
+
+/**
+ * Game Event Buffer - Preallocated ring buffer of game events
+ * Decouples the simulation tick from whoever reacts to events
+ *
+ * Design Pattern: Observer (subscribers are notified when the buffer is drained)
+ *
+ * Features:
+ * - Events are stored as primitives in parallel arrays, no allocation per event
+ * - The model publishes during update(), the game loop drains once per frame
+ * - Any number of subscribers (audio, view effects, stats, recording)
+ *   without changes to the model
+ * - When full, the oldest event is overwritten and counted as dropped
+ */
+public class GameEventBuffer {
+    public static final int NO_ENTITY = -1;
+
+    private static final GameEvent[] EVENTS = GameEvent.values();
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+    private final int mask;
+    private final byte[] type;
+    private final int[] entity;
+    private final float[] x, y;
+    private final int[] value;
+
+    private long head;   // Total events published
+    private long tail;   // Total events drained or dropped
+    private long dropped;
+
+    private GameEventListener[] listeners = NO_LISTENERS;
+
+    public GameEventBuffer() {
+        this(1024);
+    }
+
+    /**
+     * @param capacity maximum number of pending events (rounded up to a power of two)
+     */
+    public GameEventBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.type = new byte[size];
+        this.entity = new int[size];
+        this.x = new float[size];
+        this.y = new float[size];
+        this.value = new int[size];
+    }
+
+    /**
+     * Queue an event
+     */
+    public void publish(GameEvent event, int entity, double x, double y, int value) {
+        if (head - tail > mask) {
+            tail++;
+            dropped++;
+        }
+        int i = (int) head & mask;
+        this.type[i] = (byte) event.ordinal();
+        this.entity[i] = entity;
+        this.x[i] = (float) x;
+        this.y[i] = (float) y;
+        this.value[i] = value;
+        head++;
+    }
+
+    /**
+     * Deliver all pending events to every subscriber, oldest first
+     */
+    public void drain() {
+        GameEventListener[] targets = listeners;
+        while (tail < head) {
+            int i = (int) tail & mask;
+            tail++;
+            GameEvent event = EVENTS[type[i]];
+            for (GameEventListener listener : targets) {
+                listener.onGameEvent(event, entity[i], x[i], y[i], value[i]);
+            }
+        }
+    }
+
+    /**
+     * Discard pending events without delivering them
+     */
+    public void clear() {
+        tail = head;
+    }
+
+    // ==================== SUBSCRIBERS ====================
+
+    public void subscribe(GameEventListener listener) {
+        GameEventListener[] updated = new GameEventListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, updated, 0, listeners.length);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    public void unsubscribe(GameEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    // Getters
+    public int size() { return (int) (head - tail); }
+    public int getCapacity() { return mask + 1; }
+    public long getPublishedCount() { return head; }
+    public long getDroppedCount() { return dropped; }
+}
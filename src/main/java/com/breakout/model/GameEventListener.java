@@ -0,0 +1,18 @@
+package com.breakout.model;
+
+/**
+ * Game Event Listener - Observer Pattern
+ * Receives events drained from the model's GameEventBuffer
+ */
+public interface GameEventListener {
+
+    /**
+     * Called once per event when the buffer is drained
+     * @param event what happened
+     * @param entity index of the entity involved (e.g. brick), -1 if unused
+     * @param x event position, 0 if unused
+     * @param y event position, 0 if unused
+     * @param value event-specific value (e.g. level number), 0 if unused
+     */
+    void onGameEvent(GameEvent event, int entity, double x, double y, int value);
+}
@@ -0,0 +1,82 @@
+package com.breakout.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Game Event Queue - Lock-free single-producer, single-consumer queue of game events
+ * Carries model events from the simulation thread to the JavaFX thread,
+ * so listeners that touch JavaFX (audio, view effects) run on that thread.
+ *
+ * Subscribed to the simulated model's GameEventBuffer: draining that buffer
+ * on the simulation thread queues its events here, and the JavaFX thread
+ * moves them into the view's replica model, whose buffer it drains to its
+ * own subscribers.
+ *
+ * Features:
+ * - Events are stored as primitives in parallel arrays, no allocation per event
+ * - Head and tail are published with ordered (release) writes; no locks
+ * - A full queue drops new events and counts them (the consumer empties
+ *   it every frame, so this only happens if the JavaFX thread stalls)
+ */
+public class GameEventQueue implements GameEventListener {
+    private static final GameEvent[] EVENTS = GameEvent.values();
+
+    private final int mask;
+    private final byte[] type;
+    private final int[] entity;
+    private final float[] x, y;
+    private final int[] value;
+    private final AtomicLong head = new AtomicLong();   // Next slot to read (written by the consumer)
+    private final AtomicLong tail = new AtomicLong();   // Next slot to write (written by the producer)
+    private long dropped;                               // Written by the producer
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public GameEventQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.type = new byte[size];
+        this.entity = new int[size];
+        this.x = new float[size];
+        this.y = new float[size];
+        this.value = new int[size];
+    }
+
+    /**
+     * Queue an event (producer thread)
+     */
+    @Override
+    public void onGameEvent(GameEvent event, int entity, double x, double y, int value) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            dropped++;
+            return;
+        }
+        int i = (int) t & mask;
+        this.type[i] = (byte) event.ordinal();
+        this.entity[i] = entity;
+        this.x[i] = (float) x;
+        this.y[i] = (float) y;
+        this.value[i] = value;
+        tail.lazySet(t + 1);
+    }
+
+    /**
+     * Move every queued event into a buffer, oldest first (consumer thread)
+     * @return number of events moved
+     */
+    public int drainTo(GameEventBuffer target) {
+        long h = head.get();
+        long t = tail.get();
+        for (long n = h; n < t; n++) {
+            int i = (int) n & mask;
+            target.publish(EVENTS[type[i]], entity[i], x[i], y[i], value[i]);
+        }
+        head.lazySet(t);
+        return (int) (t - h);
+    }
+
+    public int getCapacity() { return mask + 1; }
+    public long getDroppedCount() { return dropped; }
+}
@@ -1,9 +1,7 @@
 package com.breakout.model;
 
-import com.breakout.audio.AudioManager;
 import com.breakout.config.GameConfig;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -27,22 +25,37 @@ public class GameModel {
     private GameConfig config;
     private GameState state;
     private GameState previousState;
-    private AudioManager audio;
+    private final GameEventBuffer events;
 
     // Player profile
     private PlayerProfile playerProfile;
     private int selectedLevel;
 
+    // Designed level layouts (generated layouts when the catalog has none)
+    private LevelCatalog levels;
+    private LevelTemplate levelTemplate;   // Layout of the current level, resolved when it starts
+
     // Game entities
     private List<Ball> balls;
     private Paddle paddle;
-    private List<Brick> bricks;
+    private List<Brick> bricks;       // Views over brickStore, for rendering
+    private BrickStore brickStore;
+    private BrickGrid brickGrid;
     private List<PowerUp> powerUps;
     private List<Penalty> penalties;
     private List<FallingBrick> fallingBricks;
+    private final BallStore stormBalls;   // Ball storm (structure of arrays)
+    private final BallSweep ballSweep;    // Ball-to-ball broadphase
+
+    // Entity pools (balls, drops and falling bricks are recycled, never reallocated)
+    private final EntityPool<Ball> ballPool;
+    private final EntityPool<PowerUp> powerUpPool;
+    private final EntityPool<Penalty> penaltyPool;
+    private final EntityPool<FallingBrick> fallingBrickPool;
 
-    // Active effects
-    private List<ActiveEffect> activeEffects;
+    // Timed effects, expiring on simulation time
+    private final EffectEngine effects;
+    private double simTime;
 
     // Game statistics
     private int currentScore;
@@ -51,36 +64,72 @@ public class GameModel {
     private double scoreMultiplier;
     private boolean hasShield;
 
+    // Randomness: seeds draws one seed per level start, random drives the level
+    private final GameRandom seeds;
+    private final GameRandom random;
+    private long levelSeed;
+
+    // Narrow-phase tests run so far (paddle and bricks), for profiling
+    private long collisionTests;
+
+    // Ball sub-steps run so far and in the last tick (one per ball unless it moves fast)
+    private long subSteps;
+    private int tickSubSteps;
+
+    // Swept collision scratch (reused every query)
+    private final Contact contact = new Contact();
+    private static final double CONTACT_SKIN = 1e-4;
+
+    private static final GameState[] STATES = GameState.values();
+
     // Name input
     private StringBuilder nameInput;
+    private String nameInputText;   // nameInput as a String, built on first read after a change
     private final int maxNameLength = 15;
 
-    public static class ActiveEffect {
-        public final String name;
-        public final String type;
-        public double remainingTime;
+    public GameModel() {
+        this(new PlayerProfile());
+    }
 
-        public ActiveEffect(String name, String type, double duration) {
-            this.name = name;
-            this.type = type;
-            this.remainingTime = duration;
-        }
+    /**
+     * Create a model for a given player profile
+     * Pass PlayerProfile.offline() to run without a database.
+     */
+    public GameModel(PlayerProfile playerProfile) {
+        this(playerProfile, GameConfig.getInstance().getMaxBalls());
     }
 
-    public GameModel() {
+    /**
+     * Create a model with a custom ball capacity (stress scenarios)
+     */
+    public GameModel(PlayerProfile playerProfile, int maxBalls) {
         this.config = GameConfig.getInstance();
         this.state = GameState.NAME_INPUT;
         this.previousState = GameState.NAME_INPUT;
-        this.audio = AudioManager.getInstance();
-        this.playerProfile = new PlayerProfile();
-        this.balls = new ArrayList<>();
-        this.balls.add(new Ball());
+        this.events = new GameEventBuffer();
+        this.playerProfile = playerProfile;
+        this.levels = LevelCatalog.getInstance();
+        this.seeds = new GameRandom(GameRandom.mix64(System.nanoTime()));
+        this.random = new GameRandom(0);
+        this.ballPool = new EntityPool<>("Ball", maxBalls, () -> new Ball(random));
+        this.powerUpPool = new EntityPool<>("PowerUp", config.getMaxPowerUps(),
+                () -> new PowerUp(0, 0, PowerUp.PowerUpType.EXTEND_PADDLE));
+        this.penaltyPool = new EntityPool<>("Penalty", config.getMaxPenalties(),
+                () -> new Penalty(0, 0, Penalty.PenaltyType.SPEED_UP));
+        this.fallingBrickPool = new EntityPool<>("FallingBrick", config.getMaxFallingBricks(),
+                () -> new FallingBrick(0, 0, 0, 0));
+        this.balls = new ArrayList<>(maxBalls);
         this.paddle = new Paddle();
         this.bricks = new ArrayList<>();
-        this.powerUps = new ArrayList<>();
-        this.penalties = new ArrayList<>();
-        this.fallingBricks = new ArrayList<>();
-        this.activeEffects = new ArrayList<>();
+        this.brickStore = new BrickStore();
+        this.brickGrid = new BrickGrid();
+        this.powerUps = new ArrayList<>(config.getMaxPowerUps());
+        this.penalties = new ArrayList<>(config.getMaxPenalties());
+        this.fallingBricks = new ArrayList<>(config.getMaxFallingBricks());
+        this.stormBalls = new BallStore();
+        this.ballSweep = new BallSweep(maxBalls, 4 * config.getBallRadius());
+        spawnBall();
+        this.effects = new EffectEngine();
         this.selectedLevel = 1;
         this.nameInput = new StringBuilder();
         this.scoreMultiplier = 1.0;
@@ -93,13 +142,26 @@ public class GameModel {
         if (state == GameState.NAME_INPUT && nameInput.length() < maxNameLength) {
             if (Character.isLetterOrDigit(c) || c == ' ' || c == '_') {
                 nameInput.append(c);
+                nameInputText = null;
             }
         }
     }
 
+    /**
+     * A key typed on the name screen: letters, digits, space and underscore
+     * are added to the name; every key is acknowledged with MENU_SELECT
+     */
+    public void typeNameChar(char c) {
+        if (state == GameState.NAME_INPUT) {
+            addCharToName(c);
+            emit(GameEvent.MENU_SELECT);
+        }
+    }
+
     public void removeCharFromName() {
         if (state == GameState.NAME_INPUT && nameInput.length() > 0) {
             nameInput.deleteCharAt(nameInput.length() - 1);
+            nameInputText = null;
         }
     }
 
@@ -109,25 +171,46 @@ public class GameModel {
             if (name.isEmpty()) name = "Player";
             playerProfile.setPlayerName(name);
             state = GameState.MENU;
-            audio.playMusic(AudioManager.MusicTrack.MENU);
+            emit(GameEvent.MENU_ENTERED);
         }
     }
 
-    public String getNameInput() { return nameInput.toString(); }
+    /**
+     * Name typed so far (the same String instance until the name changes)
+     */
+    public String getNameInput() {
+        if (nameInputText == null) nameInputText = nameInput.toString();
+        return nameInputText;
+    }
+
+    /**
+     * Name input for frame snapshots (copied without allocating)
+     */
+    void copyNameInput(StringBuilder target) {
+        target.setLength(0);
+        target.append(nameInput);
+    }
+
+    void setNameInput(CharSequence name) {
+        if (CharSequence.compare(nameInput, name) == 0) return;
+        nameInput.setLength(0);
+        nameInput.append(name);
+        nameInputText = null;
+    }
 
     // ==================== LEVEL SELECTION ====================
 
     public void selectNextLevel() {
-        if (state == GameState.MENU && selectedLevel < config.getTotalLevels()) {
+        if (state == GameState.MENU && selectedLevel < levels.getLevelCount()) {
             selectedLevel++;
-            audio.playSfx(AudioManager.SoundEffect.MENU_SELECT);
+            emit(GameEvent.MENU_SELECT);
         }
     }
 
     public void selectPreviousLevel() {
         if (state == GameState.MENU && selectedLevel > 1) {
             selectedLevel--;
-            audio.playSfx(AudioManager.SoundEffect.MENU_SELECT);
+            emit(GameEvent.MENU_SELECT);
         }
     }
 
@@ -139,13 +222,21 @@ public class GameModel {
     public void startSelectedLevel() {
         if (state == GameState.MENU && canPlaySelectedLevel()) {
             startLevel(selectedLevel);
-            audio.playSfx(AudioManager.SoundEffect.MENU_CONFIRM);
+            emit(GameEvent.MENU_CONFIRM);
         }
     }
 
     public void startLevel(int levelNum) {
-        if (levelNum >= 1 && levelNum <= config.getTotalLevels()
-                && playerProfile.isLevelUnlocked(levelNum)) {
+        if (canStartLevel(levelNum)) {
+            startLevel(levelNum, seeds.nextLong());
+        }
+    }
+
+    /**
+     * Start a level from a known seed (used to play back recorded sessions)
+     */
+    public void startLevel(int levelNum, long seed) {
+        if (canStartLevel(levelNum)) {
             this.level = levelNum;
             this.selectedLevel = levelNum;
             this.currentScore = 0;
@@ -153,57 +244,100 @@ public class GameModel {
             this.scoreMultiplier = 1.0;
             this.hasShield = false;
             this.state = GameState.PLAYING;
+            levelSeed = seed;
+            random.setSeed(seed);
             resetLevel();
-            audio.playLevelMusic(level);
+            emit(GameEvent.LEVEL_STARTED, level);
         }
     }
 
+    private boolean canStartLevel(int levelNum) {
+        return levelNum >= 1 && levelNum <= levels.getLevelCount()
+                && playerProfile.isLevelUnlocked(levelNum);
+    }
+
     public void resetLevel() {
-        balls.clear();
-        balls.add(new Ball());
+        resetBalls();
+        stormBalls.clear();
         paddle.reset();
-        powerUps.clear();
-        penalties.clear();
-        fallingBricks.clear();
-        activeEffects.clear();
+        paddle.resetSize();
+        powerUpPool.releaseAll(powerUps);
+        penaltyPool.releaseAll(penalties);
+        fallingBrickPool.releaseAll(fallingBricks);
+        effects.clear();
+        simTime = 0;
         scoreMultiplier = 1.0;
         hasShield = false;
         createBricks();
     }
 
     private void createBricks() {
-        bricks.clear();
-        int baseRows = config.getBrickRows();
-        int rows = Math.min(baseRows + (level - 1), 8);
+        levelTemplate = levels.get(level);
+        if (levelTemplate != null) {
+            loadLevelTemplate(levelTemplate);
+            return;
+        }
+
+        int rows = Math.min(config.getBrickRows() + (level - 1), 8);
         int cols = config.getBrickCols();
-        int brickWidth = config.getBrickWidth();
-        int brickHeight = config.getBrickHeight();
-        int padding = config.getBrickPadding();
-        int offsetTop = config.getBrickOffsetTop();
-        int offsetLeft = config.getBrickOffsetLeft();
+        layoutBricks(cols, rows, config.getBrickWidth(), config.getBrickHeight(),
+                config.getBrickPadding(), config.getBrickOffsetLeft(), config.getBrickOffsetTop(),
+                cols * rows);
+    }
+
+    /**
+     * Replace the board with a designed level
+     * Bricks are copied from the template; cells with a random drop roll it
+     * with the level's generator, like generated levels.
+     */
+    public void loadLevelTemplate(LevelTemplate template) {
+        brickStore.load(template);
+        brickGrid.load(template);
+        bricks.clear();
+        for (int i = 0; i < brickStore.size(); i++) bricks.add(brickStore.view(i));
+
+        for (int brick : template.randomDrops) {
+            if (random.nextDouble() < config.getPowerUpDropChance()) {
+                brickStore.setFlag(brick, BrickStore.FLAG_POWER_UP, true);
+            } else if (random.nextDouble() < config.getPenaltyDropChance()) {
+                brickStore.setFlag(brick, BrickStore.FLAG_PENALTY, true);
+            }
+        }
+    }
+
+    /**
+     * Replace the board with a lattice of bricks (row by row, up to count bricks)
+     * Brick types and drops follow the rules of the current level.
+     */
+    public void layoutBricks(int cols, int rows, int brickWidth, int brickHeight, int padding,
+                             double offsetLeft, double offsetTop, int count) {
+        bricks.clear();
+        brickStore.clear();
+        brickGrid.reset(offsetLeft, offsetTop, brickWidth + padding, brickHeight + padding, cols, rows);
 
         for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
+            for (int col = 0; col < cols && brickStore.size() < count; col++) {
                 double x = offsetLeft + col * (brickWidth + padding);
                 double y = offsetTop + row * (brickHeight + padding);
 
                 Brick.BrickType type = determineBrickType(row, level);
-                Brick brick = new Brick(x, y, brickWidth, brickHeight, type);
+                int brick = brickStore.add(x, y, brickWidth, brickHeight, type);
 
                 if (type == Brick.BrickType.NORMAL || type == Brick.BrickType.HARD) {
-                    if (Math.random() < config.getPowerUpDropChance()) {
-                        brick.setPowerUp(true);
-                    } else if (Math.random() < config.getPenaltyDropChance()) {
-                        brick.setPenalty(true);
+                    if (random.nextDouble() < config.getPowerUpDropChance()) {
+                        brickStore.setFlag(brick, BrickStore.FLAG_POWER_UP, true);
+                    } else if (random.nextDouble() < config.getPenaltyDropChance()) {
+                        brickStore.setFlag(brick, BrickStore.FLAG_PENALTY, true);
                     }
                 }
-                bricks.add(brick);
+                bricks.add(brickStore.view(brick));
+                brickGrid.add(brick, x, y);
             }
         }
     }
 
     private Brick.BrickType determineBrickType(int row, int level) {
-        double rand = Math.random();
+        double rand = random.nextDouble();
         if (row == 0 && level >= 4 && rand < 0.2) return Brick.BrickType.GOLD;
         if (row == 0 && level >= 3) return Brick.BrickType.TOUGH;
         if (row <= 1 && level >= 2) return Brick.BrickType.HARD;
@@ -215,32 +349,63 @@ public class GameModel {
 
     // ==================== GAME UPDATE ====================
 
-    public void update() {
+    /**
+     * Advance the simulation by one tick
+     * @param deltaTime simulated seconds to advance (fixed in fixed-timestep mode)
+     */
+    public void update(double deltaTime) {
         if (state != GameState.PLAYING) return;
+        simTime += deltaTime;
+        tickSubSteps = 0;
+
+        // Before the paddle moves, since a stuck ball is carried by the paddle
+        for (int i = 0; i < balls.size(); i++) balls.get(i).storePreviousPosition();
+        stormBalls.storePreviousPositions();
 
-        double deltaTime = 0.016;
-        paddle.update();
-        updateBalls();
-        updatePowerUps();
-        updatePenalties();
-        updateFallingBricks();
-        updateActiveEffects(deltaTime);
+        paddle.update(deltaTime);
+        updateBalls(deltaTime);
+        if (config.isBallCollisions() && state == GameState.PLAYING) {
+            collisionTests += ballSweep.collide(balls, paddle.getStuckBall(), events);
+        }
+        updateStormBalls(deltaTime);
+        updatePowerUps(deltaTime);
+        updatePenalties(deltaTime);
+        updateFallingBricks(deltaTime);
+        expireEffects();
 
+        subSteps += tickSubSteps;
         if (isLevelComplete()) completeLevel();
     }
 
-    private void updateBalls() {
-        Iterator<Ball> it = balls.iterator();
-        List<Ball> ballsToRemove = new ArrayList<>();
-
-        while (it.hasNext()) {
-            Ball ball = it.next();
-            ball.update();
+    /**
+     * Move every ball; lost balls are compacted out of the list in place
+     */
+    private void updateBalls(double deltaTime) {
+        int count = balls.size();
+        int kept = 0;
+        double moveScale = deltaTime * config.getBaseFrameRate();
+
+        for (int i = 0; i < count; i++) {
+            Ball ball = balls.get(i);
+            boolean lost = false;
+            if (config.isSweptCollisions()) {
+                // Continuous: one sweep per tick at any speed
+                tickSubSteps++;
+                if (ball.isLaunched()) sweepBall(ball, deltaTime);
+                else ball.followPaddle(paddle.getX());
+            } else {
+                double dx = ball.getDx() * moveScale, dy = ball.getDy() * moveScale;
+                int steps = subStepsFor(dx * dx + dy * dy, ball.getRadius());
+                tickSubSteps += steps;
+                for (int step = 0; step < steps; step++) {
+                    if (ball.update(deltaTime / steps)) emitAt(GameEvent.BALL_HIT_WALL, ball);
 
-            if (!ball.isLaunched()) ball.followPaddle(paddle.getX());
+                    if (!ball.isLaunched()) ball.followPaddle(paddle.getX());
 
-            checkPaddleCollision(ball);
-            checkBrickCollisions(ball);
+                    checkPaddleCollision(ball);
+                    checkBrickCollisions(ball);
+                }
+            }
             checkFallingBrickCollisions(ball);
 
             if (ball.isBelowScreen()) {
@@ -248,21 +413,22 @@ public class GameModel {
                     ball.setY(config.getWindowHeight() - 100);
                     ball.reverseY();
                     hasShield = false;
-                    removeActiveEffect("Bottom Shield");
-                } else if (ball.isClone()) {
-                    ballsToRemove.add(ball);
-                } else if (balls.size() > 1) {
-                    ballsToRemove.add(ball);
+                    effects.cancel(EffectType.SHIELD);
+                } else if (ball.isClone() || count > 1) {
+                    lost = true;
                 } else {
                     loseLife();
                     return;
                 }
             }
+
+            if (lost) ballPool.release(ball);
+            else balls.set(kept++, ball);
         }
-        balls.removeAll(ballsToRemove);
+        truncate(balls, kept);
 
         if (balls.isEmpty()) {
-            balls.add(new Ball());
+            spawnBall();
             loseLife();
         }
     }
@@ -274,119 +440,445 @@ public class GameModel {
             } else {
                 ball.bounceOffPaddle(paddle.getX(), paddle.getWidth());
             }
-            audio.playPaddleHit();
+            emitAt(GameEvent.BALL_HIT_PADDLE, ball);
         }
     }
 
+    /**
+     * Resolve the first brick hit by a ball
+     * Only the grid cells covered by the ball's bounding box are tested.
+     */
     private void checkBrickCollisions(Ball ball) {
-        for (Brick brick : bricks) {
-            if (brick.isActive() && brick.collidesWith(ball)) {
-                String side = brick.getCollisionSide(ball);
-                if (side.equals("left") || side.equals("right")) {
-                    ball.reverseX();
+        int r = ball.getRadius();
+        double minX = ball.getX() - r, maxX = ball.getX() + r;
+        double minY = ball.getY() - r, maxY = ball.getY() + r;
+        if (brickGrid.isOutside(minX, minY, maxX, maxY)) return;
+
+        int col0 = brickGrid.colOf(minX), col1 = brickGrid.colOf(maxX);
+        int row0 = brickGrid.rowOf(minY), row1 = brickGrid.rowOf(maxY);
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int brick = brickGrid.get(col, row);
+                if (brick == BrickGrid.EMPTY) continue;
+                collisionTests++;
+                if (brickStore.collidesWith(brick, ball.getX(), ball.getY(), r)) {
+                    hitBrick(brickStore.view(brick), ball);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void hitBrick(Brick brick, Ball ball) {
+        String side = brick.getCollisionSide(ball);
+        if (side.equals("left") || side.equals("right")) {
+            ball.reverseX();
+        } else {
+            ball.reverseY();
+        }
+        damageBrick(brick);
+    }
+
+    private void damageBrick(Brick brick) {
+        int points = brick.hit();
+        if (points > 0) {
+            brickGrid.remove(brick.getIndex(), brick.getX(), brick.getY());
+            int earned = (int)(points * level * scoreMultiplier);
+            currentScore += earned;
+            events.publish(GameEvent.BRICK_DESTROYED, brick.getIndex(),
+                    brick.getCenterX(), brick.getCenterY(), earned);
+
+            // Spawn power-up or penalty
+            if (brick.hasPowerUp() || brick.getType() == Brick.BrickType.POWER) {
+                spawnPowerUp(brick.getCenterX(), brick.getCenterY());
+            } else if (brick.hasPenalty() || brick.getType() == Brick.BrickType.PENALTY) {
+                spawnPenalty(brick.getCenterX(), brick.getCenterY());
+            }
+        } else {
+            events.publish(GameEvent.BALL_HIT_BRICK, brick.getIndex(),
+                    brick.getCenterX(), brick.getCenterY(), 0);
+        }
+    }
+
+    // ==================== BALL STORM ====================
+
+    /**
+     * Move the storm balls and resolve their collisions
+     *
+     * Movement and walls run as whole-array passes over the BallStore;
+     * paddle and bricks are then tested per ball with discrete overlap
+     * tests (storm balls move about 2.5 px per tick, far less than a brick).
+     * Storm balls do not emit wall or paddle events, only brick events.
+     */
+    private void updateStormBalls(double deltaTime) {
+        int count = stormBalls.size();
+        if (count == 0 || state != GameState.PLAYING) return;
+
+        // The whole storm moves in lockstep, so the fastest ball sets the sub-steps
+        double moveScale = deltaTime * config.getBaseFrameRate();
+        int steps = subStepsFor(stormBalls.getMaxSpeedPerRadiusSquared() * moveScale * moveScale, 1);
+        tickSubSteps += steps * count;
+        for (int step = 0; step < steps; step++) {
+            stormBalls.move(moveScale / steps);
+            stormBalls.reflectWalls(config.getWindowWidth());
+            collideStormBalls(count);
+        }
+        stormBalls.compact();
+    }
+
+    /**
+     * Resolve paddle and brick hits of every storm ball, flagging lost balls
+     */
+    private void collideStormBalls(int count) {
+        double paddleLeft = paddle.getX() - paddle.getWidth() / 2.0;
+        double paddleRight = paddle.getX() + paddle.getWidth() / 2.0;
+        double paddleTop = paddle.getY() - paddle.getHeight() / 2.0;
+        double paddleBottom = paddle.getY() + paddle.getHeight() / 2.0;
+        int height = config.getWindowHeight();
+
+        for (int i = 0; i < count; i++) {
+            if (stormBalls.hasFlag(i, BallStore.FLAG_LOST)) continue;
+            double x = stormBalls.getX(i);
+            double y = stormBalls.getY(i);
+            double r = stormBalls.getRadius(i);
+
+            if (y - r > height) {
+                stormBalls.setFlag(i, BallStore.FLAG_LOST, true);
+            } else if (y + r > paddleTop && y - r < paddleBottom
+                    && x + r > paddleLeft && x - r < paddleRight && stormBalls.getDy(i) > 0) {
+                stormBalls.deflectOffPaddle(i, paddle.getX(), paddle.getWidth());
+                stormBalls.setPosition(i, x, paddleTop - r);
+            } else if (!brickGrid.isOutside(x - r, y - r, x + r, y + r)) {
+                checkStormBrickCollisions(i, x, y, r);
+            }
+        }
+    }
+
+    /**
+     * Sub-steps that keep a ball's move per step within GameConfig.getSubStepFraction
+     * of its radius (the square root is only taken for fast balls)
+     * @param distanceSquared squared distance the ball moves this tick
+     */
+    private int subStepsFor(double distanceSquared, double radius) {
+        double limit = config.getSubStepFraction() * radius;
+        if (distanceSquared <= limit * limit) return 1;
+        return (int) Math.min(config.getMaxSubSteps(), Math.ceil(Math.sqrt(distanceSquared) / limit));
+    }
+
+    /**
+     * Resolve the first brick hit by a storm ball
+     * The ball bounces off the side of least penetration, away from the brick.
+     */
+    private void checkStormBrickCollisions(int ball, double x, double y, double r) {
+        int col0 = brickGrid.colOf(x - r), col1 = brickGrid.colOf(x + r);
+        int row0 = brickGrid.rowOf(y - r), row1 = brickGrid.rowOf(y + r);
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int brick = brickGrid.get(col, row);
+                if (brick == BrickGrid.EMPTY) continue;
+                collisionTests++;
+                if (!brickStore.collidesWith(brick, x, y, r)) continue;
+
+                double left = brickStore.getX(brick), right = left + brickStore.getWidth(brick);
+                double top = brickStore.getY(brick), bottom = top + brickStore.getHeight(brick);
+                double overlapX = Math.min(x + r - left, right - (x - r));
+                double overlapY = Math.min(y + r - top, bottom - (y - r));
+                double dx = stormBalls.getDx(ball), dy = stormBalls.getDy(ball);
+                if (overlapX < overlapY) {
+                    dx = x < (left + right) / 2 ? -Math.abs(dx) : Math.abs(dx);
                 } else {
-                    ball.reverseY();
+                    dy = y < (top + bottom) / 2 ? -Math.abs(dy) : Math.abs(dy);
                 }
+                stormBalls.setVelocity(ball, dx, dy);
+                damageBrick(brickStore.view(brick));
+                return;
+            }
+        }
+    }
 
-                int points = brick.hit();
-                if (points > 0) {
-                    currentScore += (int)(points * level * scoreMultiplier);
-                    audio.playBrickDestroy();
+    /**
+     * Release a storm of balls from the paddle, fanned out upwards
+     * Storm balls break bricks and bounce off the paddle; a storm ball that
+     * falls below the screen is simply gone (no life is lost).
+     * @return number of balls released (limited by GameConfig.getMaxStormBalls)
+     */
+    public int startBallStorm(int count) {
+        if (state != GameState.PLAYING) return 0;
+        count = Math.min(count, config.getMaxStormBalls() - stormBalls.size());
+        double speed = config.getBallSpeed();
+        double radius = config.getBallRadius();
+        double x = paddle.getX();
+        double y = paddle.getY() - paddle.getHeight() / 2.0 - radius - 1;
+        for (int i = 0; i < count; i++) {
+            double angle = Math.toRadians(-150 + 120 * (i + 0.5) / count);
+            stormBalls.add(x, y, speed * Math.cos(angle), speed * Math.sin(angle), radius);
+        }
+        if (count > 0) events.publish(GameEvent.BALL_LAUNCHED, GameEventBuffer.NO_ENTITY, x, y, count);
+        return Math.max(count, 0);
+    }
 
-                    // Spawn power-up or penalty
-                    if (brick.hasPowerUp() || brick.getType() == Brick.BrickType.POWER) {
-                        spawnPowerUp(brick.getCenterX(), brick.getCenterY());
-                    } else if (brick.hasPenalty() || brick.getType() == Brick.BrickType.PENALTY) {
-                        spawnPenalty(brick.getCenterX(), brick.getCenterY());
-                    }
+    /**
+     * Add one storm ball with a given velocity (stress scenarios)
+     * @return false if the storm is at GameConfig.getMaxStormBalls
+     */
+    public boolean addStormBall(double x, double y, double dx, double dy) {
+        if (stormBalls.size() >= config.getMaxStormBalls()) return false;
+        stormBalls.add(x, y, dx, dy, config.getBallRadius());
+        return true;
+    }
+
+    // ==================== SWEPT COLLISIONS ====================
+
+    /**
+     * Move a ball through one tick with continuous collision detection
+     *
+     * The motion segment is tested against walls, paddle and the bricks in
+     * the grid cells it sweeps. The ball advances to the earliest contact,
+     * bounces off the contact normal and continues with the remaining
+     * motion, so several contacts are resolved per tick in time order.
+     */
+    private void sweepBall(Ball ball, double deltaTime) {
+        double remaining = deltaTime * config.getBaseFrameRate();
+        int r = ball.getRadius();
+
+        for (int i = 0; i < config.getMaxContactsPerTick() && remaining > 0; i++) {
+            double x = ball.getX();
+            double y = ball.getY();
+            double mx = ball.getDx() * remaining;
+            double my = ball.getDy() * remaining;
+
+            contact.reset(1.0);
+            findWallContact(x, y, mx, my, r);
+            findPaddleContact(x, y, mx, my, r);
+            findBrickContact(x, y, mx, my, r);
+
+            if (!contact.hasHit()) {
+                ball.setPosition(x + mx, y + my);
+                return;
+            }
+
+            double t = contact.time;
+            ball.setPosition(x + mx * t + contact.normalX * CONTACT_SKIN,
+                    y + my * t + contact.normalY * CONTACT_SKIN);
+            remaining *= 1 - t;
+            resolveContact(ball);
+        }
+    }
+
+    private void findWallContact(double x, double y, double mx, double my, int r) {
+        if (mx < 0 && contact.offer(Math.max(0, (r - x) / mx), 1, 0)) {
+            contact.kind = Contact.WALL;
+        } else if (mx > 0 && contact.offer(Math.max(0, (config.getWindowWidth() - r - x) / mx), -1, 0)) {
+            contact.kind = Contact.WALL;
+        }
+        if (my < 0 && contact.offer(Math.max(0, (r - y) / my), 0, 1)) {
+            contact.kind = Contact.WALL;
+        }
+    }
+
+    private void findPaddleContact(double x, double y, double mx, double my, int r) {
+        if (my <= 0) return;  // Paddle only bounces balls coming down
+        double halfWidth = paddle.getWidth() / 2.0;
+        double halfHeight = paddle.getHeight() / 2.0;
+        collisionTests++;
+        if (SweptCollision.circleVsBox(x, y, mx, my, r,
+                paddle.getX() - halfWidth, paddle.getY() - halfHeight,
+                paddle.getX() + halfWidth, paddle.getY() + halfHeight, contact)) {
+            contact.kind = Contact.PADDLE;
+        }
+    }
+
+    private void findBrickContact(double x, double y, double mx, double my, int r) {
+        double minX = Math.min(x, x + mx) - r, maxX = Math.max(x, x + mx) + r;
+        double minY = Math.min(y, y + my) - r, maxY = Math.max(y, y + my) + r;
+        if (brickGrid.isOutside(minX, minY, maxX, maxY)) return;
+
+        int col0 = brickGrid.colOf(minX), col1 = brickGrid.colOf(maxX);
+        int row0 = brickGrid.rowOf(minY), row1 = brickGrid.rowOf(maxY);
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int brick = brickGrid.get(col, row);
+                if (brick == BrickGrid.EMPTY || !brickStore.isActive(brick)) continue;
+
+                double bx = brickStore.getX(brick);
+                double by = brickStore.getY(brick);
+                collisionTests++;
+                if (SweptCollision.circleVsBox(x, y, mx, my, r, bx, by,
+                        bx + brickStore.getWidth(brick), by + brickStore.getHeight(brick), contact)) {
+                    contact.kind = Contact.BRICK;
+                    contact.index = brick;
+                }
+            }
+        }
+    }
+
+    private void resolveContact(Ball ball) {
+        switch (contact.kind) {
+            case Contact.WALL:
+                ball.reflect(contact.normalX, contact.normalY);
+                emitAt(GameEvent.BALL_HIT_WALL, ball);
+                break;
+            case Contact.PADDLE:
+                if (paddle.isSticky() && !paddle.hasBallStuck()) {
+                    paddle.stickBall(ball);
                 } else {
-                    audio.playBrickHit();
+                    ball.deflectOffPaddle(paddle.getX(), paddle.getWidth());
                 }
+                emitAt(GameEvent.BALL_HIT_PADDLE, ball);
+                break;
+            case Contact.BRICK:
+                ball.reflect(contact.normalX, contact.normalY);
+                damageBrick(brickStore.view(contact.index));
+                break;
+            default:
                 break;
-            }
         }
     }
 
     private void checkFallingBrickCollisions(Ball ball) {
-        Iterator<FallingBrick> it = fallingBricks.iterator();
-        while (it.hasNext()) {
-            FallingBrick fb = it.next();
+        for (int i = 0; i < fallingBricks.size(); i++) {
+            FallingBrick fb = fallingBricks.get(i);
             if (fb.isActive() && fb.collidesWithBall(ball)) {
                 if (fb.hit()) {
                     currentScore += 25;
-                    audio.playBrickDestroy();
+                    events.publish(GameEvent.BRICK_DESTROYED, GameEventBuffer.NO_ENTITY,
+                            fb.getX(), fb.getY(), 25);
                 }
                 ball.reverseY();
             }
         }
     }
 
-    private void updatePowerUps() {
-        Iterator<PowerUp> it = powerUps.iterator();
-        while (it.hasNext()) {
-            PowerUp pu = it.next();
-            pu.update();
+    private void updatePowerUps(double deltaTime) {
+        int kept = 0;
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp pu = powerUps.get(i);
+            pu.update(deltaTime);
 
             if (pu.isActive() && pu.collidesWith(paddle)) {
                 applyPowerUp(pu);
                 pu.collect();
-                audio.playPowerUp();
+                events.publish(GameEvent.POWER_UP_COLLECTED, GameEventBuffer.NO_ENTITY,
+                        pu.getX(), pu.getY(), pu.getType().ordinal());
             }
 
-            if (!pu.isActive()) it.remove();
+            if (pu.isActive()) powerUps.set(kept++, pu);
+            else powerUpPool.release(pu);
         }
+        truncate(powerUps, kept);
     }
 
-    private void updatePenalties() {
-        Iterator<Penalty> it = penalties.iterator();
-        while (it.hasNext()) {
-            Penalty pen = it.next();
-            pen.update();
+    private void updatePenalties(double deltaTime) {
+        int kept = 0;
+        for (int i = 0; i < penalties.size(); i++) {
+            Penalty pen = penalties.get(i);
+            pen.update(deltaTime);
 
             if (pen.isActive() && pen.collidesWith(paddle)) {
                 applyPenalty(pen);
                 pen.collect();
-                audio.playPenalty();
+                events.publish(GameEvent.PENALTY_COLLECTED, GameEventBuffer.NO_ENTITY,
+                        pen.getX(), pen.getY(), pen.getType().ordinal());
             }
 
-            if (!pen.isActive()) it.remove();
+            if (pen.isActive()) penalties.set(kept++, pen);
+            else penaltyPool.release(pen);
         }
+        truncate(penalties, kept);
     }
 
-    private void updateFallingBricks() {
-        Iterator<FallingBrick> it = fallingBricks.iterator();
-        while (it.hasNext()) {
-            FallingBrick fb = it.next();
-            fb.update();
-
-            if (fb.isActive() && fb.collidesWithPaddle(paddle)) {
-                fb.destroy();
-                loseLife();
-                audio.playLifeLost();
-                return;
+    private void updateFallingBricks(double deltaTime) {
+        int kept = 0;
+        boolean paddleHit = false;
+        for (int i = 0; i < fallingBricks.size(); i++) {
+            FallingBrick fb = fallingBricks.get(i);
+
+            // Once a brick hits the paddle the rest wait for the next tick
+            if (!paddleHit) {
+                fb.update(deltaTime);
+                if (fb.isActive() && fb.collidesWithPaddle(paddle)) {
+                    fb.destroy();
+                    loseLife();
+                    paddleHit = true;
+                }
             }
 
-            if (!fb.isActive()) it.remove();
+            if (fb.isActive()) fallingBricks.set(kept++, fb);
+            else fallingBrickPool.release(fb);
         }
+        truncate(fallingBricks, kept);
     }
 
-    private void updateActiveEffects(double deltaTime) {
-        Iterator<ActiveEffect> it = activeEffects.iterator();
-        while (it.hasNext()) {
-            ActiveEffect effect = it.next();
-            effect.remainingTime -= deltaTime;
+    /**
+     * Undo every effect whose time is up
+     */
+    private void expireEffects() {
+        EffectType expired;
+        while ((expired = effects.pollExpired(simTime)) != null) {
+            expireEffect(expired);
+        }
+    }
 
-            if (effect.remainingTime <= 0) {
-                expireEffect(effect);
-                it.remove();
-            }
+    /**
+     * Drop list entries from index size on
+     * Removing from the end neither shifts elements nor allocates.
+     */
+    private static <T> void truncate(List<T> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) list.remove(i);
+    }
+
+    // ==================== POOLED SPAWNS ====================
+
+    /**
+     * Add a fresh main ball on the paddle
+     */
+    private void spawnBall() {
+        Ball ball = ballPool.acquire();
+        if (ball != null) {
+            ball.reset();
+            balls.add(ball);
+        }
+    }
+
+    /**
+     * Return every ball to the pool and start over with one main ball
+     */
+    private void resetBalls() {
+        ballPool.releaseAll(balls);
+        spawnBall();
+    }
+
+    /**
+     * Add a launched extra ball (stress scenarios)
+     * @return false if the ball pool is exhausted
+     */
+    public boolean addBall(double x, double y, double dx, double dy) {
+        Ball ball = ballPool.acquire();
+        if (ball == null) return false;
+        ball.spawnExtra(x, y, dx, dy);
+        balls.add(ball);
+        return true;
+    }
+
+    /**
+     * Add a clone of a ball (skipped if the ball pool is exhausted)
+     */
+    private void cloneBall(Ball original) {
+        Ball ball = ballPool.acquire();
+        if (ball != null) {
+            ball.cloneFrom(original);
+            balls.add(ball);
         }
     }
 
     // ==================== POWER-UPS ====================
 
     private void spawnPowerUp(double x, double y) {
-        powerUps.add(PowerUp.createRandom(x, y));
+        PowerUp pu = powerUpPool.acquire();
+        if (pu != null) {
+            pu.initRandom(x, y, random);
+            powerUps.add(pu);
+        }
     }
 
     private void applyPowerUp(PowerUp pu) {
@@ -395,43 +887,60 @@ public class GameModel {
         switch (type) {
             case EXTEND_PADDLE:
                 paddle.extend();
-                addActiveEffect("Extend Paddle", "powerup", type.getDuration());
+                startEffect(EffectType.EXTEND_PADDLE, type.getDuration());
                 break;
             case MULTI_BALL:
                 if (!balls.isEmpty()) {
                     Ball original = balls.get(0);
                     if (original.isLaunched()) {
-                        balls.add(new Ball(original));
-                        balls.add(new Ball(original));
+                        cloneBall(original);
+                        cloneBall(original);
                     }
                 }
                 break;
             case SLOW_BALL:
-                for (Ball b : balls) b.decreaseSpeed(1.3);
-                addActiveEffect("Slow Ball", "powerup", type.getDuration());
+                // Slow down once; a second pickup only restarts the timer
+                if (startEffect(EffectType.SLOW_BALL, type.getDuration())) {
+                    for (int i = 0; i < balls.size(); i++) balls.get(i).decreaseSpeed(1.3);
+                }
                 break;
             case EXTRA_LIFE:
                 if (lives < config.getMaxLives()) lives++;
                 break;
             case SCORE_BOOST:
                 scoreMultiplier = 2.0;
-                addActiveEffect("2x Score", "powerup", type.getDuration());
+                startEffect(EffectType.SCORE_BOOST, type.getDuration());
                 break;
             case STICKY_PADDLE:
                 paddle.setSticky(true);
-                addActiveEffect("Sticky Paddle", "powerup", type.getDuration());
+                startEffect(EffectType.STICKY_PADDLE, type.getDuration());
                 break;
             case SHIELD:
                 hasShield = true;
-                addActiveEffect("Bottom Shield", "powerup", type.getDuration());
+                startEffect(EffectType.SHIELD, type.getDuration());
                 break;
         }
     }
 
     // ==================== PENALTIES ====================
 
+    /**
+     * Drop a falling brick hazard at a random position
+     */
+    public void spawnFallingBrick() {
+        FallingBrick fb = fallingBrickPool.acquire();
+        if (fb != null) {
+            fb.initRandom(random);
+            fallingBricks.add(fb);
+        }
+    }
+
     private void spawnPenalty(double x, double y) {
-        penalties.add(Penalty.createRandom(x, y));
+        Penalty pen = penaltyPool.acquire();
+        if (pen != null) {
+            pen.initRandom(x, y, random);
+            penalties.add(pen);
+        }
     }
 
     private void applyPenalty(Penalty pen) {
@@ -439,76 +948,90 @@ public class GameModel {
 
         switch (type) {
             case SPEED_UP:
-                for (Ball b : balls) b.increaseSpeed(config.getSpeedIncreaseMultiplier());
-                addActiveEffect("Speed Up!", "penalty", type.getDuration());
+                if (startEffect(EffectType.SPEED_UP, type.getDuration())) {
+                    for (int i = 0; i < balls.size(); i++) balls.get(i).increaseSpeed(config.getSpeedIncreaseMultiplier());
+                }
                 break;
             case SHRINK_PADDLE:
                 paddle.shrink();
-                addActiveEffect("Shrink Paddle", "penalty", type.getDuration());
+                startEffect(EffectType.SHRINK_PADDLE, type.getDuration());
                 break;
             case DOUBLE_BALL:
                 if (!balls.isEmpty()) {
                     Ball original = balls.get(0);
                     if (original.isLaunched()) {
-                        balls.add(new Ball(original));
+                        cloneBall(original);
                     }
                 }
                 break;
             case FALLING_BRICK:
-                fallingBricks.add(FallingBrick.createRandom());
+                spawnFallingBrick();
                 break;
             case REVERSE_CONTROLS:
                 paddle.setReversed(true);
-                addActiveEffect("Reversed!", "penalty", type.getDuration());
+                startEffect(EffectType.REVERSE_CONTROLS, type.getDuration());
                 break;
             case BLIND_ZONE:
-                addActiveEffect("Blind Zone", "penalty", type.getDuration());
+                startEffect(EffectType.BLIND_ZONE, type.getDuration());
                 break;
         }
     }
 
     // ==================== EFFECTS MANAGEMENT ====================
 
-    private void addActiveEffect(String name, String type, double duration) {
-        removeActiveEffect(name);
-        activeEffects.add(new ActiveEffect(name, type, duration));
+    /**
+     * Start a timed effect (or stack it), cancelling its opposite
+     * @return true if the effect was not already active
+     */
+    private boolean startEffect(EffectType type, double duration) {
+        EffectType opposite = type.getOpposite();
+        if (opposite != null) effects.cancel(opposite);
+        return effects.activate(type, duration, simTime);
     }
 
-    private void removeActiveEffect(String name) {
-        activeEffects.removeIf(e -> e.name.equals(name));
-    }
-
-    private void expireEffect(ActiveEffect effect) {
-        switch (effect.name) {
-            case "Extend Paddle":
-            case "Shrink Paddle":
+    private void expireEffect(EffectType effect) {
+        switch (effect) {
+            case EXTEND_PADDLE:
+            case SHRINK_PADDLE:
                 paddle.resetSize();
                 break;
-            case "Slow Ball":
-                for (Ball b : balls) b.increaseSpeed(1.3);
+            case SLOW_BALL:
+                for (int i = 0; i < balls.size(); i++) balls.get(i).increaseSpeed(1.3);
                 break;
-            case "Speed Up!":
-                for (Ball b : balls) b.decreaseSpeed(config.getSpeedIncreaseMultiplier());
+            case SPEED_UP:
+                for (int i = 0; i < balls.size(); i++) balls.get(i).decreaseSpeed(config.getSpeedIncreaseMultiplier());
                 break;
-            case "2x Score":
+            case SCORE_BOOST:
                 scoreMultiplier = 1.0;
                 break;
-            case "Sticky Paddle":
+            case STICKY_PADDLE:
                 paddle.setSticky(false);
                 break;
-            case "Reversed!":
+            case REVERSE_CONTROLS:
                 paddle.setReversed(false);
                 break;
-            case "Bottom Shield":
+            case SHIELD:
                 hasShield = false;
                 break;
+            default:
+                break;
         }
     }
 
-    public List<ActiveEffect> getActiveEffects() { return activeEffects; }
-    public boolean hasBlindZone() {
-        return activeEffects.stream().anyMatch(e -> e.name.equals("Blind Zone"));
-    }
+    public EffectEngine getEffects() { return effects; }
+    public double getSimTime() { return simTime; }
+    public long getCollisionTests() { return collisionTests; }
+
+    /**
+     * Ball sub-steps run so far (a ball that moves less than the sub-step limit takes one)
+     */
+    public long getSubSteps() { return subSteps; }
+
+    /**
+     * Ball sub-steps of the last tick: the ball count when nothing moves fast
+     */
+    public int getTickSubSteps() { return tickSubSteps; }
+    public boolean hasBlindZone() { return effects.isActive(EffectType.BLIND_ZONE); }
 
     // ==================== GAME FLOW ====================
 
@@ -518,15 +1041,15 @@ public class GameModel {
             lives = 0;
             playerProfile.updateLevelScore(level, currentScore);
             state = GameState.GAME_OVER;
-            audio.playGameOver();
+            emit(GameEvent.GAME_OVER);
         } else {
-            audio.playLifeLost();
-            balls.clear();
-            balls.add(new Ball());
+            emit(GameEvent.LIFE_LOST);
+            resetBalls();
+            stormBalls.clear();
             paddle.reset();
-            powerUps.clear();
-            penalties.clear();
-            activeEffects.clear();
+            powerUpPool.releaseAll(powerUps);
+            penaltyPool.releaseAll(penalties);
+            effects.clear();
             paddle.resetSize();
             paddle.setReversed(false);
             paddle.setSticky(false);
@@ -535,38 +1058,34 @@ public class GameModel {
     }
 
     private boolean isLevelComplete() {
-        for (Brick brick : bricks) {
-            if (brick.isActive() && brick.getType() != Brick.BrickType.UNBREAKABLE) {
-                return false;
-            }
-        }
-        return true;
+        return brickStore.getBreakableCount() == 0;
     }
 
     private void completeLevel() {
         playerProfile.updateLevelScore(level, currentScore);
-        if (level < config.getTotalLevels()) {
+        if (level < levels.getLevelCount()) {
             playerProfile.unlockLevel(level + 1);
         }
 
-        if (level >= config.getTotalLevels()) {
+        if (level >= levels.getLevelCount()) {
             state = GameState.VICTORY;
-            audio.playVictory();
+            emit(GameEvent.VICTORY);
         } else {
             state = GameState.LEVEL_COMPLETE;
-            audio.playLevelComplete();
+            emit(GameEvent.LEVEL_COMPLETE);
         }
     }
 
     public void continueToNextLevel() {
-        if (state == GameState.LEVEL_COMPLETE && level < config.getTotalLevels()) {
+        if (state == GameState.LEVEL_COMPLETE && level < levels.getLevelCount()) {
             level++;
             selectedLevel = level;
             currentScore = 0;
             lives = config.getInitialLives();
+            seedLevel();
             resetLevel();
             state = GameState.PLAYING;
-            audio.playLevelMusic(level);
+            emit(GameEvent.LEVEL_STARTED, level);
         }
     }
 
@@ -575,10 +1094,11 @@ public class GameModel {
             if (paddle.hasBallStuck()) {
                 paddle.releaseStuckBall();
             } else {
-                for (Ball ball : balls) {
+                for (int i = 0; i < balls.size(); i++) {
+                    Ball ball = balls.get(i);
                     if (!ball.isLaunched()) {
                         ball.launch();
-                        audio.playSfx(AudioManager.SoundEffect.BALL_LAUNCH);
+                        emitAt(GameEvent.BALL_LAUNCHED, ball);
                         break;
                     }
                 }
@@ -586,20 +1106,46 @@ public class GameModel {
         }
     }
 
+    /**
+     * Apply one tick of player input (a PlayerInput bitmask)
+     * Every input that can change a running level goes through here, so a
+     * level replays exactly from its seed and the per-tick input masks.
+     */
+    public void applyInput(int input) {
+        if ((input & PlayerInput.PAUSE) != 0) togglePause();
+        if (state != GameState.PLAYING) {
+            paddle.stop();
+            return;
+        }
+
+        boolean left = (input & PlayerInput.LEFT) != 0;
+        boolean right = (input & PlayerInput.RIGHT) != 0;
+        if (left && !right) {
+            paddle.moveLeft();
+        } else if (right && !left) {
+            paddle.moveRight();
+        } else {
+            paddle.stop();
+        }
+
+        if ((input & PlayerInput.LAUNCH) != 0) launchBall();
+        if ((input & PlayerInput.STORM) != 0) startBallStorm(config.getBallStormSize());
+    }
+
     // ==================== PAUSE/RESUME ====================
 
     public void pauseGame() {
         if (state == GameState.PLAYING) {
             previousState = state;
             state = GameState.PAUSED;
-            audio.pauseMusic();
+            emit(GameEvent.GAME_PAUSED);
         }
     }
 
     public void resumeGame() {
         if (state == GameState.PAUSED) {
             state = previousState;
-            audio.resumeMusic();
+            emit(GameEvent.GAME_RESUMED);
         }
     }
 
@@ -617,23 +1163,25 @@ public class GameModel {
             playerProfile.updateLevelScore(level, currentScore);
         }
         state = GameState.MENU;
-        balls.clear();
-        balls.add(new Ball());
+        resetBalls();
         paddle.reset();
         bricks.clear();
-        powerUps.clear();
-        penalties.clear();
-        fallingBricks.clear();
-        activeEffects.clear();
-        audio.playMusic(AudioManager.MusicTrack.MENU);
+        brickStore.clear();
+        brickGrid.clear();
+        powerUpPool.releaseAll(powerUps);
+        penaltyPool.releaseAll(penalties);
+        fallingBrickPool.releaseAll(fallingBricks);
+        effects.clear();
+        emit(GameEvent.MENU_ENTERED);
     }
 
     public void restartLevel() {
         currentScore = 0;
         lives = config.getInitialLives();
+        seedLevel();
         resetLevel();
         state = GameState.PLAYING;
-        audio.playLevelMusic(level);
+        emit(GameEvent.LEVEL_STARTED, level);
     }
 
     public void showLeaderboard() {
@@ -649,6 +1197,167 @@ public class GameModel {
         }
     }
 
+    // ==================== EVENTS ====================
+
+    /**
+     * Events published since the last drain
+     * Subscribe here to react to sound, music or effect triggers; the game
+     * loop drains the buffer once per frame.
+     */
+    public GameEventBuffer getEvents() { return events; }
+
+    private void emit(GameEvent event) {
+        events.publish(event, GameEventBuffer.NO_ENTITY, 0, 0, 0);
+    }
+
+    private void emit(GameEvent event, int value) {
+        events.publish(event, GameEventBuffer.NO_ENTITY, 0, 0, value);
+    }
+
+    private void emitAt(GameEvent event, Ball ball) {
+        events.publish(event, GameEventBuffer.NO_ENTITY, ball.getX(), ball.getY(), 0);
+    }
+
+    // ==================== RANDOMNESS ====================
+
+    /**
+     * Seed the model; the next level starts are reproducible from this seed
+     */
+    public void setSeed(long seed) {
+        seeds.setSeed(seed);
+    }
+
+    /**
+     * Draw the seed for the level being (re)started
+     */
+    private void seedLevel() {
+        levelSeed = seeds.nextLong();
+        random.setSeed(levelSeed);
+    }
+
+    public long getLevelSeed() { return levelSeed; }
+    public GameRandom getRandom() { return random; }
+
+    // ==================== LEVEL CATALOG ====================
+
+    /**
+     * Use another level catalog (tools and tests; the game uses the shipped one)
+     */
+    public void setLevelCatalog(LevelCatalog levels) {
+        this.levels = levels;
+        if (selectedLevel > levels.getLevelCount()) selectedLevel = 1;
+    }
+
+    public LevelCatalog getLevelCatalog() { return levels; }
+
+    /**
+     * Designed layout of the current level (null if it is generated)
+     */
+    public LevelTemplate getLevelTemplate() { return levelTemplate; }
+
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Copy the complete simulation state into a snapshot (no allocation
+     * once the snapshot buffer is large enough)
+     */
+    public void saveSnapshot(GameSnapshot s) {
+        s.beginWrite();
+        s.putByte(state.ordinal());
+        s.putByte(previousState.ordinal());
+        s.putInt(level);
+        s.putInt(selectedLevel);
+        s.putInt(currentScore);
+        s.putInt(lives);
+        s.putDouble(scoreMultiplier);
+        s.putBoolean(hasShield);
+        s.putDouble(simTime);
+        s.putLong(levelSeed);
+        s.putLong(seeds.getState());
+        s.putLong(random.getState());
+        s.putLong(collisionTests);
+        s.putLong(subSteps);
+        s.putInt(tickSubSteps);
+
+        s.putInt(balls.size());
+        for (int i = 0; i < balls.size(); i++) balls.get(i).save(s);
+        paddle.save(s);
+        s.putInt(balls.indexOf(paddle.getStuckBall()));
+        stormBalls.save(s);
+
+        brickStore.save(s);
+        brickGrid.save(s);
+
+        s.putInt(powerUps.size());
+        for (int i = 0; i < powerUps.size(); i++) powerUps.get(i).save(s);
+        s.putInt(penalties.size());
+        for (int i = 0; i < penalties.size(); i++) penalties.get(i).save(s);
+        s.putInt(fallingBricks.size());
+        for (int i = 0; i < fallingBricks.size(); i++) fallingBricks.get(i).save(s);
+
+        effects.save(s);
+        s.endWrite();
+    }
+
+    /**
+     * Replace the simulation state with a snapshot
+     * The model then continues exactly as the saved one would have.
+     * Queued events are discarded; they refer to the replaced state.
+     * @throws IllegalStateException if the snapshot is invalid or holds
+     *         more entities than this model's pools
+     */
+    public void restoreSnapshot(GameSnapshot s) {
+        s.beginRead();
+        state = STATES[s.getByte()];
+        previousState = STATES[s.getByte()];
+        level = s.getInt();
+        levelTemplate = levels.get(level);
+        selectedLevel = s.getInt();
+        currentScore = s.getInt();
+        lives = s.getInt();
+        scoreMultiplier = s.getDouble();
+        hasShield = s.getBoolean();
+        simTime = s.getDouble();
+        levelSeed = s.getLong();
+        seeds.setState(s.getLong());
+        random.setState(s.getLong());
+        collisionTests = s.getLong();
+        subSteps = s.getLong();
+        tickSubSteps = s.getInt();
+
+        ballPool.releaseAll(balls);
+        for (int i = s.getInt(); i > 0; i--) acquireForRestore(ballPool, balls).restore(s);
+        paddle.restore(s);
+        int stuck = s.getInt();
+        if (stuck >= 0) paddle.setStuckBall(balls.get(stuck));
+        stormBalls.restore(s);
+
+        brickStore.restore(s);
+        brickGrid.restore(s);
+        bricks.clear();
+        for (int i = 0; i < brickStore.size(); i++) bricks.add(brickStore.view(i));
+
+        powerUpPool.releaseAll(powerUps);
+        for (int i = s.getInt(); i > 0; i--) acquireForRestore(powerUpPool, powerUps).restore(s);
+        penaltyPool.releaseAll(penalties);
+        for (int i = s.getInt(); i > 0; i--) acquireForRestore(penaltyPool, penalties).restore(s);
+        fallingBrickPool.releaseAll(fallingBricks);
+        for (int i = s.getInt(); i > 0; i--) acquireForRestore(fallingBrickPool, fallingBricks).restore(s);
+
+        effects.restore(s);
+        s.endRead();
+        events.clear();
+    }
+
+    private static <T> T acquireForRestore(EntityPool<T> pool, List<T> list) {
+        T entity = pool.acquire();
+        if (entity == null) {
+            throw new IllegalStateException("Snapshot holds more entities than the " + pool.getName() + " pool");
+        }
+        list.add(entity);
+        return entity;
+    }
+
     // ==================== GETTERS ====================
 
     public GameState getState() { return state; }
@@ -656,15 +1365,21 @@ public class GameModel {
     public List<Ball> getBalls() { return balls; }
     public Paddle getPaddle() { return paddle; }
     public List<Brick> getBricks() { return bricks; }
+    public BrickStore getBrickStore() { return brickStore; }
     public List<PowerUp> getPowerUps() { return powerUps; }
     public List<Penalty> getPenalties() { return penalties; }
     public List<FallingBrick> getFallingBricks() { return fallingBricks; }
+    public BallStore getStormBalls() { return stormBalls; }
+    public EntityPool<Ball> getBallPool() { return ballPool; }
+    public EntityPool<PowerUp> getPowerUpPool() { return powerUpPool; }
+    public EntityPool<Penalty> getPenaltyPool() { return penaltyPool; }
+    public EntityPool<FallingBrick> getFallingBrickPool() { return fallingBrickPool; }
     public int getCurrentScore() { return currentScore; }
     public int getLives() { return lives; }
     public int getLevel() { return level; }
     public int getMaxLives() { return config.getMaxLives(); }
     public PlayerProfile getPlayerProfile() { return playerProfile; }
-    public int getTotalLevels() { return config.getTotalLevels(); }
+    public int getTotalLevels() { return levels.getLevelCount(); }
     public int getScore() { return currentScore; }
     public int getHighScore() { return playerProfile.getTotalScore(); }
     public double getScoreMultiplier() { return scoreMultiplier; }
@@ -0,0 +1,66 @@
+package com.breakout.model;
+
+/**
+ * Game Random - Per-game pseudo random number generator
+ * SplitMix64, the algorithm behind java.util.SplittableRandom
+ *
+ * Every game owns its own instance, so parallel simulations never contend
+ * on the shared generator behind Math.random, and a run is reproducible
+ * from its seed. Unlike SplittableRandom the state can be read and
+ * restored.
+ */
+public final class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Restart the sequence from a seed
+     */
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Uniform double in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Uniform int in [0, bound)
+     */
+    public int nextInt(int bound) {
+        return (int) (nextDouble() * bound);
+    }
+
+    /**
+     * New generator seeded from this one (independent stream)
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads nearby seeds over the whole range
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // State access (snapshots)
+    public long getState() { return state; }
+    public void setState(long state) { this.state = state; }
+}
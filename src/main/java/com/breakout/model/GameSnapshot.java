@@ -0,0 +1,132 @@
+package com.breakout.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Game Snapshot - Complete simulation state in one flat buffer
+ * Filled by GameModel.saveSnapshot and applied by GameModel.restoreSnapshot
+ *
+ * Features:
+ * - Reusable: the buffer is allocated once and only grows if a board is
+ *   bigger than any saved before, so saving and restoring allocate nothing
+ * - Exact: every field that affects later ticks is stored, including the
+ *   random generator state, so a restored model continues bit for bit
+ * - Flat bytes that can be compared (sameState) and written to a file
+ *   for save-and-resume
+ *
+ * Not stored: the player profile, name input and queued events.
+ */
+public class GameSnapshot {
+    static final int MAGIC = 0x42534E50;   // "BSNP"
+    static final int VERSION = 3;
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private ByteBuffer buffer;
+    private int length;
+
+    public GameSnapshot() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameSnapshot(int capacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(64, capacity));
+    }
+
+    // ==================== WRITING ====================
+
+    void beginWrite() {
+        buffer.clear();
+        length = 0;
+        putInt(MAGIC);
+        putInt(VERSION);
+    }
+
+    void endWrite() {
+        length = buffer.position();
+    }
+
+    void putByte(int v) { ensure(1); buffer.put((byte) v); }
+    void putBoolean(boolean v) { ensure(1); buffer.put((byte) (v ? 1 : 0)); }
+    void putInt(int v) { ensure(4); buffer.putInt(v); }
+    void putLong(long v) { ensure(8); buffer.putLong(v); }
+    void putDouble(double v) { ensure(8); buffer.putDouble(v); }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() >= bytes) return;
+        ByteBuffer bigger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        bigger.put(buffer);
+        buffer = bigger;
+    }
+
+    // ==================== READING ====================
+
+    /**
+     * @throws IllegalStateException if the buffer holds no valid snapshot
+     */
+    void beginRead() {
+        if (length == 0) throw new IllegalStateException("Snapshot is empty");
+        buffer.limit(length);
+        buffer.position(0);
+        if (getInt() != MAGIC || getInt() != VERSION) {
+            throw new IllegalStateException("Not a snapshot of this version");
+        }
+    }
+
+    void endRead() {
+        if (buffer.position() != length) {
+            throw new IllegalStateException("Snapshot has " + (length - buffer.position()) + " unread bytes");
+        }
+        buffer.limit(buffer.capacity());
+    }
+
+    int getByte() { return buffer.get(); }
+    boolean getBoolean() { return buffer.get() != 0; }
+    int getInt() { return buffer.getInt(); }
+    long getLong() { return buffer.getLong(); }
+    double getDouble() { return buffer.getDouble(); }
+
+    // ==================== COPY / COMPARE / FILES ====================
+
+    /**
+     * Copy another snapshot into this one (e.g. to keep a checkpoint)
+     */
+    public void copyFrom(GameSnapshot other) {
+        if (buffer.capacity() < other.length) buffer = ByteBuffer.allocate(other.buffer.capacity());
+        System.arraycopy(other.buffer.array(), 0, buffer.array(), 0, other.length);
+        length = other.length;
+    }
+
+    /**
+     * Whether two snapshots hold exactly the same state
+     */
+    public boolean sameState(GameSnapshot other) {
+        return length == other.length
+                && Arrays.equals(buffer.array(), 0, length, other.buffer.array(), 0, length);
+    }
+
+    public void write(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write(buffer.array(), 0, length);
+        }
+    }
+
+    public void read(Path file) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        if (buffer.capacity() < data.length) buffer = ByteBuffer.allocate(data.length);
+        System.arraycopy(data, 0, buffer.array(), 0, data.length);
+        length = data.length;
+    }
+
+    public boolean isEmpty() { return length == 0; }
+    public int size() { return length; }
+    public int getCapacity() { return buffer.capacity(); }
+}
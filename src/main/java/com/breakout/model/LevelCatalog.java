@@ -0,0 +1,241 @@
+package com.breakout.model;
+
+import com.breakout.config.GameConfig;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Level Catalog - Memory-mapped file of designed levels
+ *
+ * Design Pattern: Singleton (getInstance) for the game's shipped catalog
+ *
+ * Features:
+ * - The file is mapped, not read: opening costs the same for 5 or 500 levels
+ * - Levels are decoded on first use and cached as immutable LevelTemplates
+ * - Thread-safe, so parallel simulations can share one catalog
+ * - Without a catalog file, levels fall back to the procedural layout
+ *   (get returns null) and the level count comes from GameConfig
+ *
+ * File layout (big-endian):
+ *   "BRKL" | u8 version | u16 level count | count x (u32 offset, u32 length)
+ * Each level record:
+ *   u8 cols | u8 rows | u16 brick width | u16 brick height | u8 padding
+ *   | u16 offset left | u16 offset top | name | background | music
+ *   | cols * rows cell bytes (see LevelTemplate)
+ * Strings are a u8 byte length followed by UTF-8 (length 0 = none).
+ */
+public class LevelCatalog {
+    private static final int MAGIC = 0x42524B4C;   // "BRKL"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 7;
+    private static final int INDEX_ENTRY_SIZE = 8;
+
+    private static LevelCatalog instance;
+
+    private final ByteBuffer data;      // null for the procedural fallback
+    private final int levelCount;
+    private final LevelTemplate[] cache;
+
+    private LevelCatalog(ByteBuffer data, int levelCount) {
+        this.data = data;
+        this.levelCount = levelCount;
+        this.cache = new LevelTemplate[levelCount];
+    }
+
+    /**
+     * The catalog shipped with the game (GameConfig.getLevelCatalog on the classpath)
+     */
+    public static synchronized LevelCatalog getInstance() {
+        if (instance == null) {
+            instance = loadDefault();
+        }
+        return instance;
+    }
+
+    private static LevelCatalog loadDefault() {
+        String resource = GameConfig.getInstance().getLevelCatalog();
+        URL url = LevelCatalog.class.getResource(resource);
+        if (url == null) {
+            System.out.println("Level catalog " + resource + " not found, using generated levels");
+            return procedural(GameConfig.getInstance().getTotalLevels());
+        }
+        try {
+            return open(toFile(url));
+        } catch (IOException | URISyntaxException e) {
+            System.err.println("Failed to load level catalog: " + e.getMessage());
+            return procedural(GameConfig.getInstance().getTotalLevels());
+        }
+    }
+
+    /**
+     * A file on disk can be mapped directly; a resource inside a jar is copied out once
+     */
+    private static Path toFile(URL url) throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            return Path.of(url.toURI());
+        }
+        Path copy = Files.createTempFile("breakout-levels", ".brkl");
+        copy.toFile().deleteOnExit();
+        try (InputStream in = url.openStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return copy;
+    }
+
+    /**
+     * Map a catalog file (only the header is read here)
+     * @throws IOException if the file is not a valid catalog
+     */
+    public static LevelCatalog open(Path file) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a level catalog: " + file);
+        }
+        if (data.get(4) != VERSION) {
+            throw new IOException("Unsupported level catalog version " + data.get(4));
+        }
+        int count = data.getShort(5) & 0xFFFF;
+        if (data.limit() < HEADER_SIZE + count * INDEX_ENTRY_SIZE) {
+            throw new IOException("Truncated level catalog: " + file);
+        }
+        return new LevelCatalog(data, count);
+    }
+
+    /**
+     * A catalog without designed levels (every level is generated)
+     */
+    public static LevelCatalog procedural(int levelCount) {
+        return new LevelCatalog(null, levelCount);
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Get a level, decoding it on first use
+     * @return the template, or null if the level has no designed layout
+     * @throws IllegalStateException if the level record is corrupt
+     */
+    public synchronized LevelTemplate get(int level) {
+        if (data == null || level < 1 || level > levelCount) return null;
+        LevelTemplate template = cache[level - 1];
+        if (template == null) {
+            template = decode(level);
+            cache[level - 1] = template;
+        }
+        return template;
+    }
+
+    private LevelTemplate decode(int level) {
+        int entry = HEADER_SIZE + (level - 1) * INDEX_ENTRY_SIZE;
+        int offset = data.getInt(entry);
+        int length = data.getInt(entry + 4);
+        if (offset < 0 || length < 0 || offset + length > data.limit()) {
+            throw new IllegalStateException("Level " + level + " lies outside the catalog");
+        }
+
+        ByteBuffer in = data.slice(offset, length);
+        try {
+            int cols = in.get() & 0xFF;
+            int rows = in.get() & 0xFF;
+            int brickWidth = in.getShort() & 0xFFFF;
+            int brickHeight = in.getShort() & 0xFFFF;
+            int padding = in.get() & 0xFF;
+            int offsetLeft = in.getShort() & 0xFFFF;
+            int offsetTop = in.getShort() & 0xFFFF;
+            String name = readString(in);
+            String background = readString(in);
+            String music = readString(in);
+            byte[] cells = new byte[cols * rows];
+            in.get(cells);
+            return new LevelTemplate(name, background, music, cols, rows,
+                    brickWidth, brickHeight, padding, offsetLeft, offsetTop, cells);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Corrupt record for level " + level + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.get() & 0xFF;
+        if (length == 0) return null;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ==================== WRITING ====================
+
+    /**
+     * Write levels to a catalog file (level 1 first)
+     */
+    public static void write(Path file, List<LevelTemplate> levels) throws IOException {
+        if (levels.size() > 0xFFFF) throw new IllegalArgumentException("Too many levels");
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        int[] offsets = new int[levels.size()];
+        int[] lengths = new int[levels.size()];
+        int base = HEADER_SIZE + levels.size() * INDEX_ENTRY_SIZE;
+        for (int i = 0; i < levels.size(); i++) {
+            offsets[i] = base + records.size();
+            writeLevel(records, levels.get(i));
+            lengths[i] = base + records.size() - offsets[i];
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(base + records.size());
+        out.putInt(MAGIC).put((byte) VERSION).putShort((short) levels.size());
+        for (int i = 0; i < levels.size(); i++) out.putInt(offsets[i]).putInt(lengths[i]);
+        out.put(records.toByteArray());
+
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Files.write(file, out.array());
+    }
+
+    private static void writeLevel(ByteArrayOutputStream out, LevelTemplate level) {
+        out.write(checkRange(level.getCols(), 0xFF, "columns"));
+        out.write(checkRange(level.getRows(), 0xFF, "rows"));
+        writeShort(out, checkRange(level.getBrickWidth(), 0xFFFF, "brick width"));
+        writeShort(out, checkRange(level.getBrickHeight(), 0xFFFF, "brick height"));
+        out.write(checkRange(level.getPadding(), 0xFF, "padding"));
+        writeShort(out, checkRange(level.getOffsetLeft(), 0xFFFF, "offset left"));
+        writeShort(out, checkRange(level.getOffsetTop(), 0xFFFF, "offset top"));
+        writeString(out, level.getName());
+        writeString(out, level.getBackground());
+        writeString(out, level.getMusic());
+        out.write(level.cells(), 0, level.cells().length);
+    }
+
+    private static int checkRange(int value, int max, String what) {
+        if (value < 0 || value > max) throw new IllegalArgumentException(what + " out of range: " + value);
+        return value;
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String s) {
+        byte[] bytes = s == null ? new byte[0] : s.getBytes(StandardCharsets.UTF_8);
+        out.write(checkRange(bytes.length, 0xFF, "string length"));
+        out.write(bytes, 0, bytes.length);
+    }
+
+    // ==================== GETTERS ====================
+
+    public int getLevelCount() { return levelCount; }
+    public boolean isProcedural() { return data == null; }
+}
@@ -0,0 +1,155 @@
+package com.breakout.model;
+
+import java.util.Arrays;
+
+/**
+ * Level Template - Immutable, ready-to-load brick layout of one level
+ * Decoded once from a LevelCatalog and shared by every start and restart
+ * of the level (and by every model, so it must never change).
+ *
+ * Features:
+ * - Grid of cells, one byte each: brick type and drop rule
+ * - Background image and music file names
+ * - Bricks precomputed in BrickStore order (row by row), so loading a
+ *   level is a few array copies into the store and the broadphase grid
+ *
+ * Cell byte: low nibble = BrickType ordinal + 1 (0 = empty cell),
+ * bits 4-5 = drop rule (DROP_NONE, DROP_POWER_UP, DROP_PENALTY, DROP_RANDOM).
+ */
+public final class LevelTemplate {
+    public static final int EMPTY = 0;
+    public static final int DROP_NONE = 0;
+    public static final int DROP_POWER_UP = 1;
+    public static final int DROP_PENALTY = 2;
+    public static final int DROP_RANDOM = 3;   // Rolled at level start with the level's drop chances
+
+    private static final Brick.BrickType[] TYPES = Brick.BrickType.values();
+
+    private final String name;
+    private final String background;
+    private final String music;
+    private final int cols, rows;
+    private final int brickWidth, brickHeight, padding;
+    private final int offsetLeft, offsetTop;
+    private final byte[] cells;
+
+    // Precomputed bricks (package-private, read by BrickStore and BrickGrid)
+    final double[] x, y;
+    final int[] width, height, hitPoints;
+    final byte[] type, flags;
+    final int[] gridCells;        // Brick index per cell, BrickGrid.EMPTY if none
+    final int[] randomDrops;      // Bricks whose drop is rolled at level start
+    final int breakableCount;
+
+    public LevelTemplate(String name, String background, String music, int cols, int rows,
+                         int brickWidth, int brickHeight, int padding, int offsetLeft, int offsetTop,
+                         byte[] cells) {
+        if (cols < 1 || rows < 1 || cells.length != cols * rows) {
+            throw new IllegalArgumentException("Level grid must have cols * rows cells");
+        }
+        this.name = name;
+        this.background = background;
+        this.music = music;
+        this.cols = cols;
+        this.rows = rows;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.padding = padding;
+        this.offsetLeft = offsetLeft;
+        this.offsetTop = offsetTop;
+        this.cells = cells.clone();
+
+        int count = 0;
+        int randomCount = 0;
+        for (byte cell : this.cells) {
+            int t = cellType(cell);
+            if (t > TYPES.length) throw new IllegalArgumentException("Unknown brick type " + (t - 1));
+            if (t != EMPTY) count++;
+            if (t != EMPTY && cellDrop(cell) == DROP_RANDOM) randomCount++;
+        }
+
+        this.x = new double[count];
+        this.y = new double[count];
+        this.width = new int[count];
+        this.height = new int[count];
+        this.hitPoints = new int[count];
+        this.type = new byte[count];
+        this.flags = new byte[count];
+        this.gridCells = new int[cols * rows];
+        this.randomDrops = new int[randomCount];
+        Arrays.fill(gridCells, BrickGrid.EMPTY);
+
+        int brick = 0;
+        int random = 0;
+        int breakable = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cell = row * cols + col;
+                int t = cellType(this.cells[cell]);
+                if (t == EMPTY) continue;
+
+                Brick.BrickType brickType = TYPES[t - 1];
+                x[brick] = offsetLeft + col * (brickWidth + padding);
+                y[brick] = offsetTop + row * (brickHeight + padding);
+                width[brick] = brickWidth;
+                height[brick] = brickHeight;
+                hitPoints[brick] = brickType.getHitPoints();
+                type[brick] = (byte) brickType.ordinal();
+                flags[brick] = dropFlags(brickType, cellDrop(this.cells[cell]));
+                if (cellDrop(this.cells[cell]) == DROP_RANDOM) randomDrops[random++] = brick;
+                if (brickType != Brick.BrickType.UNBREAKABLE) breakable++;
+                gridCells[cell] = brick;
+                brick++;
+            }
+        }
+        this.breakableCount = breakable;
+    }
+
+    /**
+     * POWER and PENALTY bricks always drop; others follow the cell's rule
+     */
+    private static byte dropFlags(Brick.BrickType type, int drop) {
+        if (type == Brick.BrickType.POWER || drop == DROP_POWER_UP) return BrickStore.FLAG_POWER_UP;
+        if (type == Brick.BrickType.PENALTY || drop == DROP_PENALTY) return BrickStore.FLAG_PENALTY;
+        return 0;
+    }
+
+    // ==================== CELLS ====================
+
+    /**
+     * Encode a cell (type null = empty)
+     */
+    public static byte cell(Brick.BrickType type, int drop) {
+        return type == null ? EMPTY : (byte) ((type.ordinal() + 1) | (drop & 3) << 4);
+    }
+
+    static int cellType(byte cell) { return cell & 0x0F; }
+    static int cellDrop(byte cell) { return (cell >> 4) & 3; }
+
+    /**
+     * Brick type of a cell (null if empty)
+     */
+    public Brick.BrickType getType(int col, int row) {
+        int t = cellType(cells[row * cols + col]);
+        return t == EMPTY ? null : TYPES[t - 1];
+    }
+
+    public int getDrop(int col, int row) { return cellDrop(cells[row * cols + col]); }
+
+    byte[] cells() { return cells; }
+
+    // ==================== GETTERS ====================
+
+    public String getName() { return name; }
+    public String getBackground() { return background; }
+    public String getMusic() { return music; }
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public int getBrickWidth() { return brickWidth; }
+    public int getBrickHeight() { return brickHeight; }
+    public int getPadding() { return padding; }
+    public int getOffsetLeft() { return offsetLeft; }
+    public int getOffsetTop() { return offsetTop; }
+    public int getBrickCount() { return x.length; }
+    public int getBreakableCount() { return breakableCount; }
+}
@@ -13,7 +13,11 @@ import com.breakout.config.GameConfig;
  * - Reversed controls mode
  */
 public class Paddle {
+    public static final double EXTEND_SCALE = 1.5;   // Width factor of the extend power-up
+    public static final double SHRINK_SCALE = 0.6;   // Width factor of the shrink penalty
+
     private double x, y;
+    private double prevX;          // Position at the start of the last tick (for interpolation)
     private int width, height;
     private int originalWidth;
     private double speed;
@@ -40,6 +44,7 @@ public class Paddle {
      */
     public void reset() {
         this.x = config.getWindowWidth() / 2.0;
+        this.prevX = x;
         this.y = config.getWindowHeight() - 50;
         this.velocity = 0;
         this.reversed = false;
@@ -78,9 +83,11 @@ public class Paddle {
 
     /**
      * Update paddle position
+     * @param deltaTime simulated seconds since the last tick
      */
-    public void update() {
-        x += velocity;
+    public void update(double deltaTime) {
+        prevX = x;
+        x += velocity * deltaTime * config.getBaseFrameRate();
 
         double halfWidth = width / 2.0;
         if (x - halfWidth < 0) {
@@ -117,14 +124,14 @@ public class Paddle {
      * Extend paddle width (power-up)
      */
     public void extend() {
-        width = (int)(originalWidth * 1.5);
+        width = (int)(originalWidth * EXTEND_SCALE);
     }
 
     /**
      * Shrink paddle width (penalty)
      */
     public void shrink() {
-        width = (int)(originalWidth * 0.6);
+        width = (int)(originalWidth * SHRINK_SCALE);
     }
 
     /**
@@ -194,6 +201,43 @@ public class Paddle {
         return stuckBall != null;
     }
 
+    /**
+     * Write the paddle state to a snapshot (the stuck ball is saved by the model)
+     */
+    void save(GameSnapshot s) {
+        s.putDouble(x);
+        s.putDouble(y);
+        s.putDouble(prevX);
+        s.putInt(width);
+        s.putInt(height);
+        s.putDouble(velocity);
+        s.putBoolean(reversed);
+        s.putBoolean(sticky);
+    }
+
+    /**
+     * Read the paddle state written by save()
+     */
+    void restore(GameSnapshot s) {
+        x = s.getDouble();
+        y = s.getDouble();
+        prevX = s.getDouble();
+        width = s.getInt();
+        height = s.getInt();
+        velocity = s.getDouble();
+        reversed = s.getBoolean();
+        sticky = s.getBoolean();
+        stuckBall = null;
+    }
+
+    Ball getStuckBall() { return stuckBall; }
+    void setStuckBall(Ball ball) { stuckBall = ball; }
+
+    /**
+     * Position interpolated between the last two ticks
+     */
+    public double getRenderX(double alpha) { return prevX + (x - prevX) * alpha; }
+
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
@@ -1,7 +1,6 @@
 package com.breakout.model;
 
 import com.breakout.config.GameConfig;
-import javafx.scene.paint.Color;
 
 /**
  * Penalty Entity Class
@@ -20,6 +19,7 @@ import javafx.scene.paint.Color;
  */
 public class Penalty {
     private double x, y;
+    private double prevY;   // Position at the start of the last tick (for interpolation)
     private int size;
     private double fallSpeed;
     private boolean active;
@@ -27,33 +27,32 @@ public class Penalty {
     private double remainingDuration;
     private GameConfig config;
 
+    private static final PenaltyType[] TYPES = PenaltyType.values();
+
     /**
      * Penalty types with their effects
      */
     public enum PenaltyType {
-        SPEED_UP("⚡", Color.ORANGERED, "Speed Up!", true, 10.0),
-        SHRINK_PADDLE("↔", Color.DARKRED, "Shrink Paddle", true, 8.0),
-        DOUBLE_BALL("◎", Color.DARKORANGE, "Double Ball", false, 0),
-        FALLING_BRICK("▼", Color.DARKGRAY, "Falling Brick!", false, 0),
-        REVERSE_CONTROLS("⟷", Color.DARKVIOLET, "Reversed!", true, 6.0),
-        BLIND_ZONE("▓", Color.BLACK, "Blind Zone", true, 5.0);
+        SPEED_UP("⚡", "Speed Up!", true, 10.0),
+        SHRINK_PADDLE("↔", "Shrink Paddle", true, 8.0),
+        DOUBLE_BALL("◎", "Double Ball", false, 0),
+        FALLING_BRICK("▼", "Falling Brick!", false, 0),
+        REVERSE_CONTROLS("⟷", "Reversed!", true, 6.0),
+        BLIND_ZONE("▓", "Blind Zone", true, 5.0);
 
         private final String symbol;
-        private final Color color;
         private final String description;
         private final boolean timed;
         private final double duration;
 
-        PenaltyType(String symbol, Color color, String description, boolean timed, double duration) {
+        PenaltyType(String symbol, String description, boolean timed, double duration) {
             this.symbol = symbol;
-            this.color = color;
             this.description = description;
             this.timed = timed;
             this.duration = duration;
         }
 
         public String getSymbol() { return symbol; }
-        public Color getColor() { return color; }
         public String getDescription() { return description; }
         public boolean isTimed() { return timed; }
         public double getDuration() { return duration; }
@@ -61,16 +60,16 @@ public class Penalty {
         /**
          * Get random penalty type
          */
-        public static PenaltyType random() {
+        public static PenaltyType random(GameRandom random) {
             PenaltyType[] types = values();
-            return types[(int)(Math.random() * types.length)];
+            return types[random.nextInt(types.length)];
         }
 
         /**
          * Get weighted random penalty
          */
-        public static PenaltyType weightedRandom() {
-            double rand = Math.random();
+        public static PenaltyType weightedRandom(GameRandom random) {
+            double rand = random.nextDouble();
             if (rand < 0.30) return SPEED_UP;           // 30%
             else if (rand < 0.55) return SHRINK_PADDLE; // 25%
             else if (rand < 0.75) return DOUBLE_BALL;   // 20%
@@ -82,8 +81,16 @@ public class Penalty {
 
     public Penalty(double x, double y, PenaltyType type) {
         this.config = GameConfig.getInstance();
+        init(x, y, type);
+    }
+
+    /**
+     * (Re)initialise as a fresh drop (pooled instances)
+     */
+    public void init(double x, double y, PenaltyType type) {
         this.x = x;
         this.y = y;
+        this.prevY = y;
         this.type = type;
         this.size = config.getPowerUpSize();
         this.fallSpeed = config.getPowerUpFallSpeed() * 1.2; // Falls faster than power-ups
@@ -94,16 +101,25 @@ public class Penalty {
     /**
      * Create random penalty at position
      */
-    public static Penalty createRandom(double x, double y) {
-        return new Penalty(x, y, PenaltyType.weightedRandom());
+    public static Penalty createRandom(double x, double y, GameRandom random) {
+        return new Penalty(x, y, PenaltyType.weightedRandom(random));
+    }
+
+    /**
+     * (Re)initialise as a random drop at position
+     */
+    public void initRandom(double x, double y, GameRandom random) {
+        init(x, y, PenaltyType.weightedRandom(random));
     }
 
     /**
      * Update penalty position (falling)
+     * @param deltaTime simulated seconds since the last tick
      */
-    public void update() {
+    public void update(double deltaTime) {
         if (!active) return;
-        y += fallSpeed;
+        prevY = y;
+        y += fallSpeed * deltaTime * config.getBaseFrameRate();
 
         // Deactivate if falls below screen
         if (y > GameConfig.getInstance().getWindowHeight() + size) {
@@ -149,6 +165,39 @@ public class Penalty {
         active = false;
     }
 
+    /**
+     * Write the drop state to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putDouble(x);
+        s.putDouble(y);
+        s.putDouble(prevY);
+        s.putInt(size);
+        s.putDouble(fallSpeed);
+        s.putBoolean(active);
+        s.putByte(type.ordinal());
+        s.putDouble(remainingDuration);
+    }
+
+    /**
+     * Read the drop state written by save()
+     */
+    void restore(GameSnapshot s) {
+        x = s.getDouble();
+        y = s.getDouble();
+        prevY = s.getDouble();
+        size = s.getInt();
+        fallSpeed = s.getDouble();
+        active = s.getBoolean();
+        type = TYPES[s.getByte()];
+        remainingDuration = s.getDouble();
+    }
+
+    /**
+     * Position interpolated between the last two ticks
+     */
+    public double getRenderY(double alpha) { return prevY + (y - prevY) * alpha; }
+
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
@@ -156,6 +205,5 @@ public class Penalty {
     public boolean isActive() { return active; }
     public PenaltyType getType() { return type; }
     public double getRemainingDuration() { return remainingDuration; }
-    public Color getColor() { return type.getColor(); }
     public String getSymbol() { return type.getSymbol(); }
 }
\ No newline at end of file
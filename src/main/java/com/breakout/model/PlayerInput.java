@@ -0,0 +1,23 @@
+package com.breakout.model;
+
+/**
+ * Player Input - Bitmask of the controls held or pressed during one tick
+ *
+ * LEFT and RIGHT are levels (set while the key is held); LAUNCH, PAUSE and
+ * STORM are edges (set only on the tick after the key was pressed).
+ * GameModel.applyInput consumes one mask per tick, which is also the unit
+ * that replays record.
+ */
+public final class PlayerInput {
+    public static final int NONE = 0;
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int LAUNCH = 1 << 2;
+    public static final int PAUSE = 1 << 3;
+    public static final int STORM = 1 << 4;
+
+    /** Number of bits used by a mask */
+    public static final int BITS = 5;
+
+    private PlayerInput() {}
+}
@@ -2,6 +2,7 @@ package com.breakout.model;
 
 import com.breakout.config.GameConfig;
 import com.breakout.database.DatabaseManager;
+import com.breakout.database.LeaderboardService;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,6 +14,8 @@ import java.util.Map;
  * - Database persistence for scores
  * - Level unlock tracking
  * - Star rating system
+ * - Total score kept up to date locally, rank refreshed in the background
+ *   (the menu reads both every frame without querying the database)
  */
 public class PlayerProfile {
     private String playerName;
@@ -20,15 +23,27 @@ public class PlayerProfile {
     private Map<Integer, Integer> levelScores;
     private Map<Integer, Boolean> levelUnlocked;
     private int totalLevels;
-    private DatabaseManager db;
+    private DatabaseManager db;   // null when running offline
+
+    // Cached for the menu
+    private int totalScore;
+    private volatile int rank;            // Written by the leaderboard thread
+    private long rankRequestedAt;         // System.nanoTime() of the last rank fetch
 
     public PlayerProfile() {
+        this(DatabaseManager.getInstance());
+    }
+
+    /**
+     * Create a profile backed by a database (null for an offline profile)
+     */
+    public PlayerProfile(DatabaseManager db) {
         this.playerName = "Player";
         this.playerId = -1;
-        this.totalLevels = GameConfig.getInstance().getTotalLevels();
+        this.totalLevels = LevelCatalog.getInstance().getLevelCount();
         this.levelScores = new HashMap<>();
         this.levelUnlocked = new HashMap<>();
-        this.db = DatabaseManager.getInstance();
+        this.db = db;
 
         // Initialize all levels
         for (int i = 1; i <= totalLevels; i++) {
@@ -37,6 +52,13 @@ public class PlayerProfile {
         }
     }
 
+    /**
+     * Create a profile that never touches the database (headless runs)
+     */
+    public static PlayerProfile offline() {
+        return new PlayerProfile(null);
+    }
+
     /**
      * Set player name and load from database
      */
@@ -45,10 +67,12 @@ public class PlayerProfile {
             this.playerName = name.trim();
 
             // Get or create player in database
+            if (db == null) return;
             this.playerId = db.getOrCreatePlayer(this.playerName);
 
             // Load existing scores from database
             loadScoresFromDatabase();
+            refreshRank();
         }
     }
 
@@ -67,6 +91,7 @@ public class PlayerProfile {
                     levelUnlocked.put(level + 1, true);
                 }
             }
+            totalScore = db.getTotalScore(playerId);
         }
     }
 
@@ -92,11 +117,13 @@ public class PlayerProfile {
             int currentBest = levelScores.getOrDefault(level, 0);
             if (score > currentBest) {
                 levelScores.put(level, score);
+                totalScore += score - currentBest;
 
-                // Save to database
+                // Save to database on the leaderboard thread (the game loop never waits for it)
                 if (playerId > 0) {
                     int stars = calculateStars(score, level);
-                    db.saveScore(playerId, level, score, stars);
+                    LeaderboardService.getInstance().saveScore(playerId, level, score, stars);
+                    refreshRank();
                 }
             }
         }
@@ -143,24 +170,27 @@ public class PlayerProfile {
      * Get total score across all levels
      */
     public int getTotalScore() {
-        if (playerId > 0) {
-            return db.getTotalScore(playerId);
-        }
-        int total = 0;
-        for (int score : levelScores.values()) {
-            total += score;
-        }
-        return total;
+        return totalScore;
     }
 
     /**
-     * Get player rank in leaderboard
+     * Get player rank in leaderboard (0 until the first fetch completes)
+     * Refetched in the background once the cached rank is older than the leaderboard TTL.
      */
     public int getRank() {
-        if (playerId > 0) {
-            return db.getPlayerRank(playerId);
+        if (playerId > 0 && System.nanoTime() - rankRequestedAt > GameConfig.getInstance().getLeaderboardTtl() * 1e9) {
+            refreshRank();
         }
-        return 0;
+        return rank;
+    }
+
+    /**
+     * Fetch the rank on the leaderboard thread
+     */
+    private void refreshRank() {
+        if (playerId <= 0) return;
+        rankRequestedAt = System.nanoTime();
+        LeaderboardService.getInstance().fetchRank(playerId, fetched -> rank = fetched);
     }
 
     /**
@@ -183,6 +213,20 @@ public class PlayerProfile {
         return count;
     }
 
+    /**
+     * Copy the values the view shows (name, level scores, unlocks, total and rank)
+     * Used to hand the profile to the render thread; copies nothing else.
+     */
+    public void copyFrom(PlayerProfile other) {
+        playerName = other.playerName;
+        for (int i = 1; i <= totalLevels; i++) {
+            levelScores.put(i, other.levelScores.getOrDefault(i, 0));
+            levelUnlocked.put(i, other.levelUnlocked.getOrDefault(i, false));
+        }
+        totalScore = other.totalScore;
+        rank = other.getRank();
+    }
+
     /**
      * Get total number of levels
      */
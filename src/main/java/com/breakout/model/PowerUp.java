@@ -1,7 +1,6 @@
 package com.breakout.model;
 
 import com.breakout.config.GameConfig;
-import javafx.scene.paint.Color;
 
 /**
  * PowerUp Entity Class
@@ -21,6 +20,7 @@ import javafx.scene.paint.Color;
  */
 public class PowerUp {
     private double x, y;
+    private double prevY;   // Position at the start of the last tick (for interpolation)
     private int size;
     private double fallSpeed;
     private boolean active;
@@ -28,34 +28,33 @@ public class PowerUp {
     private double remainingDuration;  // For timed power-ups
     private GameConfig config;
 
+    private static final PowerUpType[] TYPES = PowerUpType.values();
+
     /**
      * Power-up types with their effects
      */
     public enum PowerUpType {
-        EXTEND_PADDLE("E", Color.LIMEGREEN, "Extend Paddle", true, 10.0),
-        MULTI_BALL("M", Color.CYAN, "Multi-Ball", false, 0),
-        SLOW_BALL("S", Color.LIGHTBLUE, "Slow Ball", true, 8.0),
-        EXTRA_LIFE("♥", Color.RED, "Extra Life", false, 0),
-        SCORE_BOOST("2x", Color.GOLD, "Double Points", true, 15.0),
-        STICKY_PADDLE("▬", Color.PURPLE, "Sticky Paddle", true, 12.0),
-        SHIELD("◊", Color.ORANGE, "Bottom Shield", true, 20.0);
+        EXTEND_PADDLE("E", "Extend Paddle", true, 10.0),
+        MULTI_BALL("M", "Multi-Ball", false, 0),
+        SLOW_BALL("S", "Slow Ball", true, 8.0),
+        EXTRA_LIFE("♥", "Extra Life", false, 0),
+        SCORE_BOOST("2x", "Double Points", true, 15.0),
+        STICKY_PADDLE("▬", "Sticky Paddle", true, 12.0),
+        SHIELD("◊", "Bottom Shield", true, 20.0);
 
         private final String symbol;
-        private final Color color;
         private final String description;
         private final boolean timed;
         private final double duration;
 
-        PowerUpType(String symbol, Color color, String description, boolean timed, double duration) {
+        PowerUpType(String symbol, String description, boolean timed, double duration) {
             this.symbol = symbol;
-            this.color = color;
             this.description = description;
             this.timed = timed;
             this.duration = duration;
         }
 
         public String getSymbol() { return symbol; }
-        public Color getColor() { return color; }
         public String getDescription() { return description; }
         public boolean isTimed() { return timed; }
         public double getDuration() { return duration; }
@@ -63,16 +62,16 @@ public class PowerUp {
         /**
          * Get random power-up type
          */
-        public static PowerUpType random() {
+        public static PowerUpType random(GameRandom random) {
             PowerUpType[] types = values();
-            return types[(int)(Math.random() * types.length)];
+            return types[random.nextInt(types.length)];
         }
 
         /**
          * Get weighted random power-up (rarer = less likely)
          */
-        public static PowerUpType weightedRandom() {
-            double rand = Math.random();
+        public static PowerUpType weightedRandom(GameRandom random) {
+            double rand = random.nextDouble();
             if (rand < 0.25) return EXTEND_PADDLE;      // 25%
             else if (rand < 0.45) return SLOW_BALL;     // 20%
             else if (rand < 0.60) return SCORE_BOOST;   // 15%
@@ -85,8 +84,16 @@ public class PowerUp {
 
     public PowerUp(double x, double y, PowerUpType type) {
         this.config = GameConfig.getInstance();
+        init(x, y, type);
+    }
+
+    /**
+     * (Re)initialise as a fresh drop (pooled instances)
+     */
+    public void init(double x, double y, PowerUpType type) {
         this.x = x;
         this.y = y;
+        this.prevY = y;
         this.type = type;
         this.size = config.getPowerUpSize();
         this.fallSpeed = config.getPowerUpFallSpeed();
@@ -97,16 +104,25 @@ public class PowerUp {
     /**
      * Create random power-up at position
      */
-    public static PowerUp createRandom(double x, double y) {
-        return new PowerUp(x, y, PowerUpType.weightedRandom());
+    public static PowerUp createRandom(double x, double y, GameRandom random) {
+        return new PowerUp(x, y, PowerUpType.weightedRandom(random));
+    }
+
+    /**
+     * (Re)initialise as a random drop at position
+     */
+    public void initRandom(double x, double y, GameRandom random) {
+        init(x, y, PowerUpType.weightedRandom(random));
     }
 
     /**
      * Update power-up position (falling)
+     * @param deltaTime simulated seconds since the last tick
      */
-    public void update() {
+    public void update(double deltaTime) {
         if (!active) return;
-        y += fallSpeed;
+        prevY = y;
+        y += fallSpeed * deltaTime * config.getBaseFrameRate();
 
         // Deactivate if falls below screen
         if (y > GameConfig.getInstance().getWindowHeight() + size) {
@@ -152,6 +168,39 @@ public class PowerUp {
         active = false;
     }
 
+    /**
+     * Write the drop state to a snapshot
+     */
+    void save(GameSnapshot s) {
+        s.putDouble(x);
+        s.putDouble(y);
+        s.putDouble(prevY);
+        s.putInt(size);
+        s.putDouble(fallSpeed);
+        s.putBoolean(active);
+        s.putByte(type.ordinal());
+        s.putDouble(remainingDuration);
+    }
+
+    /**
+     * Read the drop state written by save()
+     */
+    void restore(GameSnapshot s) {
+        x = s.getDouble();
+        y = s.getDouble();
+        prevY = s.getDouble();
+        size = s.getInt();
+        fallSpeed = s.getDouble();
+        active = s.getBoolean();
+        type = TYPES[s.getByte()];
+        remainingDuration = s.getDouble();
+    }
+
+    /**
+     * Position interpolated between the last two ticks
+     */
+    public double getRenderY(double alpha) { return prevY + (y - prevY) * alpha; }
+
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
@@ -159,6 +208,5 @@ public class PowerUp {
     public boolean isActive() { return active; }
     public PowerUpType getType() { return type; }
     public double getRemainingDuration() { return remainingDuration; }
-    public Color getColor() { return type.getColor(); }
     public String getSymbol() { return type.getSymbol(); }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.breakout.model;
+
+/**
+ * Swept Collision - Continuous circle-vs-box collision detection
+ *
+ * Finds the earliest time of impact of a moving circle against an
+ * axis-aligned box. The box is inflated by the circle radius (a rounded
+ * rectangle), the motion segment is tested against its faces with a slab
+ * test and against its rounded corners with a ray-circle test.
+ *
+ * Unlike a test at the end position only, a fast ball cannot skip over a
+ * thin brick or the paddle, and the contact normal comes from the actual
+ * face or corner hit.
+ */
+public final class SweptCollision {
+
+    private SweptCollision() {}
+
+    /**
+     * Sweep a circle from (x, y) by (mx, my) against a box
+     * @return true if a contact earlier than contact.time was found
+     *         (contact time and normal are updated)
+     */
+    public static boolean circleVsBox(double x, double y, double mx, double my, double r,
+                                      double minX, double minY, double maxX, double maxY,
+                                      Contact contact) {
+        // Already overlapping: report an immediate contact if moving inwards
+        double closestX = Math.max(minX, Math.min(x, maxX));
+        double closestY = Math.max(minY, Math.min(y, maxY));
+        double ox = x - closestX;
+        double oy = y - closestY;
+        double dist2 = ox * ox + oy * oy;
+        if (dist2 < r * r) {
+            double nx, ny;
+            if (dist2 > 1e-12) {
+                double dist = Math.sqrt(dist2);
+                nx = ox / dist;
+                ny = oy / dist;
+            } else {
+                // Centre inside the box: push out along the shallowest axis
+                double left = x - minX, right = maxX - x;
+                double top = y - minY, bottom = maxY - y;
+                double min = Math.min(Math.min(left, right), Math.min(top, bottom));
+                if (min == left) { nx = -1; ny = 0; }
+                else if (min == right) { nx = 1; ny = 0; }
+                else if (min == top) { nx = 0; ny = -1; }
+                else { nx = 0; ny = 1; }
+            }
+            return mx * nx + my * ny < 0 && contact.offer(0, nx, ny);
+        }
+
+        // Slab test against the box inflated by r
+        double tEnter = Double.NEGATIVE_INFINITY;
+        double tExit = Double.POSITIVE_INFINITY;
+        boolean enterX = false;
+
+        if (mx == 0) {
+            if (x < minX - r || x > maxX + r) return false;
+        } else {
+            double t1 = (minX - r - x) / mx;
+            double t2 = (maxX + r - x) / mx;
+            tEnter = Math.min(t1, t2);
+            tExit = Math.max(t1, t2);
+            enterX = true;
+        }
+
+        if (my == 0) {
+            if (y < minY - r || y > maxY + r) return false;
+        } else {
+            double t1 = (minY - r - y) / my;
+            double t2 = (maxY + r - y) / my;
+            double near = Math.min(t1, t2);
+            if (near > tEnter) {
+                tEnter = near;
+                enterX = false;
+            }
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+
+        if (tEnter > tExit || tExit < 0 || tEnter >= contact.time) return false;
+
+        // Entered through a flat face?
+        if (tEnter >= 0) {
+            double px = x + mx * tEnter;
+            double py = y + my * tEnter;
+            if (enterX && py >= minY && py <= maxY) {
+                return contact.offer(tEnter, mx > 0 ? -1 : 1, 0);
+            }
+            if (!enterX && px >= minX && px <= maxX) {
+                return contact.offer(tEnter, 0, my > 0 ? -1 : 1);
+            }
+        }
+
+        // Otherwise the segment is in a corner region: test that corner's circle
+        double sx = x + mx * Math.max(tEnter, 0);
+        double sy = y + my * Math.max(tEnter, 0);
+        double cornerX = sx < minX ? minX : maxX;
+        double cornerY = sy < minY ? minY : maxY;
+        return circleVsPoint(x, y, mx, my, r, cornerX, cornerY, contact);
+    }
+
+    /**
+     * Sweep a circle against a single point (a rounded box corner)
+     */
+    private static boolean circleVsPoint(double x, double y, double mx, double my, double r,
+                                         double px, double py, Contact contact) {
+        double fx = x - px;
+        double fy = y - py;
+        double a = mx * mx + my * my;
+        double b = fx * mx + fy * my;
+        double c = fx * fx + fy * fy - r * r;
+        if (a == 0 || b >= 0) return false;   // Not moving towards the point
+
+        double disc = b * b - a * c;
+        if (disc < 0) return false;
+
+        double t = (-b - Math.sqrt(disc)) / a;
+        if (t < 0 || t > 1) return false;
+
+        double nx = (x + mx * t - px) / r;
+        double ny = (y + my * t - py) / r;
+        return contact.offer(t, nx, ny);
+    }
+}
@@ -0,0 +1,192 @@
+package com.breakout.replay;
+
+import com.breakout.model.GameState;
+import com.breakout.model.PlayerInput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Replay - One recorded level session
+ * Level, seed and the per-tick input masks are enough to reproduce the
+ * session exactly, since the model is deterministic for a given seed.
+ *
+ * Inputs are stored as runs of identical masks. Each run is a single
+ * unsigned varint holding (length << PlayerInput.BITS) | mask, so a key
+ * held for a second costs two bytes and idle stretches cost almost nothing.
+ *
+ * File layout (big-endian, varints are unsigned LEB128):
+ *   "BRPL" | version byte | varint tick rate | varint level | 8-byte seed
+ *   | varint tick count | varint run count | runs
+ *   | varint final score | varint final lives | byte final state
+ *
+ * The final score, lives and state are written so playback can check that
+ * it reproduced the recorded outcome.
+ */
+public class Replay {
+    private static final byte[] MAGIC = {'B', 'R', 'P', 'L'};
+    private static final int VERSION = 1;
+    private static final int MASK = (1 << PlayerInput.BITS) - 1;
+
+    /** Longest run that fits a packed int; longer runs are split */
+    static final int MAX_RUN_LENGTH = Integer.MAX_VALUE >>> PlayerInput.BITS;
+
+    private final int simulationRate;
+    private final int level;
+    private final long seed;
+    private final int[] runs;
+    private final int runCount;
+    private final long ticks;
+    private final int finalScore;
+    private final int finalLives;
+    private final GameState finalState;
+
+    Replay(int simulationRate, int level, long seed, int[] runs, int runCount,
+           int finalScore, int finalLives, GameState finalState) {
+        this.simulationRate = simulationRate;
+        this.level = level;
+        this.seed = seed;
+        this.runs = runs;
+        this.runCount = runCount;
+        this.finalScore = finalScore;
+        this.finalLives = finalLives;
+        this.finalState = finalState;
+
+        long total = 0;
+        for (int i = 0; i < runCount; i++) total += runs[i] >>> PlayerInput.BITS;
+        this.ticks = total;
+    }
+
+    static int packRun(int input, int length) {
+        return (length << PlayerInput.BITS) | (input & MASK);
+    }
+
+    // ==================== ENCODING ====================
+
+    /**
+     * Encode to the compact file format
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + runCount * 2);
+        out.write(MAGIC, 0, MAGIC.length);
+        out.write(VERSION);
+        writeVarint(out, simulationRate);
+        writeVarint(out, level);
+        for (int shift = 56; shift >= 0; shift -= 8) out.write((int) (seed >>> shift));
+        writeVarint(out, ticks);
+        writeVarint(out, runCount);
+        for (int i = 0; i < runCount; i++) writeVarint(out, runs[i]);
+        writeVarint(out, finalScore);
+        writeVarint(out, finalLives);
+        out.write(finalState.ordinal());
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a replay written by encode()
+     * @throws IOException if the data is not a valid replay
+     */
+    public static Replay decode(byte[] data) throws IOException {
+        Reader in = new Reader(data);
+        for (byte b : MAGIC) {
+            if (in.readByte() != b) throw new IOException("Not a replay file");
+        }
+        int version = in.readByte();
+        if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+
+        int simulationRate = in.readInt();
+        int level = in.readInt();
+        long seed = 0;
+        for (int i = 0; i < 8; i++) seed = (seed << 8) | in.readByte();
+        long ticks = in.readVarint();
+        int runCount = in.readInt();
+        if (runCount > in.remaining()) throw new IOException("Truncated replay");
+        int[] runs = new int[runCount];
+        for (int i = 0; i < runCount; i++) runs[i] = in.readInt();
+        int finalScore = in.readInt();
+        int finalLives = in.readInt();
+        int stateOrdinal = in.readByte();
+
+        GameState[] states = GameState.values();
+        if (stateOrdinal >= states.length) throw new IOException("Invalid final state " + stateOrdinal);
+        Replay replay = new Replay(simulationRate, level, seed, runs, runCount,
+                finalScore, finalLives, states[stateOrdinal]);
+        if (replay.ticks != ticks) throw new IOException("Tick count does not match input runs");
+        return replay;
+    }
+
+    public void write(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Files.write(file, encode());
+    }
+
+    public static Replay read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Bounds-checked reader over the encoded bytes
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() throws IOException {
+            if (pos >= data.length) throw new IOException("Truncated replay");
+            return data[pos++] & 0xFF;
+        }
+
+        int remaining() {
+            return data.length - pos;
+        }
+
+        long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        int readInt() throws IOException {
+            long value = readVarint();
+            if (value > Integer.MAX_VALUE) throw new IOException("Value out of range");
+            return (int) value;
+        }
+    }
+
+    // ==================== GETTERS ====================
+
+    public int getSimulationRate() { return simulationRate; }
+    public int getLevel() { return level; }
+    public long getSeed() { return seed; }
+    public long getTicks() { return ticks; }
+    public int getRunCount() { return runCount; }
+    public int getInput(int run) { return runs[run] & MASK; }
+    public int getRunLength(int run) { return runs[run] >>> PlayerInput.BITS; }
+    public int getFinalScore() { return finalScore; }
+    public int getFinalLives() { return finalLives; }
+    public GameState getFinalState() { return finalState; }
+
+    @Override
+    public String toString() {
+        return String.format("Replay[level %d, seed %d, %,d ticks in %,d runs, %s with %d points]",
+                level, seed, ticks, runCount, finalState, finalScore);
+    }
+}
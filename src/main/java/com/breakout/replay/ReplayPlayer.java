@@ -0,0 +1,93 @@
+package com.breakout.replay;
+
+import com.breakout.model.GameModel;
+import com.breakout.model.PlayerProfile;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Replay Player - Fast-forward playback of recorded sessions
+ * Feeds the recorded input masks back into a model tick by tick, with no
+ * rendering, audio or frame pacing, and checks that the recorded outcome
+ * is reproduced.
+ *
+ * Runs with only the compiled classes on the classpath:
+ *
+ *   java -cp target/classes com.breakout.replay.ReplayPlayer replays/*.brpl
+ */
+public class ReplayPlayer {
+    private final GameModel model;
+
+    public ReplayPlayer(GameModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Start the recorded level and apply every recorded tick
+     * @throws IllegalStateException if the level cannot be started
+     */
+    public void play(Replay replay) {
+        model.startLevel(replay.getLevel(), replay.getSeed());
+        if (model.getLevel() != replay.getLevel() || model.getLevelSeed() != replay.getSeed()) {
+            throw new IllegalStateException("Cannot start level " + replay.getLevel());
+        }
+
+        double step = 1.0 / replay.getSimulationRate();
+        for (int run = 0; run < replay.getRunCount(); run++) {
+            int input = replay.getInput(run);
+            for (int i = replay.getRunLength(run); i > 0; i--) {
+                model.applyInput(input);
+                model.update(step);
+                model.getEvents().clear();
+            }
+        }
+    }
+
+    /**
+     * Whether the model ended where the recording did
+     */
+    public boolean matches(Replay replay) {
+        return model.getState() == replay.getFinalState()
+                && model.getCurrentScore() == replay.getFinalScore()
+                && model.getLives() == replay.getFinalLives();
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayPlayer <replay file>...");
+            System.exit(2);
+        }
+
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        ReplayPlayer player = new ReplayPlayer(new GameModel(profile));
+
+        int mismatches = 0;
+        for (String arg : args) {
+            Path file = Path.of(arg);
+            Replay replay;
+            try {
+                replay = Replay.read(file);
+            } catch (IOException e) {
+                System.err.println(file + ": " + e.getMessage());
+                mismatches++;
+                continue;
+            }
+
+            long start = System.nanoTime();
+            player.play(replay);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            double gameSeconds = (double) replay.getTicks() / replay.getSimulationRate();
+            boolean match = player.matches(replay);
+            if (!match) mismatches++;
+
+            System.out.println(file + ": " + replay);
+            System.out.printf("  %,d bytes, %.1f s of game time replayed in %.3f s (%.0fx)%n",
+                    replay.encode().length, gameSeconds, seconds, gameSeconds / seconds);
+            System.out.printf("  Replayed: %s with %d points, %d lives - %s%n",
+                    player.model.getState(), player.model.getCurrentScore(), player.model.getLives(),
+                    match ? "matches recording" : "DESYNC");
+        }
+        System.exit(mismatches == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,76 @@
+package com.breakout.replay;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.GameModel;
+import java.util.Arrays;
+
+/**
+ * Replay Recorder - Captures the input of one level session
+ *
+ * Features:
+ * - begin() at level start with the level and its seed
+ * - record() once per tick with the mask passed to GameModel.applyInput
+ * - Consecutive identical masks are merged into runs as they arrive,
+ *   so memory grows with input changes rather than with session length
+ * - finish() snapshots the outcome and returns an immutable Replay
+ */
+public class ReplayRecorder {
+    private int[] runs = new int[256];
+    private int runCount;
+    private int currentInput;
+    private int currentLength;
+    private int level;
+    private long seed;
+    private boolean recording;
+
+    /**
+     * Start recording a session (discards any unfinished one)
+     */
+    public void begin(int level, long seed) {
+        this.level = level;
+        this.seed = seed;
+        this.runCount = 0;
+        this.currentLength = 0;
+        this.recording = true;
+    }
+
+    /**
+     * Record the input applied on one tick
+     */
+    public void record(int input) {
+        if (!recording) return;
+        if (currentLength > 0 && (input != currentInput || currentLength == Replay.MAX_RUN_LENGTH)) {
+            flushRun();
+        }
+        currentInput = input;
+        currentLength++;
+    }
+
+    /**
+     * Stop recording and return the session with its outcome
+     * @return the replay, or null if nothing was being recorded
+     */
+    public Replay finish(GameModel model) {
+        if (!recording) return null;
+        if (currentLength > 0) flushRun();
+        recording = false;
+        return new Replay(GameConfig.getInstance().getSimulationRate(), level, seed,
+                Arrays.copyOf(runs, runCount), runCount,
+                model.getCurrentScore(), model.getLives(), model.getState());
+    }
+
+    /**
+     * Stop recording without producing a replay
+     */
+    public void cancel() {
+        recording = false;
+    }
+
+    public boolean isRecording() { return recording; }
+
+    private void flushRun() {
+        if (runCount == runs.length) runs = Arrays.copyOf(runs, runCount * 2);
+        runs[runCount++] = Replay.packRun(currentInput, currentLength);
+        currentLength = 0;
+    }
+}
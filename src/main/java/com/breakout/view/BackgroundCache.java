@@ -0,0 +1,106 @@
+package com.breakout.view;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Stop;
+
+/**
+ * Background Cache - Pre-rendered full-screen backgrounds
+ * Backgrounds never change while a screen is shown, so each one is
+ * composited once at canvas size and then drawn as a single image.
+ *
+ * Features:
+ * - Level pictures pre-scaled with their darkening overlay baked in
+ * - Vertical gradients cached per color pair, looked up without allocating
+ * - Starfield pre-rendered into one transparent tile that scrolls
+ *   sideways (two drawImage calls instead of 50 ovals)
+ */
+final class BackgroundCache {
+    private static final int STAR_COUNT = 50;
+    private static final double STAR_SPEED = 5;   // px per second of animation time
+    private static final Color OVERLAY = Color.rgb(0, 0, 0, 0.3);
+
+    private final double width, height;
+    private final Canvas canvas;   // Scratch canvas the images are composited in
+    private final GraphicsContext gc;
+    private final SnapshotParameters snapshotParameters;
+
+    private final Map<Image, Image> pictures = new IdentityHashMap<>();
+    private final Map<Color, Map<Color, Image>> gradients = new HashMap<>();   // By top, then bottom color
+    private final Image starTile;
+
+    BackgroundCache(double width, double height) {
+        this.width = width;
+        this.height = height;
+        this.canvas = new Canvas(width, height);
+        this.gc = canvas.getGraphicsContext2D();
+        this.snapshotParameters = new SnapshotParameters();
+        snapshotParameters.setFill(Color.TRANSPARENT);
+        this.starTile = createStarTile();
+    }
+
+    /**
+     * A level picture scaled to the canvas, with the overlay that keeps bricks readable
+     */
+    Image picture(Image source) {
+        return pictures.computeIfAbsent(source, image -> {
+            gc.clearRect(0, 0, width, height);
+            gc.drawImage(image, 0, 0, width, height);
+            gc.setFill(OVERLAY);
+            gc.fillRect(0, 0, width, height);
+            return snapshot();
+        });
+    }
+
+    /**
+     * A top-to-bottom gradient filling the canvas
+     */
+    Image gradient(Color top, Color bottom) {
+        Map<Color, Image> byBottom = gradients.get(top);
+        Image image = byBottom != null ? byBottom.get(bottom) : null;
+        if (image == null) {
+            gc.clearRect(0, 0, width, height);
+            gc.setFill(new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+                    new Stop(0, top), new Stop(1, bottom)));
+            gc.fillRect(0, 0, width, height);
+            image = snapshot();
+            gradients.computeIfAbsent(top, key -> new HashMap<>()).put(bottom, image);
+        }
+        return image;
+    }
+
+    /**
+     * Draw the starfield, scrolled for the given animation time
+     */
+    void drawStars(GraphicsContext target, double animationTime) {
+        double scroll = (animationTime * STAR_SPEED) % width;
+        target.drawImage(starTile, scroll, 0);
+        target.drawImage(starTile, scroll - width, 0);
+    }
+
+    /**
+     * Stars at the positions the per-frame loop used at time 0, at their mean size
+     */
+    private Image createStarTile() {
+        gc.clearRect(0, 0, width, height);
+        gc.setFill(Color.rgb(255, 255, 255, 0.5));
+        for (int i = 0; i < STAR_COUNT; i++) {
+            gc.fillOval((i * 37) % width, (i * 23) % height, 1, 1);
+        }
+        return snapshot();
+    }
+
+    private Image snapshot() {
+        WritableImage image = new WritableImage((int) Math.ceil(width), (int) Math.ceil(height));
+        return canvas.snapshot(snapshotParameters, image);
+    }
+}
@@ -0,0 +1,120 @@
+package com.breakout.view;
+
+import com.breakout.model.BrickStore;
+import java.util.Arrays;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Brick Layer - Canvas of its own for the brick field
+ * Bricks only change when they are hit, so they live on a canvas that the
+ * game view stacks between the background and the moving entities; the
+ * scene graph composites it every frame and nothing is copied back.
+ *
+ * Features:
+ * - Nothing is redrawn while BrickStore's change counter stays the same
+ * - After a hit, only bricks whose hit points, live state or drop flags
+ *   changed are cleared and redrawn
+ * - A new board (level start, restart, snapshot restore) redraws everything
+ * - No snapshot: reading a canvas back from the GPU stalls the frame
+ */
+final class BrickLayer {
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+
+    // What the layer shows (per brick, -1 = not drawn)
+    private BrickStore store;
+    private int version, layoutVersion;
+    private int[] drawnState = new int[0];
+
+    BrickLayer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.gc = canvas.getGraphicsContext2D();
+    }
+
+    /**
+     * Node to add to the scene graph, above the background
+     */
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Bring the layer up to date with the bricks
+     */
+    void update(BrickStore bricks) {
+        if (bricks == store && bricks.getVersion() == version) return;
+
+        if (bricks != store || bricks.getLayoutVersion() != layoutVersion) {
+            redrawAll(bricks);
+        } else {
+            redrawChanged(bricks);
+        }
+        store = bricks;
+        version = bricks.getVersion();
+        layoutVersion = bricks.getLayoutVersion();
+    }
+
+    private void redrawAll(BrickStore bricks) {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (drawnState.length < bricks.size()) drawnState = new int[bricks.size()];
+        Arrays.fill(drawnState, -1);
+        for (int i = 0; i < bricks.size(); i++) {
+            drawnState[i] = state(bricks, i);
+            if (bricks.isActive(i)) drawBrick(bricks, i);
+        }
+    }
+
+    private void redrawChanged(BrickStore bricks) {
+        for (int i = 0; i < bricks.size(); i++) {
+            int state = state(bricks, i);
+            if (state == drawnState[i]) continue;
+            drawnState[i] = state;
+
+            // The border stroke reaches half a pixel outside the brick
+            gc.clearRect(bricks.getX(i) - 1, bricks.getY(i) - 1,
+                    bricks.getWidth(i) + 2, bricks.getHeight(i) + 2);
+            if (bricks.isActive(i)) drawBrick(bricks, i);
+        }
+    }
+
+    /**
+     * Everything about a brick that shows, packed in an int (0 = not drawn)
+     */
+    private static int state(BrickStore bricks, int i) {
+        if (!bricks.isActive(i)) return 0;
+        int state = bricks.getHitPoints(i) << 3 | 1;
+        if (bricks.hasFlag(i, BrickStore.FLAG_POWER_UP)) state |= 2;
+        if (bricks.hasFlag(i, BrickStore.FLAG_PENALTY)) state |= 4;
+        return state;
+    }
+
+    private void drawBrick(BrickStore bricks, int i) {
+        double x = bricks.getX(i), y = bricks.getY(i);
+        int width = bricks.getWidth(i), height = bricks.getHeight(i);
+        Color baseColor = EntityColors.brick(bricks.getType(i), bricks.getHitPoints(i));
+
+        // Main brick
+        gc.setFill(baseColor);
+        gc.fillRoundRect(x, y, width, height, 5, 5);
+
+        // Highlight
+        gc.setFill(baseColor.brighter());
+        gc.fillRoundRect(x + 2, y + 2, width - 4, height / 3, 3, 3);
+
+        // Border
+        gc.setStroke(baseColor.darker());
+        gc.setLineWidth(1);
+        gc.strokeRoundRect(x, y, width, height, 5, 5);
+
+        // Power-up/Penalty indicator
+        if (bricks.hasFlag(i, BrickStore.FLAG_POWER_UP)) {
+            gc.setFill(Color.CYAN);
+            gc.fillOval(x + width - 10, y + 2, 8, 8);
+        } else if (bricks.hasFlag(i, BrickStore.FLAG_PENALTY)) {
+            gc.setFill(Color.RED);
+            gc.fillOval(x + width - 10, y + 2, 8, 8);
+        }
+    }
+}
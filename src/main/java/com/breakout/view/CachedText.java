@@ -0,0 +1,49 @@
+package com.breakout.view;
+
+/**
+ * Cached Text - A label that is rebuilt only when its values change
+ * HUD labels are built from a few numbers and strings that stay the same
+ * for many frames. The caller checks stale() with the values the label
+ * shows and only builds a new string when one of them changed:
+ *
+ *   if (label.stale(score, multiplier)) label.set("Score: " + score);
+ *   gc.fillText(label.text(), x, y);
+ *
+ * Features:
+ * - Up to two numeric keys and one object key (compared by identity,
+ *   e.g. the player name string)
+ * - No allocation on frames where nothing changed
+ */
+final class CachedText {
+    private String text;
+    private Object ref;
+    private long first, second;
+
+    /**
+     * Has a value changed since the text was set? Remembers the new values.
+     */
+    boolean stale(Object ref, long first, long second) {
+        if (text != null && ref == this.ref && first == this.first && second == this.second) {
+            return false;
+        }
+        this.ref = ref;
+        this.first = first;
+        this.second = second;
+        return true;
+    }
+
+    boolean stale(long first, long second) { return stale(null, first, second); }
+    boolean stale(long value) { return stale(null, value, 0); }
+
+    void set(String text) { this.text = text; }
+    String text() { return text; }
+
+    /**
+     * One label per slot (menu buttons, leaderboard rows)
+     */
+    static CachedText[] array(int length) {
+        CachedText[] texts = new CachedText[length];
+        for (int i = 0; i < length; i++) texts[i] = new CachedText();
+        return texts;
+    }
+}
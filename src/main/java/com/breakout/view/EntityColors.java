@@ -0,0 +1,89 @@
+package com.breakout.view;
+
+import com.breakout.model.Brick;
+import com.breakout.model.FallingBrick;
+import com.breakout.model.Penalty;
+import com.breakout.model.PowerUp;
+import javafx.scene.paint.Color;
+
+/**
+ * Entity Colors
+ * Maps model entity types to their JavaFX colors
+ *
+ * Colors live in the view so the model has no JavaFX dependency.
+ * Damaged brick shades are computed once per type and hit point value
+ * instead of calling deriveColor for every brick on every frame.
+ */
+final class EntityColors {
+    private static final Color[][] BRICK_SHADES = createBrickShades();
+
+    private EntityColors() {}
+
+    static Color brickBase(Brick.BrickType type) {
+        return switch (type) {
+            case NORMAL -> Color.LIGHTGREEN;
+            case HARD -> Color.ORANGE;
+            case TOUGH -> Color.RED;
+            case GOLD -> Color.GOLD;
+            case POWER -> Color.CYAN;
+            case PENALTY -> Color.DARKGRAY;
+            case UNBREAKABLE -> Color.SLATEGRAY;
+        };
+    }
+
+    /**
+     * Get brick color based on hit points remaining
+     */
+    static Color brick(Brick.BrickType type, int hitPoints) {
+        Color[] shades = BRICK_SHADES[type.ordinal()];
+        return shades[Math.max(0, Math.min(shades.length - 1, hitPoints))];
+    }
+
+    static Color powerUp(PowerUp.PowerUpType type) {
+        return switch (type) {
+            case EXTEND_PADDLE -> Color.LIMEGREEN;
+            case MULTI_BALL -> Color.CYAN;
+            case SLOW_BALL -> Color.LIGHTBLUE;
+            case EXTRA_LIFE -> Color.RED;
+            case SCORE_BOOST -> Color.GOLD;
+            case STICKY_PADDLE -> Color.PURPLE;
+            case SHIELD -> Color.ORANGE;
+        };
+    }
+
+    static Color penalty(Penalty.PenaltyType type) {
+        return switch (type) {
+            case SPEED_UP -> Color.ORANGERED;
+            case SHRINK_PADDLE -> Color.DARKRED;
+            case DOUBLE_BALL -> Color.DARKORANGE;
+            case FALLING_BRICK -> Color.DARKGRAY;
+            case REVERSE_CONTROLS -> Color.DARKVIOLET;
+            case BLIND_ZONE -> Color.BLACK;
+        };
+    }
+
+    static Color fallingBrick(FallingBrick fb) {
+        Brick.BrickType source = fb.getSourceType();
+        return source == null ? Color.DARKGRAY : brickBase(source).darker();
+    }
+
+    private static Color[][] createBrickShades() {
+        Brick.BrickType[] types = Brick.BrickType.values();
+        Color[][] shades = new Color[types.length][];
+        for (Brick.BrickType type : types) {
+            Color base = brickBase(type);
+            if (type == Brick.BrickType.UNBREAKABLE) {
+                shades[type.ordinal()] = new Color[]{base};
+                continue;
+            }
+            int max = type.getHitPoints();
+            Color[] byHitPoints = new Color[max + 1];
+            for (int hp = 0; hp <= max; hp++) {
+                double ratio = (double) hp / max;
+                byHitPoints[hp] = base.deriveColor(0, 1, ratio * 0.5 + 0.5, 1);
+            }
+            shades[type.ordinal()] = byHitPoints;
+        }
+        return shades;
+    }
+}
@@ -0,0 +1,48 @@
+package com.breakout.view;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Fonts - Registry of the fonts the view draws with
+ * Font.font() looks the family up every time it is called; the view asks
+ * for about a dozen fonts per frame, so each size is created once and
+ * reused.
+ *
+ * Features:
+ * - Regular and bold Arial by point size
+ * - Each font is created on first use and kept for the rest of the run
+ */
+final class Fonts {
+    private static final String FAMILY = "Arial";
+    private static final int MAX_SIZE = 96;
+
+    private static final Font[] REGULAR = new Font[MAX_SIZE + 1];
+    private static final Font[] BOLD = new Font[MAX_SIZE + 1];
+
+    private Fonts() {}
+
+    /**
+     * Regular Arial at the given size
+     */
+    static Font regular(int size) {
+        Font font = REGULAR[size];
+        if (font == null) {
+            font = Font.font(FAMILY, size);
+            REGULAR[size] = font;
+        }
+        return font;
+    }
+
+    /**
+     * Bold Arial at the given size
+     */
+    static Font bold(int size) {
+        Font font = BOLD[size];
+        if (font == null) {
+            font = Font.font(FAMILY, FontWeight.BOLD, size);
+            BOLD[size] = font;
+        }
+        return font;
+    }
+}
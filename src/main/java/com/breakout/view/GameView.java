@@ -1,7 +1,9 @@
 package com.breakout.view;
 
 import com.breakout.audio.AudioManager;
+import com.breakout.config.GameConfig;
 import com.breakout.database.DatabaseManager;
+import com.breakout.database.LeaderboardService;
 import com.breakout.model.*;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -9,8 +11,6 @@ import javafx.scene.effect.GaussianBlur;
 import javafx.scene.image.Image;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.*;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
 import javafx.scene.transform.Affine;
 import java.util.HashMap;
@@ -20,6 +20,9 @@ import java.util.Map;
 /**
  * Game View - MVC Pattern
  * Handles all rendering using JavaFX Canvas
+ * In game the screen is three stacked canvases: the backdrop (background,
+ * shield, blind zone), the brick layer, and the main canvas with everything
+ * that moves, the HUD and the overlays. Menus paint the main canvas only.
  *
  * Features v3.0:
  * - Background images per level
@@ -33,51 +36,104 @@ import java.util.Map;
 public class GameView extends StackPane {
     private Canvas canvas;
     private GraphicsContext gc;
+    private final Canvas backdrop;
+    private final GraphicsContext backdropGc;
     private GameModel model;
     private AudioManager audio;
 
-    // Background images per level
-    private Map<Integer, Image> backgroundImages;
+    // Level background images by file name, loaded on first use (null if missing)
+    private Map<String, Image> backgroundImages;
     private Image menuBackground;
+    private LevelTemplate backgroundTemplate;   // Level the last background lookup was for
+    private int backgroundLevel;
+    private Image backgroundImage;
+    private int gradientLevel;                  // Level the cached gradient was made for
+    private Image levelGradient;
+
+    // Brick field on its own canvas, redrawn only when bricks change
+    private final BrickLayer brickLayer;
+
+    // Full-screen backgrounds and the starfield, pre-rendered once
+    private final BackgroundCache backgrounds;
+
+    // Balls, hearts, drops and paddles, pre-rendered once
+    private final SpriteAtlas sprites;
+
+    // HUD and menu labels, rebuilt only when their values change
+    private final CachedText playerText = new CachedText();
+    private final CachedText scoreText = new CachedText();
+    private final CachedText ballCountText = new CachedText();
+    private final CachedText welcomeText = new CachedText();
+    private final CachedText totalText = new CachedText();
+    private final CachedText[] effectTexts = CachedText.array(EFFECT_TYPES.length);
+    private final CachedText nameInputText = new CachedText();
+    private final CachedText moreAboveText = new CachedText();
+    private final CachedText moreBelowText = new CachedText();
+    private final CachedText[] levelTexts = CachedText.array(MENU_VISIBLE_LEVELS);
+    private final CachedText[] bestTexts = CachedText.array(MENU_VISIBLE_LEVELS);
+    private final CachedText gameOverText = new CachedText();
+    private final CachedText bestScoreText = new CachedText();
+    private final CachedText levelCompleteText = new CachedText();
+    private final CachedText levelScoreText = new CachedText();
+    private final CachedText nextLevelText = new CachedText();
+    private final CachedText congratsText = new CachedText();
+    private final CachedText victoryTotalText = new CachedText();
+
+    // Leaderboard rows, one label per row and column
+    private final CachedText[] rankTexts;
+    private final CachedText[] leaderScoreTexts;
+    private final CachedText[] levelsTexts;
 
     // Animation
     private double animationTime = 0;
+    private double interpolation = 1.0;  // Blend factor between the last two model ticks
 
     // Colors
     private static final Color BG_DARK = Color.rgb(20, 20, 40);
     private static final Color BG_GRADIENT_TOP = Color.rgb(30, 30, 80);
     private static final Color BG_GRADIENT_BOTTOM = Color.rgb(10, 10, 40);
+    private static final Color MENU_GRADIENT_TOP = Color.rgb(20, 20, 60);
+    private static final Color MENU_GRADIENT_BOTTOM = Color.rgb(10, 10, 30);
+    private static final Color VICTORY_GRADIENT_TOP = Color.rgb(50, 40, 0);
+    private static final Color VICTORY_GRADIENT_BOTTOM = Color.rgb(20, 15, 0);
+
+    private static final EffectType[] EFFECT_TYPES = EffectType.values();
+
+    // Level buttons shown at once on the menu
+    private static final int MENU_VISIBLE_LEVELS = 6;
+
+    private static final String MUSIC_ON = "♪ Music: ON";
+    private static final String MUSIC_OFF = "♪ Music: OFF";
+    private static final String SFX_ON = "♫ SFX: ON";
+    private static final String SFX_OFF = "♫ SFX: OFF";
 
     public GameView(GameModel model, double width, double height) {
         this.model = model;
         this.audio = AudioManager.getInstance();
         this.canvas = new Canvas(width, height);
         this.gc = canvas.getGraphicsContext2D();
+        this.backdrop = new Canvas(width, height);
+        this.backdropGc = backdrop.getGraphicsContext2D();
         this.backgroundImages = new HashMap<>();
-
-        getChildren().add(canvas);
+        this.brickLayer = new BrickLayer(width, height);
+        this.backgrounds = new BackgroundCache(width, height);
+        this.sprites = new SpriteAtlas();
+        int leaderboardSize = GameConfig.getInstance().getLeaderboardSize();
+        this.rankTexts = CachedText.array(leaderboardSize);
+        this.leaderScoreTexts = CachedText.array(leaderboardSize);
+        this.levelsTexts = CachedText.array(leaderboardSize);
+
+        getChildren().addAll(backdrop, brickLayer.getCanvas(), canvas);
         gc.setTextAlign(TextAlignment.LEFT);
 
         loadBackgroundImages();
     }
 
     /**
-     * Load background images for each level
+     * Load the menu background (level backgrounds are loaded when first shown)
      */
     private void loadBackgroundImages() {
         try {
-            // Try to load background images
-            for (int i = 1; i <= 5; i++) {
-                try {
-                    Image img = new Image(getClass().getResourceAsStream("/images/level" + i + "_bg.png"));
-                    if (!img.isError()) {
-                        backgroundImages.put(i, img);
-                    }
-                } catch (Exception e) {
-                    // Background not found, will use gradient
-                }
-            }
-
             try {
                 menuBackground = new Image(getClass().getResourceAsStream("/images/menu_bg.png"));
             } catch (Exception e) {
@@ -90,11 +146,18 @@ public class GameView extends StackPane {
 
     /**
      * Main render method - called every frame
+     * @param interpolation blend factor between the previous (0) and current (1) model tick
+     * @param frameTime seconds since the last rendered frame (advances the animations)
      */
-    public void render() {
-        animationTime += 0.016;
+    public void render(double interpolation, double frameTime) {
+        this.interpolation = interpolation;
+        animationTime += frameTime;
 
         GameState state = model.getState();
+        boolean inGame = state == GameState.PLAYING || state == GameState.PAUSED
+                || state == GameState.GAME_OVER || state == GameState.LEVEL_COMPLETE;
+        backdrop.setVisible(inGame);
+        brickLayer.getCanvas().setVisible(inGame);
 
         switch (state) {
             case NAME_INPUT:
@@ -134,39 +197,59 @@ public class GameView extends StackPane {
 
     // ==================== BACKGROUND RENDERING ====================
 
+    /**
+     * Background image of a level: named by its level file, else levelN_bg.png
+     */
+    private Image getLevelBackground(int level) {
+        LevelTemplate template = model.getLevelTemplate();
+        if (level == backgroundLevel && template == backgroundTemplate) return backgroundImage;
+        backgroundLevel = level;
+        backgroundTemplate = template;
+
+        String name = template != null && template.getBackground() != null
+                ? template.getBackground() : "level" + level + "_bg.png";
+        if (!backgroundImages.containsKey(name)) {
+            Image img = null;
+            try {
+                img = new Image(getClass().getResourceAsStream("/images/" + name));
+                if (img.isError()) img = null;
+            } catch (Exception e) {
+                // Background not found, will use gradient
+            }
+            backgroundImages.put(name, img);
+        }
+        backgroundImage = backgroundImages.get(name);
+        return backgroundImage;
+    }
+
     private void renderBackground(int level) {
-        Image bg = backgroundImages.get(level);
+        Image bg = getLevelBackground(level);
         if (bg != null && !bg.isError()) {
-            gc.drawImage(bg, 0, 0, canvas.getWidth(), canvas.getHeight());
-            // Add semi-transparent overlay for better visibility
-            gc.setFill(Color.rgb(0, 0, 0, 0.3));
-            gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            // Picture with its semi-transparent overlay, composited once
+            backdropGc.drawImage(backgrounds.picture(bg), 0, 0);
         } else {
             // Gradient background based on level
-            Color topColor = getLevelColor(level).darker().darker();
-            Color bottomColor = BG_GRADIENT_BOTTOM;
-
-            LinearGradient bg_gradient = new LinearGradient(
-                    0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
-                    new Stop(0, topColor),
-                    new Stop(1, bottomColor)
-            );
-            gc.setFill(bg_gradient);
-            gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            backdropGc.drawImage(getLevelGradient(level), 0, 0);
 
             // Add animated stars
-            renderStars();
+            backgrounds.drawStars(backdropGc, animationTime);
         }
     }
 
-    private void renderStars() {
-        gc.setFill(Color.rgb(255, 255, 255, 0.5));
-        for (int i = 0; i < 50; i++) {
-            double x = (i * 37 + animationTime * 5) % canvas.getWidth();
-            double y = (i * 23) % canvas.getHeight();
-            double size = 1 + Math.sin(animationTime + i) * 0.5;
-            gc.fillOval(x, y, size, size);
+    /**
+     * Gradient of a level without a picture, looked up again only when the level changes
+     */
+    private Image getLevelGradient(int level) {
+        if (level != gradientLevel || levelGradient == null) {
+            gradientLevel = level;
+            Color topColor = getLevelColor(level).darker().darker();
+            levelGradient = backgrounds.gradient(topColor, BG_GRADIENT_BOTTOM);
         }
+        return levelGradient;
+    }
+
+    private void renderStars() {
+        backgrounds.drawStars(gc, animationTime);
     }
 
     private Color getLevelColor(int level) {
@@ -183,29 +266,23 @@ public class GameView extends StackPane {
     // ==================== NAME INPUT SCREEN ====================
 
     private void renderNameInput() {
-        LinearGradient bg = new LinearGradient(
-                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
-                new Stop(0, BG_GRADIENT_TOP),
-                new Stop(1, BG_GRADIENT_BOTTOM)
-        );
-        gc.setFill(bg);
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.drawImage(backgrounds.gradient(BG_GRADIENT_TOP, BG_GRADIENT_BOTTOM), 0, 0);
         renderStars();
 
         gc.setTextAlign(TextAlignment.CENTER);
 
         // Title with glow effect
         gc.setFill(Color.CYAN);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 72));
+        gc.setFont(Fonts.bold(72));
         gc.fillText("BREAKOUT", canvas.getWidth() / 2, 120);
 
         gc.setFill(Color.LIGHTBLUE);
-        gc.setFont(Font.font("Arial", 24));
+        gc.setFont(Fonts.regular(24));
         gc.fillText("Enhanced Edition v3.0", canvas.getWidth() / 2, 160);
 
         // Enter name prompt
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 28));
+        gc.setFont(Fonts.bold(28));
         gc.fillText("Enter Your Name", canvas.getWidth() / 2, canvas.getHeight() / 2 - 60);
 
         // Name input box
@@ -223,13 +300,16 @@ public class GameView extends StackPane {
         gc.strokeRoundRect(boxX, boxY, boxWidth, boxHeight, 10, 10);
 
         String nameText = model.getNameInput();
-        String cursor = System.currentTimeMillis() % 1000 < 500 ? "_" : "";
+        int cursor = System.currentTimeMillis() % 1000 < 500 ? 1 : 0;
+        if (nameInputText.stale(nameText, cursor, 0)) {
+            nameInputText.set(cursor == 1 ? nameText + "_" : nameText);
+        }
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 24));
-        gc.fillText(nameText + cursor, canvas.getWidth() / 2, boxY + 33);
+        gc.setFont(Fonts.bold(24));
+        gc.fillText(nameInputText.text(), canvas.getWidth() / 2, boxY + 33);
 
         gc.setFill(Color.LIGHTGRAY);
-        gc.setFont(Font.font("Arial", 18));
+        gc.setFont(Fonts.regular(18));
         gc.fillText("Press ENTER to continue", canvas.getWidth() / 2, canvas.getHeight() / 2 + 80);
 
         renderDecorativeBricks(canvas.getHeight() - 150);
@@ -238,13 +318,7 @@ public class GameView extends StackPane {
     // ==================== MENU ====================
 
     private void renderMenu() {
-        LinearGradient bg = new LinearGradient(
-                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
-                new Stop(0, Color.rgb(20, 20, 60)),
-                new Stop(1, Color.rgb(10, 10, 30))
-        );
-        gc.setFill(bg);
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.drawImage(backgrounds.gradient(MENU_GRADIENT_TOP, MENU_GRADIENT_BOTTOM), 0, 0);
         renderStars();
 
         gc.setTextAlign(TextAlignment.CENTER);
@@ -253,32 +327,54 @@ public class GameView extends StackPane {
 
         // Welcome message
         gc.setFill(Color.CYAN);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 36));
-        gc.fillText("Welcome, " + profile.getPlayerName() + "!", canvas.getWidth() / 2, 50);
+        gc.setFont(Fonts.bold(36));
+        String name = profile.getPlayerName();
+        if (welcomeText.stale(name, 0, 0)) welcomeText.set("Welcome, " + name + "!");
+        gc.fillText(welcomeText.text(), canvas.getWidth() / 2, 50);
 
         // Title
         gc.setFill(Color.YELLOW);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 42));
+        gc.setFont(Fonts.bold(42));
         gc.fillText("SELECT LEVEL", canvas.getWidth() / 2, 100);
 
         // Total score and rank
         gc.setFill(Color.GOLD);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 20));
-        gc.fillText("Total Score: " + profile.getTotalScore() + "  |  Rank: #" + profile.getRank(),
-                canvas.getWidth() / 2, 135);
+        gc.setFont(Fonts.bold(20));
+        int totalScore = profile.getTotalScore();
+        int rank = profile.getRank();
+        if (totalText.stale(totalScore, rank)) {
+            totalText.set("Total Score: " + totalScore + "  |  Rank: #" + rank);
+        }
+        gc.fillText(totalText.text(), canvas.getWidth() / 2, 135);
 
-        // Level buttons
+        // Level buttons (a scrolling window around the selection)
         int totalLevels = model.getTotalLevels();
         int selectedLevel = model.getSelectedLevel();
         double startY = 160;
         double levelHeight = 65;
+        int first = Math.max(1, Math.min(selectedLevel - MENU_VISIBLE_LEVELS / 2,
+                totalLevels - MENU_VISIBLE_LEVELS + 1));
+        int last = Math.min(totalLevels, first + MENU_VISIBLE_LEVELS - 1);
+
+        gc.setFill(Color.LIGHTGRAY);
+        gc.setFont(Fonts.regular(14));
+        if (first > 1) {
+            if (moreAboveText.stale(first - 1)) moreAboveText.set("▲ " + (first - 1) + " more");
+            gc.fillText(moreAboveText.text(), canvas.getWidth() / 2, startY - 6);
+        }
+        if (last < totalLevels) {
+            int below = totalLevels - last;
+            if (moreBelowText.stale(below)) moreBelowText.set("▼ " + below + " more");
+            gc.fillText(moreBelowText.text(), canvas.getWidth() / 2,
+                    startY + MENU_VISIBLE_LEVELS * levelHeight + 4);
+        }
 
-        for (int i = 1; i <= totalLevels; i++) {
-            double y = startY + (i - 1) * levelHeight;
+        for (int i = first; i <= last; i++) {
+            double y = startY + (i - first) * levelHeight;
             boolean unlocked = profile.isLevelUnlocked(i);
             boolean selected = (i == selectedLevel);
             int levelScore = profile.getLevelScore(i);
-            renderLevelButton(i, y, unlocked, selected, levelScore);
+            renderLevelButton(i - first, i, y, unlocked, selected, levelScore);
         }
 
         // Audio status
@@ -286,12 +382,12 @@ public class GameView extends StackPane {
 
         // Controls
         gc.setFill(Color.LIGHTGRAY);
-        gc.setFont(Font.font("Arial", 14));
+        gc.setFont(Fonts.regular(14));
         gc.fillText("↑↓ Select | ENTER Start | L Leaderboard | F1 Music | F2 SFX",
                 canvas.getWidth() / 2, canvas.getHeight() - 20);
     }
 
-    private void renderLevelButton(int level, double y, boolean unlocked,
+    private void renderLevelButton(int slot, int level, double y, boolean unlocked,
                                    boolean selected, int score) {
         double buttonWidth = 500;
         double buttonHeight = 50;
@@ -318,11 +414,14 @@ public class GameView extends StackPane {
             gc.strokeRoundRect(x, y, buttonWidth, buttonHeight, 15, 15);
         }
 
+        CachedText levelText = levelTexts[slot];
+        if (levelText.stale(level)) levelText.set("Level " + level);
+
         gc.setTextAlign(TextAlignment.LEFT);
         if (unlocked) {
             gc.setFill(selected ? Color.WHITE : Color.LIGHTGRAY);
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 22));
-            gc.fillText("Level " + level, x + 20, y + 32);
+            gc.setFont(Fonts.bold(22));
+            gc.fillText(levelText.text(), x + 20, y + 32);
 
             String stars = getStarsForScore(score, level);
             gc.setFill(Color.GOLD);
@@ -330,12 +429,14 @@ public class GameView extends StackPane {
 
             gc.setTextAlign(TextAlignment.RIGHT);
             gc.setFill(selected ? Color.YELLOW : Color.LIGHTBLUE);
-            gc.setFont(Font.font("Arial", 16));
-            gc.fillText("Best: " + score, x + buttonWidth - 20, y + 32);
+            gc.setFont(Fonts.regular(16));
+            CachedText bestText = bestTexts[slot];
+            if (bestText.stale(score)) bestText.set("Best: " + score);
+            gc.fillText(bestText.text(), x + buttonWidth - 20, y + 32);
         } else {
             gc.setFill(Color.GRAY);
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 22));
-            gc.fillText("Level " + level, x + 20, y + 32);
+            gc.setFont(Fonts.bold(22));
+            gc.fillText(levelText.text(), x + 20, y + 32);
             gc.fillText("🔒 LOCKED", x + 140, y + 32);
         }
 
@@ -344,17 +445,15 @@ public class GameView extends StackPane {
 
     private void renderAudioStatus() {
         gc.setTextAlign(TextAlignment.RIGHT);
-        gc.setFont(Font.font("Arial", 14));
+        gc.setFont(Fonts.regular(14));
 
         // Music status
         gc.setFill(audio.isMusicEnabled() ? Color.LIMEGREEN : Color.GRAY);
-        gc.fillText("♪ Music: " + (audio.isMusicEnabled() ? "ON" : "OFF"),
-                canvas.getWidth() - 20, 30);
+        gc.fillText(audio.isMusicEnabled() ? MUSIC_ON : MUSIC_OFF, canvas.getWidth() - 20, 30);
 
         // SFX status
         gc.setFill(audio.isSfxEnabled() ? Color.LIMEGREEN : Color.GRAY);
-        gc.fillText("♫ SFX: " + (audio.isSfxEnabled() ? "ON" : "OFF"),
-                canvas.getWidth() - 20, 50);
+        gc.fillText(audio.isSfxEnabled() ? SFX_ON : SFX_OFF, canvas.getWidth() - 20, 50);
 
         gc.setTextAlign(TextAlignment.CENTER);
     }
@@ -379,18 +478,18 @@ public class GameView extends StackPane {
         gc.setTextAlign(TextAlignment.CENTER);
 
         gc.setFill(Color.GOLD);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 48));
+        gc.setFont(Fonts.bold(48));
         gc.fillText("🏆 LEADERBOARD 🏆", canvas.getWidth() / 2, 80);
 
-        List<DatabaseManager.LeaderboardEntry> entries =
-                DatabaseManager.getInstance().getLeaderboard(10);
+        // Cached snapshot, refreshed in the background (null while the first fetch runs)
+        LeaderboardService.Snapshot leaderboard = LeaderboardService.getInstance().getLeaderboard();
 
         double startY = 140;
         double rowHeight = 40;
 
         // Header
         gc.setFill(Color.LIGHTGRAY);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        gc.setFont(Fonts.bold(18));
         gc.setTextAlign(TextAlignment.LEFT);
         gc.fillText("RANK", 150, startY);
         gc.fillText("PLAYER", 250, startY);
@@ -405,7 +504,17 @@ public class GameView extends StackPane {
 
         startY += 30;
 
-        for (DatabaseManager.LeaderboardEntry entry : entries) {
+        if (leaderboard == null) {
+            gc.setFill(Color.GRAY);
+            gc.setFont(Fonts.regular(18));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.fillText("Loading...", canvas.getWidth() / 2, 250);
+        }
+        List<DatabaseManager.LeaderboardEntry> entries = leaderboard != null ? leaderboard.entries : List.of();
+        int totalLevels = model.getTotalLevels();
+
+        for (int row = 0; row < entries.size() && row < rankTexts.length; row++) {
+            DatabaseManager.LeaderboardEntry entry = entries.get(row);
             Color rowColor = entry.rank <= 3 ?
                     switch (entry.rank) {
                         case 1 -> Color.GOLD;
@@ -415,26 +524,34 @@ public class GameView extends StackPane {
                     } : Color.WHITE;
 
             gc.setFill(rowColor);
-            gc.setFont(Font.font("Arial", entry.rank <= 3 ? FontWeight.BOLD : FontWeight.NORMAL, 18));
+            gc.setFont(entry.rank <= 3 ? Fonts.bold(18) : Fonts.regular(18));
 
             gc.setTextAlign(TextAlignment.LEFT);
-            gc.fillText("#" + entry.rank, 150, startY);
+            if (rankTexts[row].stale(entry.rank)) rankTexts[row].set("#" + entry.rank);
+            if (leaderScoreTexts[row].stale(entry.totalScore)) {
+                leaderScoreTexts[row].set(String.valueOf(entry.totalScore));
+            }
+            if (levelsTexts[row].stale(entry.levelsCompleted, totalLevels)) {
+                levelsTexts[row].set(entry.levelsCompleted + "/" + totalLevels);
+            }
+
+            gc.fillText(rankTexts[row].text(), 150, startY);
             gc.fillText(entry.playerName, 250, startY);
             gc.setTextAlign(TextAlignment.RIGHT);
-            gc.fillText(String.valueOf(entry.totalScore), 550, startY);
-            gc.fillText(entry.levelsCompleted + "/5", 650, startY);
+            gc.fillText(leaderScoreTexts[row].text(), 550, startY);
+            gc.fillText(levelsTexts[row].text(), 650, startY);
 
             startY += rowHeight;
         }
 
-        if (entries.isEmpty()) {
+        if (leaderboard != null && entries.isEmpty()) {
             gc.setFill(Color.GRAY);
             gc.setTextAlign(TextAlignment.CENTER);
             gc.fillText("No scores yet!", canvas.getWidth() / 2, 250);
         }
 
         gc.setFill(Color.LIGHTGRAY);
-        gc.setFont(Font.font("Arial", 16));
+        gc.setFont(Fonts.regular(16));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("Press ESC or L to return", canvas.getWidth() / 2, canvas.getHeight() - 50);
     }
@@ -442,7 +559,9 @@ public class GameView extends StackPane {
     // ==================== GAME RENDERING ====================
 
     private void renderGame() {
+        // Backdrop and bricks sit on the canvases beneath this one
         renderBackground(model.getLevel());
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
 
         // Render shield if active
         if (model.hasShield()) {
@@ -460,55 +579,27 @@ public class GameView extends StackPane {
         renderPenalties();
         renderPaddle();
         renderBalls();
+        renderStormBalls();
     }
 
     private void renderShield() {
-        gc.setFill(Color.rgb(255, 165, 0, 0.3 + Math.sin(animationTime * 5) * 0.1));
-        gc.fillRect(0, canvas.getHeight() - 20, canvas.getWidth(), 20);
-        gc.setStroke(Color.ORANGE);
-        gc.setLineWidth(3);
-        gc.strokeLine(0, canvas.getHeight() - 20, canvas.getWidth(), canvas.getHeight() - 20);
+        backdropGc.setFill(Color.rgb(255, 165, 0, 0.3 + Math.sin(animationTime * 5) * 0.1));
+        backdropGc.fillRect(0, canvas.getHeight() - 20, canvas.getWidth(), 20);
+        backdropGc.setStroke(Color.ORANGE);
+        backdropGc.setLineWidth(3);
+        backdropGc.strokeLine(0, canvas.getHeight() - 20, canvas.getWidth(), canvas.getHeight() - 20);
     }
 
     private void renderBlindZone() {
         // Create a blind zone in the middle of the screen
-        gc.setFill(Color.rgb(0, 0, 0, 0.8));
+        backdropGc.setFill(Color.rgb(0, 0, 0, 0.8));
         double zoneHeight = 100;
         double zoneY = canvas.getHeight() / 2 - zoneHeight / 2;
-        gc.fillRect(0, zoneY, canvas.getWidth(), zoneHeight);
+        backdropGc.fillRect(0, zoneY, canvas.getWidth(), zoneHeight);
     }
 
     private void renderBricks() {
-        for (Brick brick : model.getBricks()) {
-            if (brick.isActive()) {
-                Color baseColor = brick.getColor();
-
-                // Main brick
-                gc.setFill(baseColor);
-                gc.fillRoundRect(brick.getX(), brick.getY(),
-                        brick.getWidth(), brick.getHeight(), 5, 5);
-
-                // Highlight
-                gc.setFill(baseColor.brighter());
-                gc.fillRoundRect(brick.getX() + 2, brick.getY() + 2,
-                        brick.getWidth() - 4, brick.getHeight() / 3, 3, 3);
-
-                // Border
-                gc.setStroke(baseColor.darker());
-                gc.setLineWidth(1);
-                gc.strokeRoundRect(brick.getX(), brick.getY(),
-                        brick.getWidth(), brick.getHeight(), 5, 5);
-
-                // Power-up/Penalty indicator
-                if (brick.hasPowerUp()) {
-                    gc.setFill(Color.CYAN);
-                    gc.fillOval(brick.getX() + brick.getWidth() - 10, brick.getY() + 2, 8, 8);
-                } else if (brick.hasPenalty()) {
-                    gc.setFill(Color.RED);
-                    gc.fillOval(brick.getX() + brick.getWidth() - 10, brick.getY() + 2, 8, 8);
-                }
-            }
-        }
+        brickLayer.update(model.getBrickStore());
     }
 
     private void renderFallingBricks() {
@@ -517,11 +608,11 @@ public class GameView extends StackPane {
                 gc.save();
 
                 // Rotate around center
-                gc.translate(fb.getX(), fb.getY());
-                gc.rotate(fb.getRotation());
+                gc.translate(fb.getX(), fb.getRenderY(interpolation));
+                gc.rotate(fb.getRenderRotation(interpolation));
 
                 // Draw brick
-                gc.setFill(fb.getColor());
+                gc.setFill(EntityColors.fallingBrick(fb));
                 gc.fillRoundRect(-fb.getWidth()/2, -fb.getHeight()/2,
                         fb.getWidth(), fb.getHeight(), 5, 5);
 
@@ -539,23 +630,7 @@ public class GameView extends StackPane {
     private void renderPowerUps() {
         for (PowerUp pu : model.getPowerUps()) {
             if (pu.isActive()) {
-                double x = pu.getX();
-                double y = pu.getY();
-                int size = pu.getSize();
-
-                // Glow effect
-                gc.setFill(pu.getColor().deriveColor(0, 1, 1, 0.3));
-                gc.fillOval(x - size/2 - 5, y - size/2 - 5, size + 10, size + 10);
-
-                // Main circle
-                gc.setFill(pu.getColor());
-                gc.fillOval(x - size/2, y - size/2, size, size);
-
-                // Symbol
-                gc.setFill(Color.WHITE);
-                gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-                gc.setTextAlign(TextAlignment.CENTER);
-                gc.fillText(pu.getSymbol(), x, y + 5);
+                sprites.draw(gc, sprites.powerUp(pu.getType()), pu.getX(), pu.getRenderY(interpolation));
             }
         }
     }
@@ -564,89 +639,53 @@ public class GameView extends StackPane {
         for (Penalty pen : model.getPenalties()) {
             if (pen.isActive()) {
                 double x = pen.getX();
-                double y = pen.getY();
+                double y = pen.getRenderY(interpolation);
                 int size = pen.getSize();
 
-                // Warning glow
+                // Warning glow (pulses, so it is not part of the sprite)
                 gc.setFill(Color.rgb(255, 0, 0, 0.3 + Math.sin(animationTime * 10) * 0.2));
                 gc.fillOval(x - size/2 - 5, y - size/2 - 5, size + 10, size + 10);
 
-                // Main circle (hexagon-like)
-                gc.setFill(pen.getColor());
-                gc.fillOval(x - size/2, y - size/2, size, size);
-
-                // Border
-                gc.setStroke(Color.RED);
-                gc.setLineWidth(2);
-                gc.strokeOval(x - size/2, y - size/2, size, size);
-
-                // Symbol
-                gc.setFill(Color.WHITE);
-                gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
-                gc.setTextAlign(TextAlignment.CENTER);
-                gc.fillText(pen.getSymbol(), x, y + 4);
+                sprites.draw(gc, sprites.penalty(pen.getType()), x, y);
             }
         }
     }
 
     private void renderPaddle() {
         Paddle paddle = model.getPaddle();
-        double x = paddle.getX() - paddle.getWidth() / 2.0;
-        double y = paddle.getY() - paddle.getHeight() / 2.0;
-
-        // Base color based on effects
-        Color baseColor = paddle.isReversed() ? Color.DARKVIOLET :
-                paddle.isSticky() ? Color.PURPLE : Color.DODGERBLUE;
-
-        LinearGradient gradient = new LinearGradient(
-                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
-                new Stop(0, baseColor.brighter()),
-                new Stop(0.5, baseColor),
-                new Stop(1, baseColor.darker())
-        );
-
-        gc.setFill(gradient);
-        gc.fillRoundRect(x, y, paddle.getWidth(), paddle.getHeight(), 10, 10);
-
-        // Highlight
-        gc.setFill(baseColor.brighter().brighter());
-        gc.setGlobalAlpha(0.5);
-        gc.fillRoundRect(x + 5, y + 2, paddle.getWidth() - 10, 4, 3, 3);
-        gc.setGlobalAlpha(1.0);
-
-        // Border
-        gc.setStroke(baseColor.darker());
-        gc.setLineWidth(2);
-        gc.strokeRoundRect(x, y, paddle.getWidth(), paddle.getHeight(), 10, 10);
+
+        // Style based on effects
+        int style = paddle.isReversed() ? SpriteAtlas.PADDLE_REVERSED :
+                paddle.isSticky() ? SpriteAtlas.PADDLE_STICKY : SpriteAtlas.PADDLE_NORMAL;
+        sprites.drawPaddle(gc, style, paddle.getRenderX(interpolation), paddle.getY(), paddle.getWidth());
     }
 
     private void renderBalls() {
         for (Ball ball : model.getBalls()) {
-            double x = ball.getX();
-            double y = ball.getY();
+            double x = ball.getRenderX(interpolation);
+            double y = ball.getRenderY(interpolation);
             int radius = ball.getRadius();
 
             // Trail effect for moving balls
             if (ball.isLaunched()) {
-                gc.setFill(Color.rgb(255, 200, 100, 0.2));
-                gc.fillOval(x - radius - ball.getDx() * 2, y - radius - ball.getDy() * 2,
-                        radius * 2, radius * 2);
+                sprites.drawBall(gc, sprites.ballTrail(), x - ball.getDx() * 2, y - ball.getDy() * 2, radius);
             }
 
-            // Glow
-            gc.setFill(Color.rgb(255, 200, 100, 0.3));
-            gc.fillOval(x - radius - 3, y - radius - 3, radius * 2 + 6, radius * 2 + 6);
-
-            // Main ball
-            RadialGradient gradient = new RadialGradient(
-                    0, 0, 0.3, 0.3, 1, true, CycleMethod.NO_CYCLE,
-                    new Stop(0, Color.WHITE),
-                    new Stop(0.5, ball.isClone() ? Color.CYAN : Color.rgb(255, 200, 100)),
-                    new Stop(1, ball.isClone() ? Color.DARKCYAN : Color.rgb(255, 150, 50))
-            );
+            // Glow and main ball
+            sprites.drawBall(gc, sprites.ball(ball.isClone()), x, y, radius);
+        }
+    }
 
-            gc.setFill(gradient);
-            gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+    /**
+     * Storm balls are drawn as plain circles (no trail, glow or gradient),
+     * so thousands of them cost one blit each
+     */
+    private void renderStormBalls() {
+        BallStore storm = model.getStormBalls();
+        int sprite = sprites.stormBall();
+        for (int i = 0; i < storm.size(); i++) {
+            sprites.drawBall(gc, sprite, storm.getRenderX(i, interpolation), storm.getRenderY(i, interpolation),
+                    storm.getRadius(i));
         }
     }
 
@@ -655,22 +694,24 @@ public class GameView extends StackPane {
     private void renderHUD() {
         PlayerProfile profile = model.getPlayerProfile();
 
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        gc.setFont(Fonts.bold(18));
         gc.setTextAlign(TextAlignment.LEFT);
 
         // Player info
         gc.setFill(Color.WHITE);
-        gc.fillText(profile.getPlayerName() + " - Level " + model.getLevel(), 20, 25);
+        String name = profile.getPlayerName();
+        int level = model.getLevel();
+        if (playerText.stale(name, level, 0)) playerText.set(name + " - Level " + level);
+        gc.fillText(playerText.text(), 20, 25);
 
         // Current score with multiplier
-        String scoreText = "Score: " + model.getCurrentScore();
-        if (model.getScoreMultiplier() > 1) {
-            scoreText += " (x" + (int)model.getScoreMultiplier() + ")";
-            gc.setFill(Color.GOLD);
-        } else {
-            gc.setFill(Color.WHITE);
+        int score = model.getCurrentScore();
+        int multiplier = (int) model.getScoreMultiplier();
+        if (scoreText.stale(score, multiplier)) {
+            scoreText.set(multiplier > 1 ? "Score: " + score + " (x" + multiplier + ")" : "Score: " + score);
         }
-        gc.fillText(scoreText, 20, 45);
+        gc.setFill(model.getScoreMultiplier() > 1 ? Color.GOLD : Color.WHITE);
+        gc.fillText(scoreText.text(), 20, 45);
 
         // Lives
         renderLivesAsHearts();
@@ -679,16 +720,18 @@ public class GameView extends StackPane {
         renderActiveEffects();
 
         // Controls hint
-        gc.setFont(Font.font("Arial", 12));
+        gc.setFont(Fonts.regular(12));
         gc.setFill(Color.rgb(150, 150, 150));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("P: Pause | M: Menu | SPACE: Launch", canvas.getWidth() / 2, canvas.getHeight() - 10);
 
         // Ball count if > 1
-        if (model.getBalls().size() > 1) {
+        int ballCount = model.getBalls().size() + model.getStormBalls().size();
+        if (ballCount > 1) {
             gc.setFill(Color.CYAN);
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-            gc.fillText("Balls: " + model.getBalls().size(), canvas.getWidth() / 2, 25);
+            gc.setFont(Fonts.bold(14));
+            if (ballCountText.stale(ballCount)) ballCountText.set("Balls: " + ballCount);
+            gc.fillText(ballCountText.text(), canvas.getWidth() / 2, 25);
         }
     }
 
@@ -699,54 +742,36 @@ public class GameView extends StackPane {
         double y = 25;
 
         for (int i = 0; i < maxLives; i++) {
-            if (i < lives) {
-                drawHeart(startX + i * 30, y, 24, Color.RED, true);
-            } else {
-                drawHeart(startX + i * 30, y, 24, Color.DARKGRAY, false);
-            }
-        }
-    }
-
-    private void drawHeart(double x, double y, double size, Color color, boolean filled) {
-        double[] xPoints = new double[20];
-        double[] yPoints = new double[20];
-
-        for (int i = 0; i < 20; i++) {
-            double t = i * Math.PI * 2 / 20;
-            xPoints[i] = x + size * 0.5 * (16 * Math.pow(Math.sin(t), 3)) / 16;
-            yPoints[i] = y - size * 0.5 * (13 * Math.cos(t) - 5 * Math.cos(2*t)
-                    - 2 * Math.cos(3*t) - Math.cos(4*t)) / 16;
-        }
-
-        if (filled) {
-            gc.setFill(color);
-            gc.fillPolygon(xPoints, yPoints, 20);
-            gc.setFill(Color.rgb(255, 150, 150, 0.5));
-            gc.fillOval(x - size * 0.25, y - size * 0.3, size * 0.3, size * 0.25);
-        } else {
-            gc.setStroke(color);
-            gc.setLineWidth(2);
-            gc.strokePolygon(xPoints, yPoints, 20);
+            sprites.draw(gc, sprites.heart(i < lives), startX + i * 30, y);
         }
     }
 
     private void renderActiveEffects() {
-        List<GameModel.ActiveEffect> effects = model.getActiveEffects();
+        EffectEngine effects = model.getEffects();
         if (effects.isEmpty()) return;
 
         double y = 70;
-        gc.setFont(Font.font("Arial", 12));
+        gc.setFont(Fonts.regular(12));
         gc.setTextAlign(TextAlignment.LEFT);
 
-        for (GameModel.ActiveEffect effect : effects) {
-            Color bgColor = effect.type.equals("powerup") ?
-                    Color.rgb(0, 100, 0, 0.7) : Color.rgb(100, 0, 0, 0.7);
+        for (EffectType effect : EFFECT_TYPES) {
+            if (!effects.isActive(effect)) continue;
+            double remaining = effects.getRemaining(effect, model.getSimTime());
+
+            Color bgColor = effect.isPenalty() ?
+                    Color.rgb(100, 0, 0, 0.7) : Color.rgb(0, 100, 0, 0.7);
 
             gc.setFill(bgColor);
             gc.fillRoundRect(15, y - 12, 130, 18, 5, 5);
 
             gc.setFill(Color.WHITE);
-            gc.fillText(effect.name + " " + String.format("%.1fs", effect.remainingTime), 20, y);
+            // Rebuilt when the shown tenth of a second changes
+            long tenths = Math.max(0, Math.round(remaining * 10));
+            CachedText label = effectTexts[effect.ordinal()];
+            if (label.stale(tenths)) {
+                label.set(effect.getDisplayName() + " " + tenths / 10 + "." + tenths % 10 + "s");
+            }
+            gc.fillText(label.text(), 20, y);
 
             y += 22;
         }
@@ -761,11 +786,11 @@ public class GameView extends StackPane {
         gc.setTextAlign(TextAlignment.CENTER);
 
         gc.setFill(Color.YELLOW);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 60));
+        gc.setFont(Fonts.bold(60));
         gc.fillText("PAUSED", canvas.getWidth() / 2, canvas.getHeight() / 2 - 50);
 
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 24));
+        gc.setFont(Fonts.regular(24));
         gc.fillText("Press SPACE or P to Resume", canvas.getWidth() / 2, canvas.getHeight() / 2 + 20);
         gc.fillText("Press R to Restart Level", canvas.getWidth() / 2, canvas.getHeight() / 2 + 55);
         gc.fillText("Press M to Return to Menu", canvas.getWidth() / 2, canvas.getHeight() / 2 + 90);
@@ -778,22 +803,24 @@ public class GameView extends StackPane {
         gc.setTextAlign(TextAlignment.CENTER);
 
         gc.setFill(Color.RED);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 72));
+        gc.setFont(Fonts.bold(72));
         gc.fillText("GAME OVER", canvas.getWidth() / 2, canvas.getHeight() / 2 - 80);
 
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 36));
-        gc.fillText("Level " + model.getLevel() + " Score: " + model.getCurrentScore(),
-                canvas.getWidth() / 2, canvas.getHeight() / 2);
-
-        PlayerProfile profile = model.getPlayerProfile();
+        gc.setFont(Fonts.bold(36));
+        int level = model.getLevel();
+        int score = model.getCurrentScore();
+        if (gameOverText.stale(level, score)) gameOverText.set("Level " + level + " Score: " + score);
+        gc.fillText(gameOverText.text(), canvas.getWidth() / 2, canvas.getHeight() / 2);
+
+        int best = model.getPlayerProfile().getLevelScore(level);
+        if (bestScoreText.stale(best)) bestScoreText.set("Best Score: " + best);
         gc.setFill(Color.GOLD);
-        gc.setFont(Font.font("Arial", 24));
-        gc.fillText("Best Score: " + profile.getLevelScore(model.getLevel()),
-                canvas.getWidth() / 2, canvas.getHeight() / 2 + 50);
+        gc.setFont(Fonts.regular(24));
+        gc.fillText(bestScoreText.text(), canvas.getWidth() / 2, canvas.getHeight() / 2 + 50);
 
         gc.setFill(Color.LIGHTGRAY);
-        gc.setFont(Font.font("Arial", 20));
+        gc.setFont(Fonts.regular(20));
         gc.fillText("Press ENTER or R to Retry", canvas.getWidth() / 2, canvas.getHeight() / 2 + 110);
         gc.fillText("Press M to Return to Menu", canvas.getWidth() / 2, canvas.getHeight() / 2 + 140);
     }
@@ -804,35 +831,35 @@ public class GameView extends StackPane {
 
         gc.setTextAlign(TextAlignment.CENTER);
 
+        int level = model.getLevel();
+        int score = model.getCurrentScore();
+        if (levelCompleteText.stale(level)) {
+            levelCompleteText.set("LEVEL " + level + " COMPLETE!");
+            nextLevelText.set("Press ENTER for Level " + (level + 1));
+        }
+        if (levelScoreText.stale(score)) levelScoreText.set("Score: " + score);
+
         gc.setFill(Color.LIME);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 56));
-        gc.fillText("LEVEL " + model.getLevel() + " COMPLETE!",
-                canvas.getWidth() / 2, canvas.getHeight() / 2 - 60);
+        gc.setFont(Fonts.bold(56));
+        gc.fillText(levelCompleteText.text(), canvas.getWidth() / 2, canvas.getHeight() / 2 - 60);
 
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 32));
-        gc.fillText("Score: " + model.getCurrentScore(), canvas.getWidth() / 2, canvas.getHeight() / 2);
+        gc.setFont(Fonts.bold(32));
+        gc.fillText(levelScoreText.text(), canvas.getWidth() / 2, canvas.getHeight() / 2);
 
-        String stars = getStarsForScore(model.getCurrentScore(), model.getLevel());
+        String stars = getStarsForScore(score, level);
         gc.setFill(Color.GOLD);
-        gc.setFont(Font.font("Arial", 48));
+        gc.setFont(Fonts.regular(48));
         gc.fillText(stars, canvas.getWidth() / 2, canvas.getHeight() / 2 + 50);
 
         gc.setFill(Color.YELLOW);
-        gc.setFont(Font.font("Arial", 24));
-        gc.fillText("Press ENTER for Level " + (model.getLevel() + 1),
-                canvas.getWidth() / 2, canvas.getHeight() / 2 + 100);
+        gc.setFont(Fonts.regular(24));
+        gc.fillText(nextLevelText.text(), canvas.getWidth() / 2, canvas.getHeight() / 2 + 100);
         gc.fillText("Press M to Return to Menu", canvas.getWidth() / 2, canvas.getHeight() / 2 + 135);
     }
 
     private void renderVictoryScreen() {
-        LinearGradient bg = new LinearGradient(
-                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
-                new Stop(0, Color.rgb(50, 40, 0)),
-                new Stop(1, Color.rgb(20, 15, 0))
-        );
-        gc.setFill(bg);
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.drawImage(backgrounds.gradient(VICTORY_GRADIENT_TOP, VICTORY_GRADIENT_BOTTOM), 0, 0);
 
         // Animated stars
         gc.setFill(Color.GOLD);
@@ -845,24 +872,26 @@ public class GameView extends StackPane {
         gc.setTextAlign(TextAlignment.CENTER);
 
         gc.setFill(Color.GOLD);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 72));
+        gc.setFont(Fonts.bold(72));
         gc.fillText("🏆 VICTORY! 🏆", canvas.getWidth() / 2, canvas.getHeight() / 2 - 100);
 
         PlayerProfile profile = model.getPlayerProfile();
 
         gc.setFill(Color.YELLOW);
-        gc.setFont(Font.font("Arial", 28));
-        gc.fillText("Congratulations, " + profile.getPlayerName() + "!",
-                canvas.getWidth() / 2, canvas.getHeight() / 2 - 40);
+        gc.setFont(Fonts.regular(28));
+        String name = profile.getPlayerName();
+        if (congratsText.stale(name, 0, 0)) congratsText.set("Congratulations, " + name + "!");
+        gc.fillText(congratsText.text(), canvas.getWidth() / 2, canvas.getHeight() / 2 - 40);
         gc.fillText("You completed all levels!", canvas.getWidth() / 2, canvas.getHeight() / 2);
 
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 36));
-        gc.fillText("Total Score: " + profile.getTotalScore(),
-                canvas.getWidth() / 2, canvas.getHeight() / 2 + 60);
+        gc.setFont(Fonts.bold(36));
+        int totalScore = profile.getTotalScore();
+        if (victoryTotalText.stale(totalScore)) victoryTotalText.set("Total Score: " + totalScore);
+        gc.fillText(victoryTotalText.text(), canvas.getWidth() / 2, canvas.getHeight() / 2 + 60);
 
         gc.setFill(Color.LIGHTGRAY);
-        gc.setFont(Font.font("Arial", 20));
+        gc.setFont(Fonts.regular(20));
         gc.fillText("Press ENTER or M to Return to Menu",
                 canvas.getWidth() / 2, canvas.getHeight() / 2 + 120);
     }
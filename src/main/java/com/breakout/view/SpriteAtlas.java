@@ -0,0 +1,329 @@
+package com.breakout.view;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.Paddle;
+import com.breakout.model.Penalty;
+import com.breakout.model.PowerUp;
+import java.util.Arrays;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Sprite Atlas - Entity sprites pre-rendered into one image
+ * Balls, hearts, falling drops and the paddle are drawn once at startup
+ * with their gradients, glows and symbols, packed into a single image,
+ * and then drawn with one drawImage per entity.
+ *
+ * Features:
+ * - Ball sprites (glow and gradient) for original and clone balls, the
+ *   ball trail and the plain storm ball
+ * - Filled and empty hearts for the lives display
+ * - Power-up and penalty drops per type, symbol included
+ * - Paddle per style (normal, sticky, reversed) and width (normal,
+ *   extended, shrunk); other widths stretch the nearest sprite
+ * - Sprites are drawn around an anchor (the entity position), so callers
+ *   pass the same coordinates they used for the vector drawing
+ */
+final class SpriteAtlas {
+    private static final double ATLAS_WIDTH = 512;
+    private static final double ATLAS_MAX_HEIGHT = 1024;
+    private static final double PADDING = 2;   // Keeps neighbours out of filtered edges
+
+    static final int PADDLE_NORMAL = 0;
+    static final int PADDLE_STICKY = 1;
+    static final int PADDLE_REVERSED = 2;
+
+    private static final Color[] PADDLE_COLORS = { Color.DODGERBLUE, Color.PURPLE, Color.DARKVIOLET };
+    private static final Color STORM_BALL_COLOR = Color.rgb(120, 220, 255);
+    private static final int HEART_SIZE = 24;
+
+    /**
+     * Draws a sprite with its anchor at (x, y)
+     */
+    private interface Painter {
+        void paint(GraphicsContext g, double x, double y);
+    }
+
+    // Sprite rectangles in the atlas and the anchor offset inside them
+    private double[] sx = new double[32], sy = new double[32];
+    private double[] sw = new double[32], sh = new double[32];
+    private double[] ax = new double[32], ay = new double[32];
+    private int count;
+
+    // Packing cursor (rows left to right, top to bottom)
+    private double cursorX, cursorY, rowHeight;
+
+    private final Image image;
+
+    private final int ballRadius;
+    private final int ball, cloneBall, ballTrail, stormBall;
+    private final int heartFull, heartEmpty;
+    private final int[] powerUps = new int[PowerUp.PowerUpType.values().length];
+    private final int[] penalties = new int[Penalty.PenaltyType.values().length];
+    private final int[] paddleWidths;
+    private final int[][] paddles;   // [style][width index]
+
+    SpriteAtlas() {
+        GameConfig config = GameConfig.getInstance();
+        Canvas canvas = new Canvas(ATLAS_WIDTH, ATLAS_MAX_HEIGHT);
+        GraphicsContext g = canvas.getGraphicsContext2D();
+
+        // Balls
+        ballRadius = config.getBallRadius();
+        double r = ballRadius;
+        ball = add(g, r + 3, r + 3, r + 3, r + 3,
+                (c, x, y) -> paintBall(c, x, y, r, Color.rgb(255, 200, 100), Color.rgb(255, 150, 50)));
+        cloneBall = add(g, r + 3, r + 3, r + 3, r + 3,
+                (c, x, y) -> paintBall(c, x, y, r, Color.CYAN, Color.DARKCYAN));
+        ballTrail = add(g, r, r, r, r, (c, x, y) -> {
+            c.setFill(Color.rgb(255, 200, 100, 0.2));
+            c.fillOval(x - r, y - r, r * 2, r * 2);
+        });
+        stormBall = add(g, r, r, r, r, (c, x, y) -> {
+            c.setFill(STORM_BALL_COLOR);
+            c.fillOval(x - r, y - r, r * 2, r * 2);
+        });
+
+        // Hearts (the outline stroke reaches a pixel past the shape)
+        double heartLeft = HEART_SIZE * 0.5 + 1;
+        heartFull = add(g, heartLeft, HEART_SIZE * 0.4 + 1, heartLeft, HEART_SIZE * 0.55 + 1,
+                (c, x, y) -> paintHeart(c, x, y, HEART_SIZE, Color.RED, true));
+        heartEmpty = add(g, heartLeft, HEART_SIZE * 0.4 + 1, heartLeft, HEART_SIZE * 0.55 + 1,
+                (c, x, y) -> paintHeart(c, x, y, HEART_SIZE, Color.DARKGRAY, false));
+
+        // Drops
+        double half = config.getPowerUpSize() / 2;
+        int size = config.getPowerUpSize();
+        for (PowerUp.PowerUpType type : PowerUp.PowerUpType.values()) {
+            powerUps[type.ordinal()] = add(g, half + 5, half + 5, half + 5, half + 5,
+                    (c, x, y) -> paintPowerUp(c, x, y, size, type));
+        }
+        for (Penalty.PenaltyType type : Penalty.PenaltyType.values()) {
+            penalties[type.ordinal()] = add(g, half + 1, half + 1, half + 1, half + 1,
+                    (c, x, y) -> paintPenalty(c, x, y, size, type));
+        }
+
+        // Paddles
+        int width = config.getPaddleWidth();
+        int height = config.getPaddleHeight();
+        paddleWidths = new int[] { width, (int) (width * Paddle.EXTEND_SCALE), (int) (width * Paddle.SHRINK_SCALE) };
+        paddles = new int[PADDLE_COLORS.length][paddleWidths.length];
+        for (int style = 0; style < PADDLE_COLORS.length; style++) {
+            Color color = PADDLE_COLORS[style];
+            for (int w = 0; w < paddleWidths.length; w++) {
+                int paddleWidth = paddleWidths[w];
+                paddles[style][w] = add(g, paddleWidth / 2.0 + 1, height / 2.0 + 1,
+                        paddleWidth / 2.0 + 1, height / 2.0 + 1,
+                        (c, x, y) -> paintPaddle(c, x - paddleWidth / 2.0, y - height / 2.0,
+                                paddleWidth, height, color));
+            }
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        double usedHeight = cursorY + rowHeight;
+        parameters.setViewport(new Rectangle2D(0, 0, ATLAS_WIDTH, usedHeight));
+        image = canvas.snapshot(parameters, new WritableImage((int) ATLAS_WIDTH, (int) Math.ceil(usedHeight)));
+    }
+
+    // ==================== PACKING ====================
+
+    /**
+     * Reserve a rectangle for a sprite reaching the given distances from its anchor, and paint it
+     * @return sprite id
+     */
+    private int add(GraphicsContext g, double left, double top, double right, double bottom, Painter painter) {
+        double width = Math.ceil(left + right) + PADDING * 2;
+        double height = Math.ceil(top + bottom) + PADDING * 2;
+        if (cursorX + width > ATLAS_WIDTH) {
+            cursorX = 0;
+            cursorY += rowHeight;
+            rowHeight = 0;
+        }
+        if (cursorY + height > ATLAS_MAX_HEIGHT) {
+            throw new IllegalStateException("Sprite atlas is full");
+        }
+
+        if (count == sx.length) grow();
+        int id = count++;
+        sx[id] = cursorX;
+        sy[id] = cursorY;
+        sw[id] = width;
+        sh[id] = height;
+        ax[id] = PADDING + left;
+        ay[id] = PADDING + top;
+
+        painter.paint(g, cursorX + ax[id], cursorY + ay[id]);
+        cursorX += width;
+        rowHeight = Math.max(rowHeight, height);
+        return id;
+    }
+
+    private void grow() {
+        int capacity = sx.length * 2;
+        sx = Arrays.copyOf(sx, capacity);
+        sy = Arrays.copyOf(sy, capacity);
+        sw = Arrays.copyOf(sw, capacity);
+        sh = Arrays.copyOf(sh, capacity);
+        ax = Arrays.copyOf(ax, capacity);
+        ay = Arrays.copyOf(ay, capacity);
+    }
+
+    // ==================== DRAWING ====================
+
+    /**
+     * Draw a sprite with its anchor at (x, y)
+     */
+    void draw(GraphicsContext gc, int sprite, double x, double y) {
+        gc.drawImage(image, sx[sprite], sy[sprite], sw[sprite], sh[sprite],
+                x - ax[sprite], y - ay[sprite], sw[sprite], sh[sprite]);
+    }
+
+    /**
+     * Draw a sprite scaled around its anchor
+     */
+    void draw(GraphicsContext gc, int sprite, double x, double y, double scaleX, double scaleY) {
+        gc.drawImage(image, sx[sprite], sy[sprite], sw[sprite], sh[sprite],
+                x - ax[sprite] * scaleX, y - ay[sprite] * scaleY, sw[sprite] * scaleX, sh[sprite] * scaleY);
+    }
+
+    /**
+     * Draw a ball sprite (ball, cloneBall, ballTrail or stormBall) centered on (x, y)
+     */
+    void drawBall(GraphicsContext gc, int sprite, double x, double y, double radius) {
+        if (radius == ballRadius) {
+            draw(gc, sprite, x, y);
+        } else {
+            double scale = radius / ballRadius;
+            draw(gc, sprite, x, y, scale, scale);
+        }
+    }
+
+    /**
+     * Draw the paddle centered on (x, y); widths without a sprite stretch the nearest one
+     */
+    void drawPaddle(GraphicsContext gc, int style, double x, double y, int width) {
+        int nearest = 0;
+        for (int w = 1; w < paddleWidths.length; w++) {
+            if (Math.abs(paddleWidths[w] - width) < Math.abs(paddleWidths[nearest] - width)) nearest = w;
+        }
+        int sprite = paddles[style][nearest];
+        if (paddleWidths[nearest] == width) {
+            draw(gc, sprite, x, y);
+        } else {
+            draw(gc, sprite, x, y, (double) width / paddleWidths[nearest], 1);
+        }
+    }
+
+    // Sprite ids
+    int ball(boolean clone) { return clone ? cloneBall : ball; }
+    int ballTrail() { return ballTrail; }
+    int stormBall() { return stormBall; }
+    int heart(boolean filled) { return filled ? heartFull : heartEmpty; }
+    int powerUp(PowerUp.PowerUpType type) { return powerUps[type.ordinal()]; }
+    int penalty(Penalty.PenaltyType type) { return penalties[type.ordinal()]; }
+
+    // ==================== PAINTERS ====================
+
+    private static void paintBall(GraphicsContext g, double x, double y, double radius, Color middle, Color edge) {
+        // Glow
+        g.setFill(Color.rgb(255, 200, 100, 0.3));
+        g.fillOval(x - radius - 3, y - radius - 3, radius * 2 + 6, radius * 2 + 6);
+
+        // Main ball
+        g.setFill(new RadialGradient(
+                0, 0, 0.3, 0.3, 1, true, CycleMethod.NO_CYCLE,
+                new Stop(0, Color.WHITE),
+                new Stop(0.5, middle),
+                new Stop(1, edge)));
+        g.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+    }
+
+    private static void paintHeart(GraphicsContext g, double x, double y, double size, Color color, boolean filled) {
+        double[] xPoints = new double[20];
+        double[] yPoints = new double[20];
+
+        for (int i = 0; i < 20; i++) {
+            double t = i * Math.PI * 2 / 20;
+            xPoints[i] = x + size * 0.5 * (16 * Math.pow(Math.sin(t), 3)) / 16;
+            yPoints[i] = y - size * 0.5 * (13 * Math.cos(t) - 5 * Math.cos(2*t)
+                    - 2 * Math.cos(3*t) - Math.cos(4*t)) / 16;
+        }
+
+        if (filled) {
+            g.setFill(color);
+            g.fillPolygon(xPoints, yPoints, 20);
+            g.setFill(Color.rgb(255, 150, 150, 0.5));
+            g.fillOval(x - size * 0.25, y - size * 0.3, size * 0.3, size * 0.25);
+        } else {
+            g.setStroke(color);
+            g.setLineWidth(2);
+            g.strokePolygon(xPoints, yPoints, 20);
+        }
+    }
+
+    private static void paintPowerUp(GraphicsContext g, double x, double y, int size, PowerUp.PowerUpType type) {
+        Color color = EntityColors.powerUp(type);
+
+        // Glow effect
+        g.setFill(color.deriveColor(0, 1, 1, 0.3));
+        g.fillOval(x - size/2 - 5, y - size/2 - 5, size + 10, size + 10);
+
+        // Main circle
+        g.setFill(color);
+        g.fillOval(x - size/2, y - size/2, size, size);
+
+        // Symbol
+        g.setFill(Color.WHITE);
+        g.setFont(Fonts.bold(14));
+        g.setTextAlign(TextAlignment.CENTER);
+        g.fillText(type.getSymbol(), x, y + 5);
+    }
+
+    private static void paintPenalty(GraphicsContext g, double x, double y, int size, Penalty.PenaltyType type) {
+        // Main circle (hexagon-like)
+        g.setFill(EntityColors.penalty(type));
+        g.fillOval(x - size/2, y - size/2, size, size);
+
+        // Border
+        g.setStroke(Color.RED);
+        g.setLineWidth(2);
+        g.strokeOval(x - size/2, y - size/2, size, size);
+
+        // Symbol
+        g.setFill(Color.WHITE);
+        g.setFont(Fonts.bold(12));
+        g.setTextAlign(TextAlignment.CENTER);
+        g.fillText(type.getSymbol(), x, y + 4);
+    }
+
+    private static void paintPaddle(GraphicsContext g, double x, double y, int width, int height, Color baseColor) {
+        g.setFill(new LinearGradient(
+                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+                new Stop(0, baseColor.brighter()),
+                new Stop(0.5, baseColor),
+                new Stop(1, baseColor.darker())));
+        g.fillRoundRect(x, y, width, height, 10, 10);
+
+        // Highlight
+        g.setFill(baseColor.brighter().brighter());
+        g.setGlobalAlpha(0.5);
+        g.fillRoundRect(x + 5, y + 2, width - 10, 4, 3, 3);
+        g.setGlobalAlpha(1.0);
+
+        // Border
+        g.setStroke(baseColor.darker());
+        g.setLineWidth(2);
+        g.strokeRoundRect(x, y, width, height, 10, 10);
+    }
+}
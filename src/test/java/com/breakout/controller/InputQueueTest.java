@@ -0,0 +1,90 @@
+package com.breakout.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Input Queue Test - Encoding, wraparound, full queue and hand-over between threads
+ */
+class InputQueueTest {
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(8, new InputQueue(8).getCapacity());
+        assertEquals(16, new InputQueue(9).getCapacity());
+    }
+
+    @Test
+    void eventsKeepKindAndPayload() {
+        InputQueue queue = new InputQueue(4);
+        assertTrue(queue.offer(InputQueue.TYPED, 'z'));
+        assertTrue(queue.offer(InputQueue.RELEASED, 0xABCDEF));
+
+        int typed = queue.poll();
+        assertEquals(InputQueue.TYPED, InputQueue.kind(typed));
+        assertEquals('z', InputQueue.payload(typed));
+        int released = queue.poll();
+        assertEquals(InputQueue.RELEASED, InputQueue.kind(released));
+        assertEquals(0xABCDEF, InputQueue.payload(released));
+        assertEquals(0, queue.poll());
+    }
+
+    @Test
+    void wrapsAroundInOrder() {
+        InputQueue queue = new InputQueue(4);
+        int produced = 0, consumed = 0;
+        assertTrue(queue.offer(InputQueue.PRESSED, produced++));
+        for (int round = 0; round < 10; round++) {
+            // Keep one to four events queued so the window slides across the end of the array
+            for (int i = 0; i < 3; i++) assertTrue(queue.offer(InputQueue.PRESSED, produced++));
+            for (int i = 0; i < 3; i++) assertEquals(consumed++, InputQueue.payload(queue.poll()));
+        }
+        assertEquals(consumed++, InputQueue.payload(queue.poll()));
+        assertEquals(0, queue.poll());
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void fullQueueDropsAndCountsNewEvents() {
+        InputQueue queue = new InputQueue(4);
+        for (int i = 1; i <= 4; i++) assertTrue(queue.offer(InputQueue.PRESSED, i));
+        assertFalse(queue.offer(InputQueue.PRESSED, 5));
+        assertFalse(queue.offer(InputQueue.PRESSED, 6));
+        assertEquals(2, queue.getDroppedCount());
+
+        // The oldest events survive, and a freed slot takes new events again
+        assertEquals(1, InputQueue.payload(queue.poll()));
+        assertTrue(queue.offer(InputQueue.PRESSED, 7));
+        for (int expected : new int[]{2, 3, 4, 7}) assertEquals(expected, InputQueue.payload(queue.poll()));
+        assertEquals(0, queue.poll());
+        assertEquals(2, queue.getDroppedCount());
+    }
+
+    @Test
+    void consumerThreadSeesEveryEventInOrder() throws InterruptedException {
+        int count = 100_000;
+        InputQueue queue = new InputQueue(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= count; i++) {
+                while (!queue.offer(InputQueue.PRESSED, i)) Thread.yield();
+            }
+        });
+        producer.start();
+
+        int expected = 1;
+        while (expected <= count) {
+            int event = queue.poll();
+            if (event == 0) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(InputQueue.PRESSED, InputQueue.kind(event));
+            assertEquals(expected++, InputQueue.payload(event));
+        }
+        producer.join();
+        assertEquals(0, queue.poll());
+    }
+}
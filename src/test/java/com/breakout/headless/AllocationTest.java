@@ -0,0 +1,78 @@
+package com.breakout.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.breakout.config.GameConfig;
+import com.breakout.model.GameModel;
+import com.breakout.model.GameState;
+import com.breakout.model.PlayerProfile;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Allocation Test - Verifies that the simulation tick allocates nothing
+ * Runs the model headless and measures heap allocation of GameModel.update()
+ * with ThreadMXBean.getCurrentThreadAllocatedBytes.
+ *
+ * A warm-up phase runs first so one-off allocations (class loading, JIT,
+ * lazily created brick views) are not counted. Level restarts happen
+ * outside the measured calls.
+ */
+class AllocationTest {
+    private static final int WARMUP_TICKS = 200_000;
+    private static final int MEASURED_TICKS = 10_000;
+    private static final int LEVEL = 3;
+    private static final long SEED = 42L;
+
+    @Test
+    void updateAllocatesNothingAfterWarmUp() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(),
+                "Thread allocation measurement is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        GameModel model = new GameModel(profile);
+        model.setSeed(SEED);
+        AutoPaddle autoPaddle = new AutoPaddle();
+        double step = GameConfig.getInstance().getTickDuration();
+
+        model.startLevel(LEVEL);
+        run(model, autoPaddle, step, WARMUP_TICKS, threads);
+
+        // Cost of the measurement itself, subtracted from the result
+        long overhead = threads.getCurrentThreadAllocatedBytes();
+        overhead = threads.getCurrentThreadAllocatedBytes() - overhead;
+
+        long allocated = run(model, autoPaddle, step, MEASURED_TICKS, threads)
+                - overhead * MEASURED_TICKS;
+
+        assertEquals(0, allocated, "Bytes allocated by GameModel.update() over "
+                + MEASURED_TICKS + " ticks");
+    }
+
+    /**
+     * Run ticks, restarting finished games
+     * @return bytes allocated inside GameModel.update()
+     */
+    private static long run(GameModel model, AutoPaddle autoPaddle, double step, int ticks,
+                            com.sun.management.ThreadMXBean threads) {
+        long allocated = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            autoPaddle.control(model);
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            model.update(step);
+            allocated += threads.getCurrentThreadAllocatedBytes() - before;
+
+            model.getEvents().clear();
+            if (model.getState() != GameState.PLAYING) {
+                model.restartLevel();
+            }
+        }
+        return allocated;
+    }
+}
@@ -0,0 +1,121 @@
+package com.breakout.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.breakout.config.GameConfig;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Ball Store Test - Ball storm kernels and compaction
+ *
+ * The vector kernel is only checked when it was built (mvn -Pvector test,
+ * which also enables jdk.incubator.vector for the tests).
+ */
+class BallStoreTest {
+    private static final int BALLS = 1_003;   // Not a multiple of any vector length
+    private static final int TICKS = 2_000;
+    private static final double WIDTH = 800;
+
+    @Test
+    void vectorKernelMatchesScalarKernel() {
+        BallStore.Kernel vector = loadVectorKernel();
+        assumeTrue(vector != null, "Vector kernel not built (mvn -Pvector test)");
+        BallStore.Kernel scalar = new BallStore.ScalarKernel();
+
+        BallStore expected = randomStore(7);
+        BallStore actual = randomStore(7);
+        double step = GameConfig.getInstance().getBaseFrameRate() / GameConfig.getInstance().getSimulationRate();
+        for (int tick = 0; tick < TICKS; tick++) {
+            scalar.move(expected, step);
+            scalar.reflectWalls(expected, WIDTH);
+            vector.move(actual, step);
+            vector.reflectWalls(actual, WIDTH);
+        }
+
+        assertArrayEquals(expected.x, actual.x);
+        assertArrayEquals(expected.y, actual.y);
+        assertArrayEquals(expected.dx, actual.dx);
+        assertArrayEquals(expected.dy, actual.dy);
+    }
+
+    @Test
+    void scalarKernelKeepsBallsInsideWalls() {
+        BallStore balls = randomStore(11);
+        BallStore.Kernel scalar = new BallStore.ScalarKernel();
+        for (int tick = 0; tick < TICKS; tick++) {
+            scalar.move(balls, 0.5);
+            scalar.reflectWalls(balls, WIDTH);
+            for (int i = 0; i < balls.size(); i++) {
+                double r = balls.getRadius(i);
+                assertTrue(balls.getX(i) >= r && balls.getX(i) <= WIDTH - r, "x out of bounds");
+                assertTrue(balls.getY(i) >= r, "y above the ceiling");
+            }
+        }
+    }
+
+    @Test
+    void compactRemovesOnlyLostBalls() {
+        BallStore balls = new BallStore(4);
+        for (int i = 0; i < 10; i++) balls.add(i, 0, 0, 0, 5);
+        for (int i = 0; i < 10; i += 3) balls.setFlag(i, BallStore.FLAG_LOST, true);   // 0, 3, 6, 9
+
+        assertEquals(4, balls.compact());
+        assertEquals(6, balls.size());
+        double[] kept = new double[balls.size()];
+        for (int i = 0; i < balls.size(); i++) {
+            assertFalse(balls.hasFlag(i, BallStore.FLAG_LOST));
+            kept[i] = balls.getX(i);
+        }
+        Arrays.sort(kept);
+        assertArrayEquals(new double[]{1, 2, 4, 5, 7, 8}, kept);
+    }
+
+    @Test
+    void fallenStormBallsAreRemovedWithoutLosingALife() {
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        GameModel model = new GameModel(profile);
+        model.setSeed(42);
+        model.startLevel(1);
+        GameConfig config = GameConfig.getInstance();
+        int lives = model.getLives();
+
+        // Far from the paddle, falling straight down
+        for (int i = 0; i < 100; i++) {
+            double x = i % 2 == 0 ? 20 : config.getWindowWidth() - 20;
+            model.addStormBall(x, config.getWindowHeight() - 30, 0, config.getBallSpeed());
+        }
+        for (int tick = 0; tick < config.getSimulationRate(); tick++) {
+            model.update(config.getTickDuration());
+            model.getEvents().clear();
+        }
+
+        assertEquals(0, model.getStormBalls().size());
+        assertEquals(lives, model.getLives());
+    }
+
+    private static BallStore randomStore(long seed) {
+        GameRandom random = new GameRandom(seed);
+        BallStore balls = new BallStore(BALLS);
+        for (int i = 0; i < BALLS; i++) {
+            double r = 4 + random.nextDouble() * 4;
+            balls.add(r + random.nextDouble() * (WIDTH - 2 * r), 50 + random.nextDouble() * 400,
+                    random.nextDouble() * 12 - 6, random.nextDouble() * 12 - 6, r);
+        }
+        return balls;
+    }
+
+    private static BallStore.Kernel loadVectorKernel() {
+        try {
+            return (BallStore.Kernel) Class.forName("com.breakout.model.VectorBallKernel")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.breakout.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Ball Sweep Test - Pair detection across band boundaries
+ * Uses the game's bands: 40 px high for balls of radius 10.
+ */
+class BallSweepTest {
+    private static final double BAND = 40;
+    private static final double WIDTH = 800;
+    private static final double HEIGHT = 600;
+
+    private final GameRandom random = new GameRandom(17);
+    private final BallSweep sweep = new BallSweep(16, BAND);
+    private final GameEventBuffer events = new GameEventBuffer(1024);
+    private final List<Ball> balls = new ArrayList<>();
+
+    @Test
+    void pairInsideOneBandCollides() {
+        Ball a = ball(100, 15, 1, 0);
+        Ball b = ball(115, 20, -1, 0);
+
+        assertEquals(1, sweep.collide(balls, null, events));
+        assertEquals(1, events.size());
+        assertTrue(a.getDx() < 0 && b.getDx() > 0, "Velocities were not exchanged");
+    }
+
+    @Test
+    void pairStraddlingABoundaryIsTestedOnce() {
+        // Both balls touch bands 0 and 1
+        ball(100, 35, 0, 1);
+        ball(100, 50, 0, -1);
+
+        assertEquals(1, sweep.collide(balls, null, events));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void pairSharingOnlyTheUpperBandCollides() {
+        // a lies in band 0 only, b reaches up into band 0 from band 1
+        ball(100, 25, 0, 1);
+        ball(105, 42, 0, -1);
+
+        assertEquals(1, sweep.collide(balls, null, events));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void ballsOnEitherSideOfABoundaryAreNotTested() {
+        // a ends just above y = 40, b starts on it: same column, different bands
+        ball(100, 29.9, 0, 1);
+        ball(100, 50, 0, -1);
+
+        assertEquals(0, sweep.collide(balls, null, events));
+    }
+
+    @Test
+    void ballsApartInXAreNotTested() {
+        ball(100, 20, 1, 0);
+        ball(121, 20, -1, 0);
+
+        assertEquals(0, sweep.collide(balls, null, events));
+    }
+
+    @Test
+    void ballMovingIntoTheNextBandIsFound() {
+        Ball a = ball(100, 10, 0, -1);
+        ball(100, 70, 0, 1);
+        assertEquals(0, sweep.collide(balls, null, events));
+
+        // a now touches bands 1 and 2, b only band 1
+        a.setPosition(100, 82);
+        assertEquals(1, sweep.collide(balls, null, events));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void ignoredAndHeldBallsTakeNoPart() {
+        Ball a = ball(100, 35, 0, 1);
+        Ball b = ball(100, 50, 0, -1);
+        assertEquals(0, sweep.collide(balls, a, events));
+
+        b.setLaunched(false);
+        assertEquals(0, sweep.collide(balls, null, events));
+        assertEquals(0, events.size());
+    }
+
+    @Test
+    void matchesBruteForceOnScatteredBalls() {
+        for (int i = 0; i < 150; i++) ball(0, 0, 0, 0);
+
+        int total = 0;
+        for (int round = 0; round < 50; round++) {
+            scatter();
+            int expected = approachingPairs();
+            events.clear();
+            sweep.collide(balls, null, events);
+            assertEquals(expected, events.size(), "Collisions in round " + round);
+            total += expected;
+        }
+        assertTrue(total > 100, "Too few colliding pairs to be a test: " + total);
+    }
+
+    // ==================== HELPERS ====================
+
+    private Ball ball(double x, double y, double dx, double dy) {
+        Ball ball = new Ball(random);
+        ball.setPosition(x, y);
+        ball.setVelocity(dx, dy);
+        ball.setLaunched(true);
+        balls.add(ball);
+        return ball;
+    }
+
+    /**
+     * Place every ball at random so that each overlaps at most one other;
+     * isolated pairs collide the same way whatever order they are tested in
+     */
+    private void scatter() {
+        boolean[] paired = new boolean[balls.size()];
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            int partner;
+            do {
+                ball.setPosition(10 + random.nextDouble() * (WIDTH - 20), 10 + random.nextDouble() * (HEIGHT - 20));
+                partner = partnerOf(ball, i, paired);
+            } while (partner == -2);
+            if (partner >= 0) paired[i] = paired[partner] = true;
+            ball.setVelocity(random.nextDouble() * 8 - 4, random.nextDouble() * 8 - 4);
+        }
+    }
+
+    /**
+     * @return the one placed ball this ball overlaps, -1 if none,
+     *         -2 if it overlaps several or one that is already paired
+     */
+    private int partnerOf(Ball ball, int placed, boolean[] paired) {
+        int partner = -1;
+        for (int j = 0; j < placed; j++) {
+            if (!overlaps(ball, balls.get(j))) continue;
+            if (partner != -1 || paired[j]) return -2;
+            partner = j;
+        }
+        return partner;
+    }
+
+    private int approachingPairs() {
+        int count = 0;
+        for (int i = 0; i < balls.size(); i++) {
+            for (int j = i + 1; j < balls.size(); j++) {
+                Ball a = balls.get(i), b = balls.get(j);
+                double nx = b.getX() - a.getX(), ny = b.getY() - a.getY();
+                double closing = (a.getDx() - b.getDx()) * nx + (a.getDy() - b.getDy()) * ny;
+                if (overlaps(a, b) && closing > 0) count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean overlaps(Ball a, Ball b) {
+        double nx = b.getX() - a.getX(), ny = b.getY() - a.getY();
+        double reach = a.getRadius() + b.getRadius();
+        return nx * nx + ny * ny < reach * reach;
+    }
+}
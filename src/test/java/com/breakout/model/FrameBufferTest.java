@@ -0,0 +1,82 @@
+package com.breakout.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Frame Buffer Test - Hand-over, skipped frames and hand-over between threads
+ */
+class FrameBufferTest {
+
+    @Test
+    void nothingToTakeBeforeFirstPublish() {
+        FrameBuffer frames = new FrameBuffer();
+        assertFalse(frames.poll());
+        assertEquals(0, frames.getFront().getSequence());
+    }
+
+    @Test
+    void publishedFrameReachesTheReader() {
+        FrameBuffer frames = new FrameBuffer();
+        FrameSnapshot filled = frames.getBack();
+        frames.publish();
+
+        assertTrue(frames.poll());
+        assertSame(filled, frames.getFront());
+        assertEquals(1, frames.getFront().getSequence());
+        assertFalse(frames.poll(), "Same frame taken twice");
+    }
+
+    @Test
+    void readerSkipsToTheNewestFrame() {
+        FrameBuffer frames = new FrameBuffer();
+        FrameSnapshot newest = null;
+        for (int i = 0; i < 5; i++) {
+            newest = frames.getBack();
+            frames.publish();
+        }
+
+        assertTrue(frames.poll());
+        assertSame(newest, frames.getFront());
+        assertEquals(5, frames.getFront().getSequence());
+        assertFalse(frames.poll());
+    }
+
+    @Test
+    void writerNeverFillsTheFrontFrame() {
+        FrameBuffer frames = new FrameBuffer();
+        for (int i = 0; i < 20; i++) {
+            frames.publish();
+            if (i % 3 == 0) frames.poll();
+            assertNotSame(frames.getFront(), frames.getBack());
+        }
+    }
+
+    @Test
+    void readerThreadSeesIncreasingSequences() throws InterruptedException {
+        int count = 100_000;
+        FrameBuffer frames = new FrameBuffer();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < count; i++) frames.publish();
+        });
+        writer.start();
+
+        long last = 0;
+        while (last < count) {
+            if (!frames.poll()) {
+                Thread.yield();
+                continue;
+            }
+            long sequence = frames.getFront().getSequence();
+            assertTrue(sequence > last, "Frame " + sequence + " after " + last);
+            last = sequence;
+        }
+        writer.join();
+        assertFalse(frames.poll());
+    }
+}
@@ -0,0 +1,96 @@
+package com.breakout.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Game Event Queue Test - Wraparound, full queue and hand-over between threads
+ */
+class GameEventQueueTest {
+    private final GameEventBuffer target = new GameEventBuffer(1024);
+    private final List<Integer> received = new ArrayList<>();
+
+    GameEventQueueTest() {
+        target.subscribe((event, entity, x, y, value) -> {
+            assertEquals(GameEvent.BRICK_DESTROYED, event);
+            assertEquals(value, entity);
+            assertEquals(value * 0.5, x);
+            assertEquals(-value, y);
+            received.add(value);
+        });
+    }
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(8, new GameEventQueue(8).getCapacity());
+        assertEquals(16, new GameEventQueue(9).getCapacity());
+    }
+
+    @Test
+    void wrapsAroundInOrder() {
+        GameEventQueue queue = new GameEventQueue(4);
+        int produced = 0;
+        for (int round = 0; round < 10; round++) {
+            // Three events per drain: successive batches straddle the end of the arrays
+            for (int i = 0; i < 3; i++) offer(queue, produced++);
+            assertEquals(3, queue.drainTo(target));
+        }
+        target.drain();
+        assertEquals(produced, received.size());
+        for (int i = 0; i < produced; i++) assertEquals(i, received.get(i));
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void fullQueueDropsAndCountsNewEvents() {
+        GameEventQueue queue = new GameEventQueue(4);
+        for (int i = 0; i < 6; i++) offer(queue, i);
+        assertEquals(2, queue.getDroppedCount());
+
+        assertEquals(4, queue.drainTo(target));
+        offer(queue, 6);
+        assertEquals(1, queue.drainTo(target));
+        assertEquals(0, queue.drainTo(target));
+        target.drain();
+        assertEquals(List.of(0, 1, 2, 3, 6), received);
+        assertEquals(2, queue.getDroppedCount());
+    }
+
+    @Test
+    void consumerThreadSeesEveryEventInOrder() throws InterruptedException {
+        int count = 100_000;
+        GameEventQueue queue = new GameEventQueue(64);
+        AtomicInteger drained = new AtomicInteger();
+        GameEventBuffer buffer = new GameEventBuffer(64);
+        buffer.subscribe(queue);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                // Never get more than half the queue ahead, so nothing is dropped
+                while (i - drained.get() >= 32) Thread.yield();
+                // Like the model: publish into the buffer, drain it into the queue
+                buffer.publish(GameEvent.BRICK_DESTROYED, i, i * 0.5, -i, i);
+                buffer.drain();
+            }
+        });
+        producer.start();
+        while (drained.get() < count) {
+            int moved = queue.drainTo(target);
+            if (moved == 0) Thread.yield();
+            drained.addAndGet(moved);
+            target.drain();
+        }
+        producer.join();
+
+        assertEquals(0, queue.getDroppedCount());
+        assertEquals(count, received.size());
+        for (int i = 0; i < count; i++) assertEquals(i, received.get(i));
+    }
+
+    private static void offer(GameEventQueue queue, int value) {
+        queue.onGameEvent(GameEvent.BRICK_DESTROYED, value, value * 0.5, -value, value);
+    }
+}
@@ -0,0 +1,155 @@
+package com.breakout.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Level Catalog Test - File round trip, level bounds and corrupt records
+ * Offsets into the file follow the format in LevelCatalog: a 7 byte header,
+ * then one (offset, length) pair of 4 byte ints per level.
+ */
+class LevelCatalogTest {
+    private static final int HEADER_SIZE = 7;
+    private static final int INDEX_ENTRY_SIZE = 8;
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private LevelTemplate first;
+    private LevelTemplate second;
+
+    @BeforeEach
+    void writeCatalog() throws IOException {
+        first = template("First", "space", null, 3, 2);
+        second = template("Second", null, "boss", 5, 4);
+        file = dir.resolve("levels.dat");
+        LevelCatalog.write(file, List.of(first, second));
+    }
+
+    @Test
+    void levelsRoundTripAndAreDecodedOnce() throws IOException {
+        LevelCatalog catalog = LevelCatalog.open(file);
+        assertEquals(2, catalog.getLevelCount());
+
+        assertSameLevel(first, catalog.get(1));
+        assertSameLevel(second, catalog.get(2));
+        assertSame(catalog.get(1), catalog.get(1));
+    }
+
+    @Test
+    void levelsOutsideTheCatalogAreNull() throws IOException {
+        LevelCatalog catalog = LevelCatalog.open(file);
+        assertNull(catalog.get(0));
+        assertNull(catalog.get(-1));
+        assertNull(catalog.get(3));
+    }
+
+    @Test
+    void proceduralCatalogHasNoTemplates() {
+        LevelCatalog catalog = LevelCatalog.procedural(10);
+        assertTrue(catalog.isProcedural());
+        assertEquals(10, catalog.getLevelCount());
+        assertNull(catalog.get(1));
+    }
+
+    @Test
+    void shortRecordIsCorrupt() throws IOException {
+        // Level 2 ends inside its header fields
+        patchIndex(2, 4, 3);
+        LevelCatalog catalog = LevelCatalog.open(file);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> catalog.get(2));
+        assertTrue(e.getMessage().startsWith("Corrupt record for level 2"), e.getMessage());
+        assertSameLevel(first, catalog.get(1));
+    }
+
+    @Test
+    void recordPastTheEndIsCorrupt() throws IOException {
+        patchIndex(1, 0, (int) Files.size(file));
+        LevelCatalog catalog = LevelCatalog.open(file);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> catalog.get(1));
+        assertEquals("Level 1 lies outside the catalog", e.getMessage());
+    }
+
+    @Test
+    void invalidFilesAreRejected() throws IOException {
+        byte[] valid = Files.readAllBytes(file);
+
+        byte[] badMagic = valid.clone();
+        badMagic[0] = 'X';
+        Files.write(file, badMagic);
+        assertThrows(IOException.class, () -> LevelCatalog.open(file));
+
+        byte[] badVersion = valid.clone();
+        badVersion[4] = 99;
+        Files.write(file, badVersion);
+        assertThrows(IOException.class, () -> LevelCatalog.open(file));
+
+        // Header promises more index entries than the file holds
+        Files.write(file, Arrays.copyOf(valid, HEADER_SIZE + INDEX_ENTRY_SIZE));
+        assertThrows(IOException.class, () -> LevelCatalog.open(file));
+    }
+
+    /**
+     * Overwrite one field of a level's index entry (0 = offset, 4 = length)
+     */
+    private void patchIndex(int level, int field, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(HEADER_SIZE + (level - 1) * INDEX_ENTRY_SIZE + field, value);
+        Files.write(file, bytes);
+    }
+
+    private static LevelTemplate template(String name, String background, String music, int cols, int rows) {
+        Brick.BrickType[] types = Brick.BrickType.values();
+        byte[] cells = new byte[cols * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i % 4 == 3 ? (byte) LevelTemplate.EMPTY
+                    : LevelTemplate.cell(types[i % types.length], i % 4);
+        }
+        return new LevelTemplate(name, background, music, cols, rows, 60, 20, 4, 30, 60 + rows, cells);
+    }
+
+    private static void assertSameLevel(LevelTemplate expected, LevelTemplate actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getBackground(), actual.getBackground());
+        assertEquals(expected.getMusic(), actual.getMusic());
+        assertEquals(expected.getCols(), actual.getCols());
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getBrickWidth(), actual.getBrickWidth());
+        assertEquals(expected.getBrickHeight(), actual.getBrickHeight());
+        assertEquals(expected.getPadding(), actual.getPadding());
+        assertEquals(expected.getOffsetLeft(), actual.getOffsetLeft());
+        assertEquals(expected.getOffsetTop(), actual.getOffsetTop());
+        assertEquals(expected.getBrickCount(), actual.getBrickCount());
+        assertArrayEquals(cellsOf(expected), cellsOf(actual));
+    }
+
+    private static int[] cellsOf(LevelTemplate level) {
+        int[] cells = new int[level.getCols() * level.getRows() * 2];
+        for (int row = 0; row < level.getRows(); row++) {
+            for (int col = 0; col < level.getCols(); col++) {
+                int i = (row * level.getCols() + col) * 2;
+                Brick.BrickType type = level.getType(col, row);
+                cells[i] = type == null ? -1 : type.ordinal();
+                cells[i + 1] = level.getDrop(col, row);
+            }
+        }
+        return cells;
+    }
+}
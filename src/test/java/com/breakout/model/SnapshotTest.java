@@ -0,0 +1,137 @@
+package com.breakout.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.breakout.config.GameConfig;
+import com.breakout.headless.AutoPaddle;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Snapshot Test - Verifies GameModel snapshots
+ * Plays into the middle of a level with many balls, then checks that
+ * resimulating from a restored snapshot (in the same model, in a fresh
+ * model and after a round trip through a file) reaches exactly the same
+ * state as the original run, and that save / restore allocate nothing.
+ */
+class SnapshotTest {
+    private static final int BALLS = 50;
+    private static final int LEVEL = 4;
+    private static final long SEED = 42L;
+    private static final int SETUP_TICKS = 240;
+    private static final int RESIM_TICKS = 1_200;
+    private static final int ALLOCATION_ROUNDS = 100_000;
+
+    private final AutoPaddle autoPaddle = new AutoPaddle();
+    private GameModel model;
+    private GameSnapshot checkpoint;
+    private GameSnapshot expected;
+    private GameSnapshot actual;
+
+    /**
+     * Get into a busy mid-level state, checkpoint it and run the reference resimulation
+     */
+    @BeforeEach
+    void playIntoLevel() {
+        model = newModel();
+        model.setSeed(SEED);
+        model.startLevel(LEVEL);
+        GameRandom spawn = new GameRandom(SEED);
+        for (int tick = 0; tick < SETUP_TICKS; tick++) {
+            addBalls(model, spawn);
+            tick(model);
+        }
+        addBalls(model, spawn);
+        assertEquals(GameState.PLAYING, model.getState());
+
+        checkpoint = new GameSnapshot();
+        model.saveSnapshot(checkpoint);
+        expected = new GameSnapshot();
+        actual = new GameSnapshot();
+        resimulate(model, expected);
+    }
+
+    @Test
+    void rollbackInSameModelIsExact() {
+        model.restoreSnapshot(checkpoint);
+        resimulate(model, actual);
+        assertTrue(expected.sameState(actual), "Rollback diverged");
+    }
+
+    @Test
+    void restoreIntoFreshModelIsExact() {
+        GameModel fresh = newModel();
+        fresh.restoreSnapshot(checkpoint);
+        resimulate(fresh, actual);
+        assertTrue(expected.sameState(actual), "Fresh model diverged");
+    }
+
+    @Test
+    void fileRoundTripIsExact(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("level.snapshot");
+        checkpoint.write(file);
+        GameSnapshot loaded = new GameSnapshot(16);
+        loaded.read(file);
+
+        GameModel fresh = newModel();
+        fresh.restoreSnapshot(loaded);
+        resimulate(fresh, actual);
+        assertTrue(expected.sameState(actual), "Model resumed from file diverged");
+    }
+
+    @Test
+    void saveAndRestoreAllocateNothing() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(),
+                "Thread allocation measurement is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // The first pass is warm-up (JIT and one-off allocations of first calls)
+        long allocated = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            allocated = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < ALLOCATION_ROUNDS; i++) model.saveSnapshot(checkpoint);
+            for (int i = 0; i < ALLOCATION_ROUNDS; i++) model.restoreSnapshot(checkpoint);
+            allocated = threads.getCurrentThreadAllocatedBytes() - allocated;
+        }
+        assertEquals(0, allocated, "Bytes allocated by " + ALLOCATION_ROUNDS + " saves and restores");
+    }
+
+    private static GameModel newModel() {
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        return new GameModel(profile, Math.max(BALLS + 1, GameConfig.getInstance().getMaxBalls()));
+    }
+
+    private void tick(GameModel target) {
+        autoPaddle.control(target);
+        target.update(GameConfig.getInstance().getTickDuration());
+        target.getEvents().clear();
+    }
+
+    private void resimulate(GameModel target, GameSnapshot result) {
+        for (int tick = 0; tick < RESIM_TICKS; tick++) tick(target);
+        target.saveSnapshot(result);
+    }
+
+    /**
+     * Keep the requested number of balls in play
+     */
+    private static void addBalls(GameModel target, GameRandom random) {
+        GameConfig config = GameConfig.getInstance();
+        double speed = config.getBallSpeed();
+        while (target.getBalls().size() < BALLS) {
+            double x = 20 + random.nextDouble() * (config.getWindowWidth() - 40);
+            double y = config.getWindowHeight() * (0.4 + 0.2 * random.nextDouble());
+            double angle = Math.toRadians(-150 + random.nextDouble() * 120);
+            if (!target.addBall(x, y, speed * Math.cos(angle), speed * Math.sin(angle))) break;
+        }
+    }
+}
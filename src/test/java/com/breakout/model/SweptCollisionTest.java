@@ -0,0 +1,114 @@
+package com.breakout.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Swept Collision Test - Face, corner and earliest-contact cases
+ * The box is (100, 100)-(200, 120) and the ball radius 5 unless stated.
+ */
+class SweptCollisionTest {
+    private static final double R = 5;
+    private static final double EPS = 1e-9;
+
+    private final Contact contact = new Contact();
+
+    @BeforeEach
+    void resetContact() {
+        contact.reset(1);
+    }
+
+    @Test
+    void hitsLeftFace() {
+        assertTrue(sweep(50, 110, 100, 0));
+        assertContact(0.45, -1, 0);
+    }
+
+    @Test
+    void hitsRightFace() {
+        assertTrue(sweep(250, 105, -100, 0));
+        assertContact(0.45, 1, 0);
+    }
+
+    @Test
+    void hitsTopFace() {
+        assertTrue(sweep(150, 50, 0, 100));
+        assertContact(0.45, 0, -1);
+    }
+
+    @Test
+    void hitsBottomFaceDiagonally() {
+        // Enters the inflated bottom slab at y = 125 when x = 145 + 20 * 0.45
+        assertTrue(sweep(145, 170, 20, -100));
+        assertContact(0.45, 0, 1);
+    }
+
+    @Test
+    void fastBallDoesNotTunnelThroughThinBox() {
+        boolean hit = SweptCollision.circleVsBox(150, 50, 0, 150, R, 100, 100, 200, 102, contact);
+        assertTrue(hit);
+        assertContact(0.3, 0, -1);
+    }
+
+    @Test
+    void hitsRoundedCorner() {
+        // Straight at the top-left corner: touches when the centre is R from it
+        assertTrue(sweep(80, 80, 20, 20));
+        double t = (20 - R / Math.sqrt(2)) / 20;
+        assertContact(t, -1 / Math.sqrt(2), -1 / Math.sqrt(2));
+    }
+
+    @Test
+    void missesRoundedCornerInsideInflatedSquare() {
+        // Crosses the square corner of the inflated box but passes 5.66 px from the corner
+        assertFalse(sweep(107, 85, -22, 22));
+        assertEquals(1, contact.time);
+    }
+
+    @Test
+    void ignoresContactBeyondTheSegment() {
+        assertFalse(sweep(50, 110, 40, 0));   // Would reach the face at t = 1.125
+    }
+
+    @Test
+    void ignoresBoxBehindTheBall() {
+        assertFalse(sweep(50, 110, -100, 0));
+    }
+
+    @Test
+    void earliestContactWins() {
+        assertTrue(SweptCollision.circleVsBox(0, 110, 100, 0, R, 75, 100, 90, 120, contact));
+        assertContact(0.7, -1, 0);
+
+        // Nearer box: replaces the contact
+        assertTrue(SweptCollision.circleVsBox(0, 110, 100, 0, R, 35, 100, 50, 120, contact));
+        assertContact(0.3, -1, 0);
+
+        // Later box: rejected, contact unchanged
+        assertFalse(SweptCollision.circleVsBox(0, 110, 100, 0, R, 55, 100, 70, 120, contact));
+        assertContact(0.3, -1, 0);
+    }
+
+    @Test
+    void overlappingBallHitsImmediatelyOnlyWhenMovingInwards() {
+        assertTrue(sweep(150, 97, 0, 10));
+        assertContact(0, 0, -1);
+
+        contact.reset(1);
+        assertFalse(sweep(150, 97, 0, -10));
+    }
+
+    private boolean sweep(double x, double y, double mx, double my) {
+        return SweptCollision.circleVsBox(x, y, mx, my, R, 100, 100, 200, 120, contact);
+    }
+
+    private void assertContact(double time, double normalX, double normalY) {
+        assertEquals(time, contact.time, EPS, "time");
+        assertEquals(normalX, contact.normalX, EPS, "normal x");
+        assertEquals(normalY, contact.normalY, EPS, "normal y");
+    }
+}
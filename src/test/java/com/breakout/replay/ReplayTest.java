@@ -0,0 +1,148 @@
+package com.breakout.replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.breakout.config.GameConfig;
+import com.breakout.headless.AutoPaddle;
+import com.breakout.model.GameModel;
+import com.breakout.model.GameState;
+import com.breakout.model.PlayerInput;
+import com.breakout.model.PlayerProfile;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Replay Test - Run-length recording, varint encoding and playback
+ */
+class ReplayTest {
+    private static final int ALL_INPUTS = PlayerInput.LEFT | PlayerInput.RIGHT
+            | PlayerInput.LAUNCH | PlayerInput.PAUSE | PlayerInput.STORM;
+
+    @Test
+    void identicalInputsAreMergedIntoRuns() {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.begin(2, 99);
+        record(recorder, PlayerInput.NONE, 3);
+        record(recorder, PlayerInput.LEFT, 120);
+        record(recorder, PlayerInput.LEFT | PlayerInput.LAUNCH, 1);
+        record(recorder, PlayerInput.NONE, 5);
+        Replay replay = recorder.finish(newModel());
+
+        assertEquals(4, replay.getRunCount());
+        assertEquals(129, replay.getTicks());
+        assertEquals(PlayerInput.LEFT, replay.getInput(1));
+        assertEquals(120, replay.getRunLength(1));
+        assertEquals(PlayerInput.LEFT | PlayerInput.LAUNCH, replay.getInput(2));
+        assertEquals(1, replay.getRunLength(2));
+    }
+
+    @Test
+    void encodeDecodeRoundTrip() throws IOException {
+        int[] runs = {
+                Replay.packRun(PlayerInput.NONE, 1),
+                Replay.packRun(ALL_INPUTS, 127),
+                Replay.packRun(PlayerInput.STORM, 128),
+                Replay.packRun(PlayerInput.RIGHT, Replay.MAX_RUN_LENGTH),
+        };
+        Replay original = new Replay(120, 7, -1234567890123456789L, runs, runs.length,
+                98_765, 2, GameState.LEVEL_COMPLETE);
+        Replay decoded = Replay.decode(original.encode());
+
+        assertEquals(120, decoded.getSimulationRate());
+        assertEquals(7, decoded.getLevel());
+        assertEquals(-1234567890123456789L, decoded.getSeed());
+        assertEquals(original.getTicks(), decoded.getTicks());
+        assertEquals(98_765, decoded.getFinalScore());
+        assertEquals(2, decoded.getFinalLives());
+        assertEquals(GameState.LEVEL_COMPLETE, decoded.getFinalState());
+        assertEquals(runs.length, decoded.getRunCount());
+        for (int run = 0; run < runs.length; run++) {
+            assertEquals(original.getInput(run), decoded.getInput(run));
+            assertEquals(original.getRunLength(run), decoded.getRunLength(run));
+        }
+        assertEquals(ALL_INPUTS, decoded.getInput(1));
+        assertArrayEquals(original.encode(), decoded.encode());
+    }
+
+    @Test
+    void heldKeyCostsTwoBytesPerSecond() {
+        // (120 << BITS) | mask needs two 7-bit varint groups, a single tick needs one
+        int oneTick = encodedSize(Replay.packRun(PlayerInput.LEFT, 1));
+        int oneSecond = encodedSize(Replay.packRun(PlayerInput.LEFT, 120));
+        assertEquals(1, oneSecond - oneTick);
+    }
+
+    @Test
+    void overlongRunsAreSplit() {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.begin(1, 1);
+        record(recorder, PlayerInput.RIGHT, Replay.MAX_RUN_LENGTH + 2);
+        Replay replay = recorder.finish(newModel());
+
+        assertEquals(2, replay.getRunCount());
+        assertEquals(Replay.MAX_RUN_LENGTH, replay.getRunLength(0));
+        assertEquals(2, replay.getRunLength(1));
+        assertEquals(PlayerInput.RIGHT, replay.getInput(1));
+    }
+
+    @Test
+    void invalidDataIsRejected() {
+        byte[] valid = new Replay(120, 1, 5, new int[]{Replay.packRun(PlayerInput.LEFT, 10)}, 1,
+                0, 3, GameState.PLAYING).encode();
+
+        byte[] badMagic = valid.clone();
+        badMagic[0] = 'X';
+        assertThrows(IOException.class, () -> Replay.decode(badMagic));
+
+        byte[] badVersion = valid.clone();
+        badVersion[4] = 99;
+        assertThrows(IOException.class, () -> Replay.decode(badVersion));
+
+        for (int length = 0; length < valid.length; length++) {
+            byte[] truncated = Arrays.copyOf(valid, length);
+            assertThrows(IOException.class, () -> Replay.decode(truncated), "prefix of " + length + " bytes");
+        }
+    }
+
+    @Test
+    void playbackReproducesTheRecordedSession() throws IOException {
+        GameModel model = newModel();
+        model.setSeed(42);
+        model.startLevel(3);
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.begin(model.getLevel(), model.getLevelSeed());
+        AutoPaddle autoPaddle = new AutoPaddle();
+        double step = GameConfig.getInstance().getTickDuration();
+        for (int tick = 0; tick < 20_000 && model.getState() == GameState.PLAYING; tick++) {
+            int input = autoPaddle.decide(model);
+            if (tick == 600) input |= PlayerInput.STORM;
+            model.applyInput(input);
+            recorder.record(input);
+            model.update(step);
+            model.getEvents().clear();
+        }
+        Replay replay = Replay.decode(recorder.finish(model).encode());
+
+        ReplayPlayer player = new ReplayPlayer(newModel());
+        player.play(replay);
+        assertTrue(player.matches(replay), "Playback ended differently from the recording");
+    }
+
+    private static void record(ReplayRecorder recorder, int input, int ticks) {
+        for (int i = 0; i < ticks; i++) recorder.record(input);
+    }
+
+    private static int encodedSize(int run) {
+        return new Replay(120, 1, 0, new int[]{run}, 1, 0, 0, GameState.PLAYING).encode().length;
+    }
+
+    private static GameModel newModel() {
+        PlayerProfile profile = PlayerProfile.offline();
+        profile.unlockAllLevels();
+        return new GameModel(profile);
+    }
+}
@@ -0,0 +1,72 @@
+package com.breakout.model;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector Ball Kernel - BallStore loops with the Vector API
+ * Only compiled with the vector profile (mvn -Pvector) and only used when
+ * the JVM runs with --add-modules jdk.incubator.vector; BallStore falls
+ * back to its scalar loops otherwise.
+ *
+ * Results are bit-identical to the scalar kernel (no fused multiply-add),
+ * so simulations and replays do not depend on which kernel ran.
+ */
+final class VectorBallKernel implements BallStore.Kernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void move(BallStore b, double step) {
+        double[] x = b.x, y = b.y, dx = b.dx, dy = b.dy;
+        int n = b.size;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, dx, i).mul(step).add(DoubleVector.fromArray(SPECIES, x, i))
+                    .intoArray(x, i);
+            DoubleVector.fromArray(SPECIES, dy, i).mul(step).add(DoubleVector.fromArray(SPECIES, y, i))
+                    .intoArray(y, i);
+        }
+        for (; i < n; i++) {
+            x[i] += dx[i] * step;
+            y[i] += dy[i] * step;
+        }
+    }
+
+    @Override
+    public void reflectWalls(BallStore b, double width) {
+        double[] x = b.x, y = b.y, dx = b.dx, dy = b.dy, radius = b.radius;
+        int n = b.size;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, i);
+            DoubleVector right = r.neg().add(width);
+
+            DoubleVector px = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, dx, i);
+            DoubleVector speedX = vx.abs();
+            VectorMask<Double> hitLeft = px.compare(VectorOperators.LE, r);
+            VectorMask<Double> hitRight = px.compare(VectorOperators.GE, right);
+            vx.blend(speedX.neg(), hitRight).blend(speedX, hitLeft).intoArray(dx, i);
+            px.max(r).min(right).intoArray(x, i);
+
+            DoubleVector py = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, dy, i);
+            vy.blend(vy.abs(), py.compare(VectorOperators.LE, r)).intoArray(dy, i);
+            py.max(r).intoArray(y, i);
+        }
+        for (; i < n; i++) {
+            double r = radius[i];
+            double px = x[i];
+            double vx = dx[i];
+            double left = r, right = width - r;
+            dx[i] = px <= left ? Math.abs(vx) : px >= right ? -Math.abs(vx) : vx;
+            x[i] = Math.min(Math.max(px, left), right);
+
+            double py = y[i];
+            dy[i] = py <= r ? Math.abs(dy[i]) : dy[i];
+            y[i] = Math.max(py, r);
+        }
+    }
+}